@@ -0,0 +1,60 @@
+package store.myproject.onlineshop.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import store.myproject.onlineshop.dto.cache.CacheWarmUpResponse;
+import store.myproject.onlineshop.dto.cache.HotKeyResponse;
+import store.myproject.onlineshop.dto.common.Response;
+import store.myproject.onlineshop.global.cache.CacheMetrics;
+import store.myproject.onlineshop.service.CacheWarmUpService;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/caches")
+@Tag(name = "Cache", description = "캐시 관리 API")
+public class CacheController {
+
+    private final CacheWarmUpService cacheWarmUpService;
+    private final CacheMetrics cacheMetrics;
+
+    @Operation(
+            summary = "캐시 워밍업",
+            description = "조회수/좋아요 상위 레시피와 인기 상품 상세를 캐시에 미리 적재합니다. (Redis 장애 복구 후 등)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "워밍업 완료"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "409", description = "워밍업이 이미 진행 중")
+    })
+    @PostMapping("/warm-up")
+    public ResponseEntity<Response<CacheWarmUpResponse>> warmUp() {
+        CacheWarmUpResponse response = cacheWarmUpService.warmUp();
+        return ResponseEntity.ok(Response.success(response));
+    }
+
+    @Operation(
+            summary = "핫 키 조회",
+            description = "최근 접근이 많은 캐시 키를 추정 접근 횟수 내림차순으로 조회합니다. (주기적으로 절반씩 감쇠)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/hot-keys")
+    public ResponseEntity<Response<List<HotKeyResponse>>> getHotKeys(
+            @Parameter(description = "조회할 키 수", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        List<HotKeyResponse> hotKeys = cacheMetrics.hotKeys(size).stream()
+                .map(HotKeyResponse::of)
+                .toList();
+        return ResponseEntity.ok(Response.success(hotKeys));
+    }
+}
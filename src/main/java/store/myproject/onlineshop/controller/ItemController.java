@@ -11,16 +11,19 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import store.myproject.onlineshop.dto.common.MessageResponse;
 import store.myproject.onlineshop.dto.common.Response;
 import store.myproject.onlineshop.dto.item.*;
-import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
+import store.myproject.onlineshop.dto.recipe.ItemRecipeCursorResponse;
+import store.myproject.onlineshop.global.utils.ViewerUtils;
 import store.myproject.onlineshop.service.ItemService;
 import store.myproject.onlineshop.service.RecipeService;
 
@@ -38,16 +41,24 @@ public class ItemController {
     private final ItemService itemService;
     private final RecipeService recipeService;
 
+    @Value("${cache.passthrough.enabled:false}")
+    private boolean passthroughEnabled;
+
     @Operation(summary = "상품 단건 조회", description = "UUID를 기준으로 상품 정보를 조회합니다.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ItemDto.class))),
             @ApiResponse(responseCode = "404", description = "해당 상품 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Response.class)))
     })
     @GetMapping("/{itemUuid}")
-    public ResponseEntity<Response<ItemDto>> findItem(
+    public ResponseEntity<?> findItem(
             @Parameter(description = "조회할 상품 UUID", example = "cffb8f4d-2be3-11f0-bff7-453261748c60")
             @PathVariable UUID itemUuid
     ) {
+        if (passthroughEnabled) {
+            // 캐시된 응답 본문(JSON 바이트)을 그대로 응답
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(itemService.getItemBody(itemUuid));
+        }
+
         ItemDto response = itemService.getItem(itemUuid);
         return ResponseEntity.ok(Response.success(response));
     }
@@ -122,19 +133,24 @@ public class ItemController {
 
     @Operation(
             summary = "해당 상품 사용하는 레시피 목록 조회",
-            description = "해당 상품을 사용하는 레시피 목록을 조회합니다."
+            description = "해당 상품을 사용하는 레시피 목록을 최신순 커서 기반 페이징으로 조회합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "레시피 목록 조회 성공"),
-            @ApiResponse(responseCode = "404", description = "레시피를 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "상품 또는 커서 레시피를 찾을 수 없음")
     })
     @GetMapping("/{itemUuid}/recipes")
-    public ResponseEntity<Response<Page<SimpleRecipeDto>>> findRecipesByItem(
+    public ResponseEntity<Response<ItemRecipeCursorResponse>> findRecipesByItem(
             @Parameter(name = "itemUuid", description = "조회할 상품 UUID", example = "cffb8f4d-2be3-11f0-bff7-453261748c60", required = true)
             @PathVariable UUID itemUuid,
-            @ParameterObject Pageable pageable
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextUuid)")
+            @RequestParam(required = false) UUID cursor,
+            @Parameter(description = "페이지 사이즈 (최대 50)")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) Authentication authentication
     ) {
-        Page<SimpleRecipeDto> response = recipeService.getRecipesByItem(itemUuid, pageable);
+        String email = ViewerUtils.getEmailOrNull(authentication);
+        ItemRecipeCursorResponse response = recipeService.getRecipesByItem(itemUuid, cursor, size, email);
         return ResponseEntity.ok(Response.success(response));
     }
 }
@@ -2,10 +2,15 @@ package store.myproject.onlineshop.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -18,6 +23,7 @@ import store.myproject.onlineshop.dto.common.MessageResponse;
 import store.myproject.onlineshop.dto.common.Response;
 import store.myproject.onlineshop.dto.recipe.*;
 import store.myproject.onlineshop.dto.recipemeta.RecipeMetaDto;
+import store.myproject.onlineshop.global.utils.ViewerUtils;
 import store.myproject.onlineshop.service.RecipeService;
 
 import java.net.URI;
@@ -32,13 +38,29 @@ public class RecipeController {
 
     private final RecipeService recipeService;
 
+    @Value("${cache.passthrough.enabled:false}")
+    private boolean passthroughEnabled;
+
     @Operation(summary = "레시피 단건 조회", description = "특정 레시피의 상세 정보를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = RecipeDto.class)))
     @GetMapping("/{recipeUuid}")
-    public ResponseEntity<Response<RecipeDto>> viewOneRecipe(
+    public ResponseEntity<?> viewOneRecipe(
             @Parameter(description = "조회할 레시피 UUID", required = true)
-            @PathVariable UUID recipeUuid) {
+            @PathVariable UUID recipeUuid,
+            @Parameter(hidden = true) Authentication authentication,
+            HttpServletRequest request) {
+        String viewerId = ViewerUtils.getViewerId(authentication, request);
+
+        if (passthroughEnabled) {
+            // 캐시된 응답 본문(JSON 바이트)을 그대로 응답
+            byte[] body = recipeService.getRecipeDetailBody(recipeUuid);
+            recipeService.increaseRecipeViewCount(recipeUuid, viewerId);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
         RecipeDto recipeDetail = recipeService.getRecipeDetail(recipeUuid);
-        recipeService.increaseRecipeViewCount(recipeUuid);
+        recipeService.increaseRecipeViewCount(recipeUuid, recipeDetail.getRecipeMetaId(), viewerId);
         return ResponseEntity.ok(Response.success(recipeDetail));
     }
 
@@ -52,8 +74,25 @@ public class RecipeController {
 
     @Operation(summary = "레시피 목록 조회", description = "커서 기반 페이징 방식으로 레시피 목록을 조회합니다.")
     @GetMapping
-    public ResponseEntity<Response<RecipeCursorResponse>> viewAllRecipes(@ParameterObject RecipeListCond cond) {
-        return ResponseEntity.ok(Response.success(recipeService.getRecipes(cond)));
+    public ResponseEntity<Response<RecipeCursorResponse>> viewAllRecipes(
+            @ParameterObject RecipeListCond cond,
+            @Parameter(hidden = true) Authentication authentication) {
+        String email = ViewerUtils.getEmailOrNull(authentication);
+        return ResponseEntity.ok(Response.success(recipeService.getRecipes(cond, email)));
+    }
+
+    @Operation(summary = "레시피 랭킹 조회", description = "일간/주간/누적 지표별 랭킹 또는 시간 감쇠 트렌딩 랭킹을 조회합니다.")
+    @GetMapping("/rankings")
+    public ResponseEntity<Response<RecipeRankingResponse>> viewRecipeRankings(
+            @Parameter(description = "랭킹 기간 (DAILY, WEEKLY, ALL_TIME, TRENDING)")
+            @RequestParam(defaultValue = "TRENDING") RecipeRankingPeriod period,
+            @Parameter(description = "랭킹 지표 (VIEW, LIKE, REVIEW), TRENDING 에서는 무시")
+            @RequestParam(defaultValue = "VIEW") RecipeRankingMetric metric,
+            @Parameter(description = "다음 페이지 커서")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 사이즈 (최대 50)")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(Response.success(recipeService.getRecipeRankings(period, metric, cursor, size)));
     }
 
     @Operation(summary = "레시피 생성", description = "새로운 레시피를 작성합니다.")
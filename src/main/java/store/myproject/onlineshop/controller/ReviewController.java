@@ -5,18 +5,13 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import store.myproject.onlineshop.dto.common.MessageResponse;
 import store.myproject.onlineshop.dto.common.Response;
-import store.myproject.onlineshop.dto.review.ChildReviewResponse;
-import store.myproject.onlineshop.dto.review.ReviewResponse;
+import store.myproject.onlineshop.dto.review.ChildReviewCursorResponse;
+import store.myproject.onlineshop.dto.review.ReviewCursorResponse;
 import store.myproject.onlineshop.dto.review.ReviewUpdateRequest;
 import store.myproject.onlineshop.dto.review.ReviewWriteRequest;
 import store.myproject.onlineshop.service.RecipeService;
@@ -33,26 +28,32 @@ public class ReviewController {
 
     private final RecipeService recipeService;
 
-    @Operation(summary = "댓글 조회", description = "특정 레시피에 대한 댓글 목록을 조회합니다.")
+    @Operation(summary = "댓글 조회", description = "특정 레시피에 대한 댓글 목록을 작성순 커서 방식으로 조회합니다.")
     @GetMapping("/{recipeUuid}/reviews")
-    public ResponseEntity<Response<Page<ReviewResponse>>> getReview(
+    public ResponseEntity<Response<ReviewCursorResponse>> getReview(
             @Parameter(description = "조회할 레시피 UUID", required = true)
             @PathVariable UUID recipeUuid,
-            @ParameterObject @PageableDefault(sort = "createdDate", direction = Sort.Direction.ASC) Pageable pageable) {
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextUuid)")
+            @RequestParam(required = false) UUID cursor,
+            @Parameter(description = "페이지 사이즈 (최대 50)")
+            @RequestParam(defaultValue = "10") int size) {
 
-        return ResponseEntity.ok(Response.success(recipeService.getRecipeReviews(recipeUuid, pageable)));
+        return ResponseEntity.ok(Response.success(recipeService.getRecipeReviews(recipeUuid, cursor, size)));
     }
 
-    @Operation(summary = "대댓글 더보기", description = "특정 댓글에 대한 대댓글 목록을 조회합니다.")
+    @Operation(summary = "대댓글 더보기", description = "특정 댓글에 대한 대댓글 목록을 작성순 커서 방식으로 조회합니다.")
     @GetMapping("/{recipeUuid}/reviews/{reviewUuid}/replies")
-    public ResponseEntity<Response<Page<ChildReviewResponse>>> getChildReviews(
+    public ResponseEntity<Response<ChildReviewCursorResponse>> getChildReviews(
             @Parameter(description = "조회할 레시피 UUID", required = true)
             @PathVariable UUID recipeUuid,
             @Parameter(description = "조회할 댓글 UUID", required = true)
             @PathVariable UUID reviewUuid,
-            @ParameterObject @PageableDefault(sort = "createdDate", direction = Sort.Direction.ASC) Pageable pageable) {
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextUuid)")
+            @RequestParam(required = false) UUID cursor,
+            @Parameter(description = "페이지 사이즈 (최대 50)")
+            @RequestParam(defaultValue = "10") int size) {
 
-        return ResponseEntity.ok(Response.success(recipeService.getChildReviews(recipeUuid, reviewUuid, pageable)));
+        return ResponseEntity.ok(Response.success(recipeService.getChildReviews(recipeUuid, reviewUuid, cursor, size)));
     }
 
     @Operation(summary = "댓글 작성", description = "특정 레시피에 대한 댓글을 작성합니다.")
@@ -65,7 +66,6 @@ public class ReviewController {
 
         String email = authentication.getName();
         MessageResponse response = recipeService.createReview(email, recipeUuid, request);
-        recipeService.increaseReviewCount(recipeUuid);
 
         // 가정: 생성된 리뷰 UUID를 응답에 담고 있음
         String createdReviewUuid = response.getUuid().toString();
@@ -102,7 +102,6 @@ public class ReviewController {
 
         String email = authentication.getName();
         MessageResponse response = recipeService.deleteReview(email, recipeUuid, reviewUuid);
-        recipeService.decreaseReviewCount(recipeUuid);
 
         return ResponseEntity.noContent().build();
     }
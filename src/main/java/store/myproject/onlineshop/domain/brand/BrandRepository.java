@@ -1,7 +1,12 @@
 package store.myproject.onlineshop.domain.brand;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.myproject.onlineshop.dto.cache.UuidRef;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +17,7 @@ public interface BrandRepository extends JpaRepository<Brand, Long>, BrandCustom
     Optional<Brand> findBrandByBrandName(String brandName);
 
     Optional<Brand> findByUuid(UUID uuid);
+
+    @Query("SELECT new store.myproject.onlineshop.dto.cache.UuidRef(b.id, b.uuid) FROM Brand b WHERE b.id > :afterId ORDER BY b.id")
+    List<UuidRef> findUuidRefsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
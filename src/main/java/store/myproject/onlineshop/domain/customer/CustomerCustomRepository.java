@@ -0,0 +1,9 @@
+package store.myproject.onlineshop.domain.customer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public interface CustomerCustomRepository {
+
+    int addMonthlyPurchaseAmounts(Map<Long, BigDecimal> deltas);
+}
@@ -12,10 +12,13 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerCustomRepository {
 
     Optional<Customer> findByEmail(String email);
 
+    @Query("SELECT c.id FROM Customer c WHERE c.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
     Optional<Customer> findByEmailAndTel(String email, String tel);
 
     Optional<Customer> findByNickName(String nickName);
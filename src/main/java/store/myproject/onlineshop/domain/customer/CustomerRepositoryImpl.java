@@ -0,0 +1,21 @@
+package store.myproject.onlineshop.domain.customer;
+
+import lombok.RequiredArgsConstructor;
+import store.myproject.onlineshop.mapper.CustomerMapper;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CustomerRepositoryImpl implements CustomerCustomRepository {
+
+    private final CustomerMapper customerMapper;
+
+    @Override
+    public int addMonthlyPurchaseAmounts(Map<Long, BigDecimal> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        return customerMapper.addMonthlyPurchaseAmounts(deltas);
+    }
+}
@@ -0,0 +1,12 @@
+package store.myproject.onlineshop.domain.faillog;
+
+import store.myproject.onlineshop.dto.faillog.FailedJob;
+
+import java.util.List;
+
+public interface AsyncFailureLogCustomRepository {
+
+    List<FailedJob> claimFailedJobs(int limit);
+
+    int markResolved(List<Long> ids);
+}
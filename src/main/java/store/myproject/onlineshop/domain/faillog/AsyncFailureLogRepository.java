@@ -2,5 +2,7 @@ package store.myproject.onlineshop.domain.faillog;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface AsyncFailureLogRepository extends JpaRepository<AsyncFailureLog, Long> {
+public interface AsyncFailureLogRepository extends JpaRepository<AsyncFailureLog, Long>, AsyncFailureLogCustomRepository {
+
+    long countByFailureStatus(FailureStatus failureStatus);
 }
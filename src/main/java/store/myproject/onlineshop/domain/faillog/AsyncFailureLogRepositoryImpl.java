@@ -0,0 +1,26 @@
+package store.myproject.onlineshop.domain.faillog;
+
+import lombok.RequiredArgsConstructor;
+import store.myproject.onlineshop.dto.faillog.FailedJob;
+import store.myproject.onlineshop.mapper.AsyncFailureLogMapper;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class AsyncFailureLogRepositoryImpl implements AsyncFailureLogCustomRepository {
+
+    private final AsyncFailureLogMapper asyncFailureLogMapper;
+
+    @Override
+    public List<FailedJob> claimFailedJobs(int limit) {
+        return asyncFailureLogMapper.claimFailedJobs(limit);
+    }
+
+    @Override
+    public int markResolved(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return asyncFailureLogMapper.markResolved(ids);
+    }
+}
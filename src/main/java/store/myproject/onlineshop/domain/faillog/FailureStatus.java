@@ -3,5 +3,6 @@ package store.myproject.onlineshop.domain.faillog;
 public enum FailureStatus {
     PENDING,
     SUCCESS,
-    FAILED
+    FAILED,
+    RESOLVED
 }
\ No newline at end of file
@@ -5,6 +5,11 @@ import org.springframework.data.domain.Pageable;
 import store.myproject.onlineshop.dto.item.ItemSearchCond;
 import store.myproject.onlineshop.dto.item.SimpleItemDto;
 
+import java.util.List;
+import java.util.UUID;
+
 public interface ItemCustomRepository {
     Page<SimpleItemDto> searchItem(ItemSearchCond itemSearchCond, Pageable pageable);
+
+    List<UUID> findPopularItemUuids(int limit);
 }
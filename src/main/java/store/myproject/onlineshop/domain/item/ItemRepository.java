@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import store.myproject.onlineshop.dto.cache.UuidRef;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +23,9 @@ public interface ItemRepository extends JpaRepository<Item, Long>, ItemCustomRep
     @Query("SELECT i.id FROM Item i WHERE i.uuid = :uuid")
     Optional<Long> findIdByUuid(@Param("uuid") UUID uuid);
 
+    @Query("SELECT new store.myproject.onlineshop.dto.cache.UuidRef(i.id, i.uuid) FROM Item i WHERE i.id > :afterId ORDER BY i.id")
+    List<UuidRef> findUuidRefsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     @Lock(LockModeType.PESSIMISTIC_READ)
     Optional<Item> findPessimisticLockById(Long itemId);
 
@@ -11,6 +11,7 @@ import store.myproject.onlineshop.dto.item.SimpleItemDto;
 import store.myproject.onlineshop.mapper.ItemMapper;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,4 +37,9 @@ public class ItemRepositoryImpl implements ItemCustomRepository {
 
         return new PageImpl<>(simpleItemDtos, pageable, total);
     }
+
+    @Override
+    public List<UUID> findPopularItemUuids(int limit) {
+        return itemMapper.findPopularItemUuids(limit);
+    }
 }
@@ -0,0 +1,12 @@
+package store.myproject.onlineshop.domain.like;
+
+import store.myproject.onlineshop.dto.like.LikeChange;
+
+import java.util.List;
+
+public interface LikeCustomRepository {
+
+    int insertLikes(List<LikeChange> changes);
+
+    int deleteLikes(List<LikeChange> changes);
+}
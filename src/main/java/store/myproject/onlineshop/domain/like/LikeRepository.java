@@ -6,12 +6,14 @@ import org.springframework.data.repository.query.Param;
 import store.myproject.onlineshop.domain.customer.Customer;
 import store.myproject.onlineshop.domain.recipe.Recipe;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
-public interface LikeRepository extends JpaRepository<Like, Long> {
+public interface LikeRepository extends JpaRepository<Like, Long>, LikeCustomRepository {
 
     /**
      * 특정 레시피와 사용자에 대한 좋아요를 조회하는 메서드입니다.
@@ -30,6 +32,12 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
      */
     Long countByRecipe(Recipe recipe);
 
+    @Query("SELECT l.customer.id FROM Like l WHERE l.recipe.id = :recipeId")
+    List<Long> findCustomerIdsByRecipeId(@Param("recipeId") Long recipeId);
+
+    @Query("SELECT l.recipe.uuid FROM Like l WHERE l.customer.id = :customerId AND l.recipe.uuid IN :recipeUuids")
+    List<UUID> findLikedRecipeUuids(@Param("customerId") Long customerId, @Param("recipeUuids") Collection<UUID> recipeUuids);
+
     @Query("SELECT l.recipe.id, count(l) FROM Like l WHERE l.recipe.id in :recipeIds GROUP BY l.recipe.id")
     List<Object[]> countByRecipeIds(@Param("recipeIds") List<Long> recipeIds);
 
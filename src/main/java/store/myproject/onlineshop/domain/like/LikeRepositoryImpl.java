@@ -0,0 +1,29 @@
+package store.myproject.onlineshop.domain.like;
+
+import lombok.RequiredArgsConstructor;
+import store.myproject.onlineshop.dto.like.LikeChange;
+import store.myproject.onlineshop.mapper.LikeMapper;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class LikeRepositoryImpl implements LikeCustomRepository {
+
+    private final LikeMapper likeMapper;
+
+    @Override
+    public int insertLikes(List<LikeChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        return likeMapper.insertLikes(changes);
+    }
+
+    @Override
+    public int deleteLikes(List<LikeChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        return likeMapper.deleteLikes(changes);
+    }
+}
@@ -69,12 +69,12 @@ public class Recipe extends BaseEntity {
     @JoinColumn(name = "recipe_meta_id")
     private RecipeMeta recipeMeta;
 
-    // 댓글
+    // 댓글 (댓글 작성/삭제는 Review 의 recipe 만 설정해 저장하며 이 컬렉션을 초기화하지 않습니다)
     @Builder.Default
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Review> reviewList = new ArrayList<>();
 
-    // 좋아요
+    // 좋아요 (좋아요 토글은 Like 의 recipe 만 설정해 저장하며 이 컬렉션을 초기화하지 않습니다)
     @Builder.Default
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Like> likeList = new ArrayList<>();
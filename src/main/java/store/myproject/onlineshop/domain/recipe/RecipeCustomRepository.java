@@ -1,8 +1,7 @@
 package store.myproject.onlineshop.domain.recipe;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import store.myproject.onlineshop.dto.recipe.RecipeDto;
+import store.myproject.onlineshop.dto.recipe.RecipeItemRef;
 import store.myproject.onlineshop.dto.recipe.RecipeListCond;
 import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
 
@@ -12,11 +11,30 @@ import java.util.UUID;
 
 public interface RecipeCustomRepository {
 
-    Optional<RecipeDto> findRecipeDtoByUuid(UUID recipeUuid);
+    Optional<RecipeDto> findRecipeDetailByUuid(UUID recipeUuid);
 
     List<SimpleRecipeDto> findRecipeList(RecipeListCond cond);
 
-    Page<SimpleRecipeDto> findRecipeUseItem(Long itemId, Pageable pageable);
+    /**
+     * 상품을 사용하는 레시피 ID 를 최신순으로 beforeRecipeId 미만에서 최대 limit 개
+     */
+    List<Long> findRecipeIdsUseItem(Long itemId, Long beforeRecipeId, int limit);
+
+    long countRecipeUseItem(Long itemId);
+
+    /**
+     * 삭제된 레시피를 포함해 UUID 로 레시피 ID 를 찾습니다. (커서 변환용)
+     */
+    Optional<Long> findIdByUuidWithDeleted(UUID recipeUuid);
+
+    /**
+     * 삭제된 레시피를 포함해 레시피 ID 로 UUID 를 찾습니다. (커서 변환용)
+     */
+    Optional<UUID> findUuidByIdWithDeleted(Long recipeId);
+
+    List<RecipeItemRef> findRecipeItemRefsAfter(Long afterId, int limit);
+
+    List<UUID> findPopularRecipeUuids(int limit);
 
 //    List<SimpleRecipeDto> findRecipeVer3(RecipeCond cond);
 }
@@ -0,0 +1,74 @@
+package store.myproject.onlineshop.domain.recipe;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import store.myproject.onlineshop.dto.recipe.RecipeListCond;
+import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
+import store.myproject.onlineshop.mapper.RecipeListViewMapper;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 레시피 목록 읽기 모델(recipe_list_view) 저장소
+ * - 레시피 등록/수정/삭제, 카운터 반영, 작성자 닉네임 변경 시 원본 테이블에서 해당 행을 다시 옮겨 적습니다.
+ * - recipe.list-view.enabled=false 면 갱신하지 않고, read-enabled=true 일 때만 목록 조회에 사용합니다.
+ *   (켜기 전 기존 데이터는 backfill-on-startup 으로 채운 뒤 읽기를 켭니다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipeListViewRepository {
+
+    private final RecipeListViewMapper recipeListViewMapper;
+
+    @Value("${recipe.list-view.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipe.list-view.read-enabled:false}")
+    private boolean readEnabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReadEnabled() {
+        return enabled && readEnabled;
+    }
+
+    public List<SimpleRecipeDto> findRecipeList(RecipeListCond cond) {
+        return recipeListViewMapper.findRecipeList(cond);
+    }
+
+    /**
+     * 레시피 행을 원본 기준으로 다시 만들고, 삭제된 레시피의 행은 지웁니다.
+     */
+    public void refresh(Collection<Long> recipeIds) {
+        if (!enabled || recipeIds.isEmpty()) {
+            return;
+        }
+        recipeListViewMapper.upsertByRecipeIds(recipeIds);
+        recipeListViewMapper.deleteRemovedByRecipeIds(recipeIds);
+    }
+
+    public void syncCounts(Collection<Long> recipeMetaIds) {
+        if (!enabled || recipeMetaIds.isEmpty()) {
+            return;
+        }
+        recipeListViewMapper.syncCounts(recipeMetaIds);
+    }
+
+    public void updateWriterNickName(Long customerId, String nickName) {
+        if (!enabled) {
+            return;
+        }
+        recipeListViewMapper.updateWriterNickName(customerId, nickName);
+    }
+
+    /**
+     * afterId 다음부터 recipe_id 순으로 최대 limit 개 (채우기용)
+     */
+    public List<Long> findRecipeIdsAfter(Long afterId, int limit) {
+        return recipeListViewMapper.findRecipeIdsAfter(afterId, limit);
+    }
+}
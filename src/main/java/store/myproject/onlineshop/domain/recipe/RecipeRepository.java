@@ -6,8 +6,11 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import store.myproject.onlineshop.dto.cache.UuidRef;
 import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,6 +24,53 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, RecipeCus
 
     Optional<Recipe> findByUuid(UUID uuid);
 
+    @Query("SELECT r.id FROM Recipe r WHERE r.uuid = :uuid")
+    Optional<Long> findIdByUuid(@Param("uuid") UUID uuid);
+
+    @Query("SELECT new store.myproject.onlineshop.dto.cache.UuidRef(r.id, r.uuid) FROM Recipe r WHERE r.id > :afterId ORDER BY r.id")
+    List<UuidRef> findUuidRefsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            SELECT new store.myproject.onlineshop.dto.recipe.SimpleRecipeDto(
+                r.uuid,
+                r.recipeTitle,
+                r.recipeDescription,
+                r.thumbnailUrl,
+                c.nickName,
+                r.recipeCookingTime,
+                r.recipeServings,
+                rm.viewCnt,
+                rm.reviewCnt,
+                rm.likeCnt
+            )
+            FROM Recipe r
+            JOIN RecipeMeta rm ON r.recipeMeta = rm
+            JOIN Customer c ON r.customer = c
+            WHERE r.uuid IN :uuids
+            """)
+    List<SimpleRecipeDto> findSimpleRecipesByUuids(@Param("uuids") Collection<UUID> uuids);
+
+    @Query("""
+            SELECT new store.myproject.onlineshop.dto.recipe.SimpleRecipeDto(
+                r.uuid,
+                r.recipeTitle,
+                r.recipeDescription,
+                r.thumbnailUrl,
+                c.nickName,
+                r.recipeCookingTime,
+                r.recipeServings,
+                rm.viewCnt,
+                rm.reviewCnt,
+                rm.likeCnt
+            )
+            FROM Recipe r
+            JOIN RecipeMeta rm ON r.recipeMeta = rm
+            JOIN Customer c ON r.customer = c
+            WHERE r.id IN :ids
+            ORDER BY r.id DESC
+            """)
+    List<SimpleRecipeDto> findSimpleRecipesByIdsOrderByIdDesc(@Param("ids") Collection<Long> ids);
+
     @Query(value = """
             SELECT new store.myproject.onlineshop.dto.recipe.SimpleRecipeDto(
                 r.uuid,
@@ -1,10 +1,9 @@
 package store.myproject.onlineshop.domain.recipe;
 
-import com.github.pagehelper.PageHelper;
-import com.github.pagehelper.PageInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import store.myproject.onlineshop.dto.recipe.RecipeDto;
+import store.myproject.onlineshop.dto.recipe.RecipeItemRef;
 import store.myproject.onlineshop.dto.recipe.RecipeListCond;
 import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
 import store.myproject.onlineshop.mapper.RecipeMapper;
@@ -19,10 +18,11 @@ import java.util.UUID;
 public class RecipeRepositoryImpl implements RecipeCustomRepository {
 
     private final RecipeMapper recipeMapper;
+    private final RecipeListViewRepository recipeListViewRepository;
 
     @Override
-    public Optional<RecipeDto> findRecipeDtoByUuid(UUID recipeUuid) {
-        RecipeDto recipeDto = recipeMapper.findRecipeDtoByUuid(recipeUuid);
+    public Optional<RecipeDto> findRecipeDetailByUuid(UUID recipeUuid) {
+        RecipeDto recipeDto = recipeMapper.findRecipeDetailByUuid(recipeUuid);
         return Optional.ofNullable(recipeDto);
     }
 
@@ -33,19 +33,41 @@ public class RecipeRepositoryImpl implements RecipeCustomRepository {
 
         cond.setSizePlusOne(sizePlusOne);
 
+        if (recipeListViewRepository.isReadEnabled()) {
+            return recipeListViewRepository.findRecipeList(cond);
+        }
         return recipeMapper.findRecipeList(cond);
 
     }
 
     @Override
-    public Page<SimpleRecipeDto> findRecipeUseItem(Long itemId, Pageable pageable) {
-        PageHelper.startPage(pageable.getPageNumber() + 1, pageable.getPageSize());
+    public List<Long> findRecipeIdsUseItem(Long itemId, Long beforeRecipeId, int limit) {
+        return recipeMapper.findRecipeIdsUseItem(itemId, beforeRecipeId, limit);
+    }
+
+    @Override
+    public long countRecipeUseItem(Long itemId) {
+        return recipeMapper.countRecipeUseItem(itemId);
+    }
+
+    @Override
+    public Optional<Long> findIdByUuidWithDeleted(UUID recipeUuid) {
+        return Optional.ofNullable(recipeMapper.findRecipeIdByUuidWithDeleted(recipeUuid));
+    }
 
-        List<SimpleRecipeDto> content = recipeMapper.findRecipeUseItem(itemId);
+    @Override
+    public Optional<UUID> findUuidByIdWithDeleted(Long recipeId) {
+        return Optional.ofNullable(recipeMapper.findRecipeUuidByIdWithDeleted(recipeId));
+    }
 
-        PageInfo<SimpleRecipeDto> pageInfo = new PageInfo<>(content);
+    @Override
+    public List<RecipeItemRef> findRecipeItemRefsAfter(Long afterId, int limit) {
+        return recipeMapper.findRecipeItemRefsAfter(afterId, limit);
+    }
 
-        return new PageImpl<>(content, pageable, pageInfo.getTotal());
+    @Override
+    public List<UUID> findPopularRecipeUuids(int limit) {
+        return recipeMapper.findPopularRecipeUuids(limit);
     }
 
 //    @Override
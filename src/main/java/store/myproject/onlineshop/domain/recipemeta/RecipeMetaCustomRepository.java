@@ -0,0 +1,29 @@
+package store.myproject.onlineshop.domain.recipemeta;
+
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+import store.myproject.onlineshop.dto.recipemeta.RecipeMetaKey;
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface RecipeMetaCustomRepository {
+
+    int addViewCounts(Map<Long, Long> deltas);
+
+    int addCounts(List<RecipeCounterDelta> deltas);
+
+    List<RecipeMetaKey> findRecipeMetaKeys(Collection<UUID> recipeUuids);
+
+    /**
+     * recipe_id 가 afterRecipeId 보다 큰 레시피를 순서대로 limit 개 읽어 저장된 리뷰 수와 실제 댓글 수(대댓글 포함)를 비교합니다.
+     */
+    List<ReviewCountCheck> findReviewCountChecks(Long afterRecipeId, int limit);
+
+    /**
+     * 리뷰 수를 실제 댓글 수로 다시 계산합니다.
+     */
+    int fixReviewCounts(Collection<Long> recipeMetaIds);
+}
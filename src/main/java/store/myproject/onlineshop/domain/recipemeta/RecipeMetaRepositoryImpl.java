@@ -0,0 +1,77 @@
+package store.myproject.onlineshop.domain.recipemeta;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+import store.myproject.onlineshop.dto.recipemeta.RecipeMetaKey;
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+import store.myproject.onlineshop.mapper.RecipeMetaMapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RecipeMetaRepositoryImpl implements RecipeMetaCustomRepository {
+
+    private final RecipeMetaMapper recipeMetaMapper;
+    private final RecipeListViewRepository recipeListViewRepository;
+
+    @Override
+    public int addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        int updated = recipeMetaMapper.addViewCounts(deltas);
+        syncListView(deltas.keySet());
+        return updated;
+    }
+
+    @Override
+    public int addCounts(List<RecipeCounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        int updated = recipeMetaMapper.addCounts(deltas);
+        syncListView(deltas.stream().map(RecipeCounterDelta::getRecipeMetaId).toList());
+        return updated;
+    }
+
+    @Override
+    public List<RecipeMetaKey> findRecipeMetaKeys(Collection<UUID> recipeUuids) {
+        if (recipeUuids.isEmpty()) {
+            return List.of();
+        }
+        return recipeMetaMapper.findRecipeMetaKeys(recipeUuids);
+    }
+
+    @Override
+    public List<ReviewCountCheck> findReviewCountChecks(Long afterRecipeId, int limit) {
+        return recipeMetaMapper.findReviewCountChecks(afterRecipeId, limit);
+    }
+
+    @Override
+    public int fixReviewCounts(Collection<Long> recipeMetaIds) {
+        if (recipeMetaIds.isEmpty()) {
+            return 0;
+        }
+        int updated = recipeMetaMapper.fixReviewCounts(recipeMetaIds);
+        syncListView(recipeMetaIds);
+        return updated;
+    }
+
+    /**
+     * recipe_meta 는 이미 커밋되었으므로 목록 읽기 모델 갱신 실패는 호출자에게 넘기지 않습니다.
+     * (넘기면 호출자의 재시도 경로가 같은 증감분을 한 번 더 반영함, 어긋난 행은 다음 카운터 반영이나 backfill 로 맞춰짐)
+     */
+    private void syncListView(Collection<Long> recipeMetaIds) {
+        try {
+            recipeListViewRepository.syncCounts(recipeMetaIds);
+        } catch (RuntimeException e) {
+            log.warn("레시피 목록 카운터 동기화 실패: recipeMetaIds={}", recipeMetaIds, e);
+        }
+    }
+}
@@ -44,6 +44,13 @@ public class Review extends BaseEntity {
     @Column(name = "parent_id")
     private Long parentId;
 
+    // 대댓글 수 (부모 댓글에서만 증가/감소)
+    // ReviewCountBuffer 가 UPDATE 로만 바꾸므로 엔티티 INSERT/UPDATE 에서는 쓰지 않습니다. (댓글 수정 시 읽어 둔 값으로 덮어쓰지 않도록)
+    @Builder.Default
+    @Column(name = "reply_cnt", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long replyCnt = 0L;
+
     // 리뷰 내용
     @Column(name = "review_content")
     private String reviewContent;
@@ -61,19 +68,4 @@ public class Review extends BaseEntity {
     public void updateReview(ReviewUpdateRequest reviewUpdateRequest) {
         this.reviewContent = reviewUpdateRequest.getReviewContent();
     }
-
-    // 연관 관계 메서드
-    public void addReviewToRecipe(Recipe recipe) {
-        this.recipe = recipe;
-        recipe.getReviewList().add(this);  // 연관된 Recipe에도 Review를 추가
-    }
-
-    public void removeReviewToRecipe() {
-        if (recipe != null) {
-            recipe.getReviewList().remove(this);  // 연관된 Recipe에서도 Review를 제거
-            this.recipe = null;
-        }
-    }
-
-
 }
@@ -0,0 +1,46 @@
+package store.myproject.onlineshop.domain.review;
+
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+import store.myproject.onlineshop.dto.review.ReviewCursor;
+import store.myproject.onlineshop.dto.review.ReviewReplyRow;
+import store.myproject.onlineshop.dto.review.ReviewRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReviewCustomRepository {
+
+    /**
+     * 부모 댓글마다 작성순 앞쪽 limit 개의 대댓글
+     */
+    List<ReviewReplyRow> findTopReplies(Collection<Long> parentIds, int limit);
+
+    /**
+     * 삭제된 댓글을 포함해 커서 댓글의 위치를 찾습니다.
+     */
+    Optional<ReviewCursor> findCursorByUuid(UUID reviewUuid);
+
+    /**
+     * 레시피의 댓글(parentId 가 null) 또는 특정 댓글의 대댓글을 작성순으로 최대 limit 개 조회합니다.
+     * after 가 있으면 그 댓글의 (작성일, ID) 다음부터 읽습니다. (전체 개수는 세지 않음)
+     */
+    List<ReviewRow> findReviews(Long recipeId, Long parentId, ReviewCursor after, int limit);
+
+    /**
+     * 여러 부모 댓글의 대댓글 수 증감분을 한 번의 UPDATE 로 반영합니다. (key: 부모 review_id, 0 미만으로 내려가지 않음)
+     */
+    int addReplyCounts(Map<Long, Long> deltas);
+
+    /**
+     * review_id 가 afterReviewId 보다 큰 부모 댓글을 순서대로 limit 개 읽어 저장된 대댓글 수와 실제 대댓글 수를 비교합니다.
+     */
+    List<ReviewCountCheck> findReplyCountChecks(Long afterReviewId, int limit);
+
+    /**
+     * 대댓글 수를 실제 대댓글 수로 다시 계산합니다.
+     */
+    int fixReplyCounts(Collection<Long> parentIds);
+}
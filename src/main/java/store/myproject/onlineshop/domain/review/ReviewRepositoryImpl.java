@@ -0,0 +1,61 @@
+package store.myproject.onlineshop.domain.review;
+
+import lombok.RequiredArgsConstructor;
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+import store.myproject.onlineshop.dto.review.ReviewCursor;
+import store.myproject.onlineshop.dto.review.ReviewReplyRow;
+import store.myproject.onlineshop.dto.review.ReviewRow;
+import store.myproject.onlineshop.mapper.ReviewMapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewCustomRepository {
+
+    private final ReviewMapper reviewMapper;
+
+    @Override
+    public List<ReviewReplyRow> findTopReplies(Collection<Long> parentIds, int limit) {
+        if (parentIds.isEmpty()) {
+            return List.of();
+        }
+        return reviewMapper.findTopReplies(parentIds, limit);
+    }
+
+    @Override
+    public Optional<ReviewCursor> findCursorByUuid(UUID reviewUuid) {
+        return Optional.ofNullable(reviewMapper.findReviewCursor(reviewUuid));
+    }
+
+    @Override
+    public List<ReviewRow> findReviews(Long recipeId, Long parentId, ReviewCursor after, int limit) {
+        return after == null
+                ? reviewMapper.findReviews(recipeId, parentId, null, null, limit)
+                : reviewMapper.findReviews(recipeId, parentId, after.getCreatedDate(), after.getReviewId(), limit);
+    }
+
+    @Override
+    public int addReplyCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        return reviewMapper.addReplyCounts(deltas);
+    }
+
+    @Override
+    public List<ReviewCountCheck> findReplyCountChecks(Long afterReviewId, int limit) {
+        return reviewMapper.findReplyCountChecks(afterReviewId, limit);
+    }
+
+    @Override
+    public int fixReplyCounts(Collection<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return 0;
+        }
+        return reviewMapper.fixReplyCounts(parentIds);
+    }
+}
@@ -0,0 +1,30 @@
+package store.myproject.onlineshop.dto.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "캐시 워밍업 결과 DTO")
+public class CacheWarmUpResponse {
+
+    @Schema(description = "워밍업 대상 레시피 수", example = "200")
+    private int recipeCount;
+
+    @Schema(description = "워밍업 대상 상품 수", example = "200")
+    private int itemCount;
+
+    @Schema(description = "적재 성공 건수", example = "398")
+    private int loadedCount;
+
+    @Schema(description = "적재 실패 건수 (마감 시간 초과 포함)", example = "2")
+    private int failedCount;
+
+    @Schema(description = "마감 시간 초과 여부", example = "false")
+    private boolean timedOut;
+
+    @Schema(description = "소요 시간 (ms)", example = "1532")
+    private long elapsedMillis;
+}
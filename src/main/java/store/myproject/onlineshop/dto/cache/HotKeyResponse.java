@@ -0,0 +1,33 @@
+package store.myproject.onlineshop.dto.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import store.myproject.onlineshop.dto.common.KeyType;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "핫 키 DTO")
+public class HotKeyResponse {
+
+    @Schema(description = "캐시 키", example = "recipe:detail:0190a1b2-c3d4-7e5f-8a9b-0c1d2e3f4a5b")
+    private String key;
+
+    @Schema(description = "키 종류 (해당 없으면 OTHER)", example = "RECIPE_DETAIL_CACHE")
+    private String keyType;
+
+    @Schema(description = "추정 접근 횟수 (Count-Min Sketch, 과대 추정 가능)", example = "1520")
+    private long estimatedCount;
+
+    public static HotKeyResponse of(Map.Entry<String, Long> entry) {
+        KeyType keyType = KeyType.of(entry.getKey());
+        return HotKeyResponse.builder()
+                .key(entry.getKey())
+                .keyType(keyType != null ? keyType.name() : "OTHER")
+                .estimatedCount(entry.getValue())
+                .build();
+    }
+}
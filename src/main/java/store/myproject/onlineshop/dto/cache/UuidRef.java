@@ -0,0 +1,19 @@
+package store.myproject.onlineshop.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * ID 와 UUID 만 담은 참조 (존재 필터 적재용, id 는 다음 페이지를 읽을 키셋)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UuidRef {
+
+    private Long id;
+    private UUID uuid;
+}
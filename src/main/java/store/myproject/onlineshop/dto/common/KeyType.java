@@ -4,23 +4,40 @@ public enum KeyType {
 
     // Recipe
     RECIPE_DETAIL_CACHE("recipe:detail:%s"),
-
-    // Recipe Lock
-    RECIPE_DETAIL_CACHE_LOCK("recipe:detail:%s:lock"),
+    RECIPE_DETAIL_BODY_CACHE("recipe:detail:body:%s"),
+    RECIPE_COUNTER("recipe:counter:%s"),
+    RECIPE_VIEWERS("recipe:viewers:%s:%s"),
+    RECIPE_LIKERS("recipe:likers:%s"),
+    RECIPE_RANKING("recipe:ranking:%s"),
+    RECIPE_LIST_CACHE("recipe:list:%s"),
 
     // Item
     ITEM_DETAIL_CACHE("item:detail:%s"),
-
-    ITEM_DETAIL_CACHE_LOCK("item:detail:%s:lock"),
+    ITEM_DETAIL_BODY_CACHE("item:detail:body:%s"),
     ;
 
     private final String keyPattern;
+    private final String prefix;
 
     KeyType(String keyPattern) {
         this.keyPattern = keyPattern;
+        this.prefix = keyPattern.substring(0, keyPattern.indexOf("%s"));
     }
 
     public String format(Object... args) {
         return String.format(keyPattern, args);
     }
+
+    /**
+     * 키가 속한 KeyType 을 찾습니다. (접두사가 가장 긴 타입 우선, 없으면 null)
+     */
+    public static KeyType of(String key) {
+        KeyType matched = null;
+        for (KeyType type : values()) {
+            if (key.startsWith(type.prefix) && (matched == null || type.prefix.length() > matched.prefix.length())) {
+                matched = type;
+            }
+        }
+        return matched;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package store.myproject.onlineshop.dto.faillog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.myproject.onlineshop.domain.faillog.JobType;
+
+import java.math.BigDecimal;
+
+/**
+ * 재실행 대상 AsyncFailureLog 행 (amount 가 없으면 1건)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FailedJob {
+
+    private Long asyncFailureLogId;
+    private JobType jobType;
+    private Long targetId;
+    private BigDecimal amount;
+}
@@ -0,0 +1,18 @@
+package store.myproject.onlineshop.dto.like;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * like_count 에 반영할 좋아요 상태 (liked=false 면 좋아요 취소)
+ */
+@Getter
+@AllArgsConstructor
+public class LikeChange {
+
+    private UUID recipeUuid;
+    private Long customerId;
+    private boolean liked;
+}
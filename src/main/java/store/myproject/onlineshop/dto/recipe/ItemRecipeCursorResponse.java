@@ -0,0 +1,34 @@
+package store.myproject.onlineshop.dto.recipe;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품을 사용하는 레시피 목록 (최신순 커서 페이지)")
+public class ItemRecipeCursorResponse {
+
+    private List<SimpleRecipeDto> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 레시피 UUID, 마지막 페이지면 null)")
+    private UUID nextUuid;
+
+    @Schema(description = "상품을 사용하는 전체 레시피 수", example = "42")
+    private long totalCount;
+
+    public static ItemRecipeCursorResponse of(List<SimpleRecipeDto> content, UUID nextUuid, long totalCount) {
+        return ItemRecipeCursorResponse.builder()
+                .content(content)
+                .nextUuid(nextUuid)
+                .totalCount(totalCount)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package store.myproject.onlineshop.dto.recipe;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import store.myproject.onlineshop.dto.recipestep.RecipeStepDto;
@@ -35,6 +36,12 @@ public class RecipeDto {
     @Schema(description = "레시피 썸네일 URL", example = "https://example.com/thumbnail.jpg")
     private String thumbnailUrl;
 
+    /**
+     * 통계 갱신용 내부 식별자 (API 응답에는 노출하지 않고 캐시에만 저장)
+     */
+    @JsonIgnore
+    private Long recipeMetaId;
+
     @Schema(description = "레시피에 포함된 아이템들")
     private List<RecipeItemDto> items;
 
@@ -0,0 +1,18 @@
+package store.myproject.onlineshop.dto.recipe;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레시피 재료 행의 ID 만 담은 참조 (상품 → 레시피 역색인 적재용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeItemRef {
+
+    private Long recipeItemId;
+    private Long recipeId;
+    private Long itemId;
+}
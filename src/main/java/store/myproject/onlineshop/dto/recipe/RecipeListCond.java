@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,4 +39,12 @@ public class RecipeListCond {
 
     @Schema(description = "정렬 기준 (recent, view, like)", example = "recent")
     private String sortBy = "recent";
+
+    /**
+     * 커서 UUID (recipe_uuid 가 BINARY(16) 이므로 문자열이 아닌 UUID 로 바인딩)
+     */
+    @JsonIgnore
+    public UUID getCursorUuid() {
+        return nextUuid == null || nextUuid.isBlank() ? null : UUID.fromString(nextUuid);
+    }
 }
@@ -0,0 +1,72 @@
+package store.myproject.onlineshop.dto.recipe;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "레시피 랭킹 항목 DTO")
+public class RecipeRankingDto {
+
+    @Schema(description = "순위 (1부터 시작)", example = "1")
+    private long rank;
+
+    @Schema(description = "랭킹 점수 (기간 내 증가량, TRENDING 은 현재 시각 기준 감쇠 점수)", example = "42.0")
+    private double score;
+
+    @Schema(description = "레시피 고유 ID", example = "a9dc96bf-2b1b-11f0-b1f0-5b9e0b864120")
+    private UUID recipeUuid;
+
+    @Schema(description = "레시피 제목", example = "맛있는 떡볶이")
+    private String recipeTitle;
+
+    @Schema(description = "레시피 설명", example = "매운 떡볶이를 만드는 방법")
+    private String recipeDescription;
+
+    @Schema(description = "레시피 썸네일 URL", example = "https://example.com/thumbnail.jpg")
+    private String thumbnailUrl;
+
+    @Schema(description = "레시피 작성자", example = "홍길동")
+    private String recipeWriter;
+
+    @Schema(description = "조리 시간", example = "30")
+    private Integer recipeCookingTime;
+
+    @Schema(description = "레시피 인분", example = "2")
+    private Integer recipeServings;
+
+    public static RecipeRankingDto of(long rank, double score, RecipeDto recipe) {
+        return RecipeRankingDto.builder()
+                .rank(rank)
+                .score(score)
+                .recipeUuid(recipe.getRecipeUuid())
+                .recipeTitle(recipe.getRecipeTitle())
+                .recipeDescription(recipe.getRecipeDescription())
+                .thumbnailUrl(recipe.getThumbnailUrl())
+                .recipeWriter(recipe.getRecipeWriter())
+                .recipeCookingTime(recipe.getRecipeCookingTime())
+                .recipeServings(recipe.getRecipeServings())
+                .build();
+    }
+
+    public static RecipeRankingDto of(long rank, double score, SimpleRecipeDto recipe) {
+        return RecipeRankingDto.builder()
+                .rank(rank)
+                .score(score)
+                .recipeUuid(recipe.getRecipeUuid())
+                .recipeTitle(recipe.getTitle())
+                .recipeDescription(recipe.getRecipeDescription())
+                .thumbnailUrl(recipe.getThumbnail())
+                .recipeWriter(recipe.getWriter())
+                .recipeCookingTime(recipe.getRecipeCookingTime())
+                .recipeServings(recipe.getRecipeServings())
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package store.myproject.onlineshop.dto.recipe;
+
+/**
+ * 레시피 랭킹 기준 지표
+ */
+public enum RecipeRankingMetric {
+    VIEW, LIKE, REVIEW
+}
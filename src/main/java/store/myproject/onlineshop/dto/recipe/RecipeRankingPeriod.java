@@ -0,0 +1,8 @@
+package store.myproject.onlineshop.dto.recipe;
+
+/**
+ * 레시피 랭킹 기간 (TRENDING 은 조회수/좋아요/리뷰를 가중합한 시간 감쇠 점수)
+ */
+public enum RecipeRankingPeriod {
+    DAILY, WEEKLY, ALL_TIME, TRENDING
+}
@@ -0,0 +1,24 @@
+package store.myproject.onlineshop.dto.recipe;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeRankingResponse {
+    private List<RecipeRankingDto> content;
+    private Long nextCursor;
+
+    public static RecipeRankingResponse of(List<RecipeRankingDto> content, Long nextCursor) {
+        return RecipeRankingResponse.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -45,4 +45,29 @@ public class SimpleRecipeDto {
     @Schema(description = "레시피 좋아요 수", example = "100")
     private Long likeCnt;
 
+    @Schema(description = "로그인 사용자의 좋아요 여부 (비로그인이면 null)", example = "true")
+    private Boolean likedByMe;
+
+    // JPQL 생성자 표현식용 (좋아요 여부는 조회 후 markLikedByMe 로 채움)
+    public SimpleRecipeDto(UUID recipeUuid, String title, String recipeDescription, String thumbnail, String writer,
+                           Integer recipeCookingTime, Integer recipeServings, Long recipeView, Long reviewCnt, Long likeCnt) {
+        this(recipeUuid, title, recipeDescription, thumbnail, writer, recipeCookingTime, recipeServings,
+                recipeView, reviewCnt, likeCnt, null);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 카운터 증가분을 더합니다.
+     */
+    public void addPendingCounts(long viewDelta, long likeDelta) {
+        this.recipeView = valueOf(recipeView) + viewDelta;
+        this.likeCnt = Math.max(0, valueOf(likeCnt) + likeDelta);
+    }
+
+    public void markLikedByMe(boolean likedByMe) {
+        this.likedByMe = likedByMe;
+    }
+
+    private static long valueOf(Long count) {
+        return count == null ? 0 : count;
+    }
 }
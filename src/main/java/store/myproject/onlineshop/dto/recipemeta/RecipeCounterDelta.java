@@ -0,0 +1,17 @@
+package store.myproject.onlineshop.dto.recipemeta;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * recipe_meta 에 반영할 카운터 증가분 (음수면 감소)
+ */
+@Getter
+@AllArgsConstructor
+public class RecipeCounterDelta {
+
+    private Long recipeMetaId;
+    private long viewDelta;
+    private long likeDelta;
+    private long reviewDelta;
+}
@@ -0,0 +1,17 @@
+package store.myproject.onlineshop.dto.recipemeta;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 레시피 UUID 와 recipe_meta_id 매핑
+ */
+@Getter
+@NoArgsConstructor
+public class RecipeMetaKey {
+
+    private UUID recipeUuid;
+    private Long recipeMetaId;
+}
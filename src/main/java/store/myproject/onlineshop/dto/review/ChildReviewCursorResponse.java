@@ -0,0 +1,34 @@
+package store.myproject.onlineshop.dto.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "대댓글 목록 (작성순 커서 페이지)")
+public class ChildReviewCursorResponse {
+
+    private List<ChildReviewResponse> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 대댓글 UUID, 마지막 페이지면 null)")
+    private UUID nextUuid;
+
+    @Schema(description = "댓글의 전체 대댓글 수", example = "7")
+    private long totalCount;
+
+    public static ChildReviewCursorResponse of(List<ChildReviewResponse> content, UUID nextUuid, long totalCount) {
+        return ChildReviewCursorResponse.builder()
+                .content(content)
+                .nextUuid(nextUuid)
+                .totalCount(totalCount)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package store.myproject.onlineshop.dto.review;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장된 카운터와 실제 개수 비교 결과
+ * - id: 다음 페이지를 읽을 키셋 ID, targetId: 카운터를 가진 행 ID (recipe_meta_id 또는 부모 review_id)
+ */
+@Getter
+@NoArgsConstructor
+public class ReviewCountCheck {
+
+    private Long id;
+    private Long targetId;
+    private long storedCount;
+    private long actualCount;
+
+    public boolean isDrifted() {
+        return storedCount != actualCount;
+    }
+
+    public long getDrift() {
+        return storedCount - actualCount;
+    }
+}
@@ -0,0 +1,21 @@
+package store.myproject.onlineshop.dto.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 커서 위치 (삭제된 댓글 포함, 다음 페이지를 (created_date, review_id) 키셋으로 읽는 기준)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewCursor {
+
+    private Long reviewId;
+    private Long recipeId;
+    private Long parentId;
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,34 @@
+package store.myproject.onlineshop.dto.review;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "레시피 댓글 목록 (작성순 커서 페이지)")
+public class ReviewCursorResponse {
+
+    private List<ReviewResponse> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 댓글 UUID, 마지막 페이지면 null)")
+    private UUID nextUuid;
+
+    @Schema(description = "레시피의 전체 댓글 수 (대댓글 포함)", example = "42")
+    private long totalCount;
+
+    public static ReviewCursorResponse of(List<ReviewResponse> content, UUID nextUuid, long totalCount) {
+        return ReviewCursorResponse.builder()
+                .content(content)
+                .nextUuid(nextUuid)
+                .totalCount(totalCount)
+                .build();
+    }
+}
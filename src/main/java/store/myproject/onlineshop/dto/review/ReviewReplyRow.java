@@ -0,0 +1,19 @@
+package store.myproject.onlineshop.dto.review;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 부모 댓글별 앞쪽 대댓글 한 행
+ */
+@Getter
+@NoArgsConstructor
+public class ReviewReplyRow {
+
+    private Long parentId;
+    private UUID reviewUuid;
+    private String reviewContent;
+    private String writer;
+}
@@ -18,5 +18,6 @@ public class ReviewResponse {
     private String content;
     private String writer;
     private List<ChildReviewResponse> childReviews;
+    private long replyCount;
     private boolean hasMoreChildReviews;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package store.myproject.onlineshop.dto.review;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 댓글/대댓글 목록 한 행 (작성자 닉네임과 대댓글 수 포함)
+ */
+@Getter
+@NoArgsConstructor
+public class ReviewRow {
+
+    private Long reviewId;
+    private UUID reviewUuid;
+    private String reviewContent;
+    private String writer;
+    private LocalDateTime createdDate;
+    private long replyCnt;
+}
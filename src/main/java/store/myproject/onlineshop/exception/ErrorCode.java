@@ -87,6 +87,7 @@ public enum ErrorCode {
     // Recipe
     RECIPE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 레시피가 존재하지 않습니다."),
     DUPLICATE_RECIPE(HttpStatus.CONFLICT, "해당 레시피 제목이 중복됩니다."),
+    RECIPE_RANKING_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "레시피 랭킹을 사용할 수 없습니다."),
 
     // Review
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 댓글이 존재하지 않습니다."),
@@ -97,6 +98,9 @@ public enum ErrorCode {
     WRONG_FILE_FORMAT(HttpStatus.BAD_REQUEST, "잘못된 형식의 파일입니다"),
     FILE_UPLOAD_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
 
+    // Cache
+    CACHE_WARM_UP_IN_PROGRESS(HttpStatus.CONFLICT, "캐시 워밍업이 이미 진행 중입니다."),
+
     ;
 
     private HttpStatus httpStatus;
@@ -0,0 +1,90 @@
+package store.myproject.onlineshop.global.cache;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * UUID 전용 메모리 Bloom 필터
+ * - mightContain 이 false 면 확실히 없는 값, true 면 있을 수도 있는 값 (오탐률 fpp)
+ * - 비트 배열은 AtomicLongArray 로 관리하므로 잠금 없이 동시에 put / mightContain 할 수 있습니다.
+ * - 삭제는 지원하지 않습니다. (삭제된 값은 음성 캐시로 처리)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수 (초과하면 오탐률이 올라감)
+     * @param fpp                목표 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp 는 0 과 1 사이여야 합니다: " + fpp);
+        }
+        long n = Math.max(expectedInsertions, 1);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact((Math.max(m, Long.SIZE) + Long.SIZE - 1) / Long.SIZE);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(UUID uuid) {
+        long hash1 = mix(uuid.getMostSignificantBits());
+        long hash2 = mix(uuid.getLeastSignificantBits() ^ hash1);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1, hash2, i));
+        }
+    }
+
+    public boolean mightContain(UUID uuid) {
+        long hash1 = mix(uuid.getMostSignificantBits());
+        long hash2 = mix(uuid.getLeastSignificantBits() ^ hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 이중 해싱 (Kirsch-Mitzenmacher): h1 + i * h2
+     */
+    private long index(long hash1, long hash2, int i) {
+        return Math.floorMod(hash1 + i * hash2, bitSize);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * SplitMix64 finalizer (UUID v7 의 앞부분은 시간이라 비트 분포를 섞어서 사용)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,44 @@
+package store.myproject.onlineshop.global.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 값과 조기 갱신(XFetch)에 필요한 메타 정보
+ * - deltaMillis: 값을 다시 계산하는 데 걸린 시간
+ * - expireAtMillis: 논리적 만료 시각
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheEnvelope {
+
+    private Object value;
+
+    private long deltaMillis;
+
+    private long expireAtMillis;
+
+    /**
+     * 메타 정보 없이 저장된 이전 형식의 값 (조기 갱신 대상 아님)
+     */
+    public static CacheEnvelope legacy(Object value) {
+        return new CacheEnvelope(value, 0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 만료 전에 미리 갱신합니다.
+     * 재계산 비용이 클수록, 만료 시각이 가까울수록 갱신 확률이 높아져 노드 간 동시 재계산이 드물어집니다.
+     */
+    public boolean shouldRefreshEarly(double beta, long nowMillis) {
+        if (deltaMillis <= 0 || expireAtMillis == Long.MAX_VALUE) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return nowMillis - deltaMillis * beta * Math.log(random) >= expireAtMillis;
+    }
+}
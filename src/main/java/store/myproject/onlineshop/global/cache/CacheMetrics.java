@@ -0,0 +1,158 @@
+package store.myproject.onlineshop.global.cache;
+
+import io.micrometer.core.instrument.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.dto.common.KeyType;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NearCache 접근 지표 (KeyType 별)
+ * <pre>
+ * near.cache.gets        {cache, result=l1_hit|l2_hit|miss}  조회 결과 카운터
+ * near.cache.hit.ratio   {cache}                             (l1_hit + l2_hit) / 전체 조회
+ * near.cache.load        {cache}                             미스 시 DB 로딩 시간 (히스토그램)
+ * near.cache.wait        {cache}                             다른 요청의 로딩을 기다린 시간 (SingleFlight)
+ * near.cache.value.size  {cache}                             저장/조회한 값의 직렬화 크기 (bytes)
+ * near.cache.hot.key     {rank}                              상위 핫 키의 추정 접근 횟수
+ * </pre>
+ * 어떤 KeyType 에도 속하지 않는 키는 cache=OTHER 로 집계합니다.
+ */
+@Component
+public class CacheMetrics {
+
+    private static final String OTHER = "OTHER";
+
+    private final Map<KeyType, Meters> metersByType = new EnumMap<>(KeyType.class);
+    private final Meters otherMeters;
+    private final HotKeyTracker hotKeyTracker;
+
+    public CacheMetrics(MeterRegistry meterRegistry,
+                        @Value("${cache.metrics.hot-key.width:4096}") int hotKeyWidth,
+                        @Value("${cache.metrics.hot-key.depth:4}") int hotKeyDepth,
+                        @Value("${cache.metrics.hot-key.capacity:50}") int hotKeyCapacity,
+                        @Value("${cache.metrics.hot-key.exported:10}") int exportedHotKeys) {
+        for (KeyType type : KeyType.values()) {
+            metersByType.put(type, new Meters(meterRegistry, type.name()));
+        }
+        this.otherMeters = new Meters(meterRegistry, OTHER);
+        this.hotKeyTracker = new HotKeyTracker(hotKeyWidth, hotKeyDepth, hotKeyCapacity);
+
+        // 키 이름은 태그로 내보내지 않고(카디널리티) 순위별 횟수만 내보냅니다. 키 이름은 관리자 API 로 조회
+        for (int rank = 1; rank <= exportedHotKeys; rank++) {
+            int index = rank - 1;
+            Gauge.builder("near.cache.hot.key", hotKeyTracker, tracker -> {
+                        List<Map.Entry<String, Long>> top = tracker.top(index + 1);
+                        return top.size() > index ? top.get(index).getValue() : 0;
+                    })
+                    .tag("rank", String.valueOf(rank))
+                    .description("상위 핫 키의 추정 접근 횟수")
+                    .register(meterRegistry);
+        }
+    }
+
+    public void l1Hit(String key) {
+        Meters meters = metersOf(key);
+        meters.l1Hit.increment();
+        hotKeyTracker.record(key);
+    }
+
+    public void l2Hit(String key, int valueBytes) {
+        Meters meters = metersOf(key);
+        meters.l2Hit.increment();
+        meters.valueSize.record(valueBytes);
+        hotKeyTracker.record(key);
+    }
+
+    public void miss(String key) {
+        metersOf(key).miss.increment();
+        hotKeyTracker.record(key);
+    }
+
+    public void loaded(String key, long loadNanos, int valueBytes) {
+        Meters meters = metersOf(key);
+        meters.load.record(loadNanos, TimeUnit.NANOSECONDS);
+        meters.valueSize.record(valueBytes);
+    }
+
+    public void waited(String key, long waitNanos) {
+        metersOf(key).wait.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 추정 접근 횟수 내림차순 상위 핫 키
+     */
+    public List<Map.Entry<String, Long>> hotKeys(int limit) {
+        return hotKeyTracker.top(limit);
+    }
+
+    /**
+     * 오래된 접근의 비중을 줄여 최근 핫 키가 드러나게 합니다.
+     */
+    @Scheduled(fixedDelayString = "${cache.metrics.hot-key.decay-interval-ms:60000}")
+    public void decayHotKeys() {
+        hotKeyTracker.decay();
+    }
+
+    private Meters metersOf(String key) {
+        KeyType type = KeyType.of(key);
+        return type != null ? metersByType.get(type) : otherMeters;
+    }
+
+    private static class Meters {
+        private final Counter l1Hit;
+        private final Counter l2Hit;
+        private final Counter miss;
+        private final Timer load;
+        private final Timer wait;
+        private final DistributionSummary valueSize;
+
+        private Meters(MeterRegistry registry, String cache) {
+            this.l1Hit = counter(registry, cache, "l1_hit");
+            this.l2Hit = counter(registry, cache, "l2_hit");
+            this.miss = counter(registry, cache, "miss");
+            this.load = Timer.builder("near.cache.load")
+                    .tag("cache", cache)
+                    .description("캐시 미스 시 값 로딩 시간")
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(registry);
+            this.wait = Timer.builder("near.cache.wait")
+                    .tag("cache", cache)
+                    .description("같은 키를 로딩 중인 다른 요청을 기다린 시간")
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(Duration.ofSeconds(5))
+                    .register(registry);
+            this.valueSize = DistributionSummary.builder("near.cache.value.size")
+                    .tag("cache", cache)
+                    .baseUnit("bytes")
+                    .description("캐시 값의 직렬화 크기")
+                    .publishPercentileHistogram()
+                    .register(registry);
+            Gauge.builder("near.cache.hit.ratio", this, Meters::hitRatio)
+                    .tag("cache", cache)
+                    .description("L1 + L2 히트 비율")
+                    .register(registry);
+        }
+
+        private double hitRatio() {
+            double hits = l1Hit.count() + l2Hit.count();
+            double total = hits + miss.count();
+            return total == 0 ? 0 : hits / total;
+        }
+
+        private static Counter counter(MeterRegistry registry, String cache, String result) {
+            return Counter.builder("near.cache.gets")
+                    .tag("cache", cache)
+                    .tag("result", result)
+                    .description("NearCache 조회 결과")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package store.myproject.onlineshop.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.myproject.onlineshop.domain.brand.BrandRepository;
+import store.myproject.onlineshop.domain.item.ItemRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeRepository;
+import store.myproject.onlineshop.dto.cache.UuidRef;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 레시피/상품/브랜드 UUID 존재 여부 필터 (메모리 Bloom 필터)
+ * - 확실히 없는 UUID 는 캐시/DB 를 조회하지 않고 바로 NOT_FOUND 로 처리합니다.
+ * - 기동 시와 rebuild-interval-ms 마다 DB 의 UUID 전체로 다시 만들고, 등록 시 Redisson Topic 으로 모든 노드에 추가를 전파합니다.
+ * - Topic 은 전달을 보장하지 않으므로 등록한 UUID 를 Redis 최근 등록 목록에도 남기고,
+ *   로컬 필터에 없는 UUID 는 이 목록을 확인한 뒤에만 거절합니다. (목록은 recent-retention 이 지나면 정리)
+ * - 아직 만들어지지 않은 필터는 모든 UUID 를 "있을 수도 있음" 으로 판단합니다. (잘못된 거절 방지)
+ * - 삭제된 UUID 는 필터에 남으므로 NearCache 의 음성 캐시가 반복 조회를 막습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExistenceFilter {
+
+    private static final String ADD_TOPIC = "cache:existence:add";
+    private static final String RECENT_KEY_PREFIX = "cache:existence:recent:";
+
+    public enum Type {
+        RECIPE, ITEM, BRAND
+    }
+
+    private final RecipeRepository recipeRepository;
+    private final ItemRepository itemRepository;
+    private final BrandRepository brandRepository;
+    private final RedissonClient redisson;
+
+    @Value("${cache.existence.fpp:0.01}")
+    private double fpp;
+
+    @Value("${cache.existence.growth-factor:2.0}")
+    private double growthFactor;
+
+    @Value("${cache.existence.minimum-capacity:10000}")
+    private long minimumCapacity;
+
+    @Value("${cache.existence.load-batch-size:10000}")
+    private int loadBatchSize;
+
+    @Value("${cache.existence.recent-retention:1d}")
+    private Duration recentRetention;
+
+    private final Map<Type, Slot> slots = new EnumMap<>(Type.class);
+    private final Map<Type, RScoredSortedSet<String>> recentAdds = new EnumMap<>(Type.class);
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private RTopic addTopic;
+    private int listenerId;
+
+    @PostConstruct
+    void init() {
+        for (Type type : Type.values()) {
+            slots.put(type, new Slot());
+            recentAdds.put(type, redisson.getScoredSortedSet(RECENT_KEY_PREFIX + type.name(), StringCodec.INSTANCE));
+        }
+
+        addTopic = redisson.getTopic(ADD_TOPIC, StringCodec.INSTANCE);
+        listenerId = addTopic.addListener(String.class, (channel, message) -> {
+            int separator = message.indexOf(':');
+            putLocal(Type.valueOf(message.substring(0, separator)), UUID.fromString(message.substring(separator + 1)));
+        });
+    }
+
+    @PreDestroy
+    void destroy() {
+        addTopic.removeListener(listenerId);
+    }
+
+    /**
+     * 필터 기준으로 확실히 존재하지 않는 UUID 인지 확인합니다.
+     * 로컬 필터에 없으면 최근 등록 목록을 확인하고, 목록에 있으면 로컬 필터에 추가합니다. (전파를 놓친 경우)
+     */
+    public boolean isDefinitelyAbsent(Type type, UUID uuid) {
+        BloomFilter filter = slots.get(type).current;
+        if (filter == null || filter.mightContain(uuid)) {
+            return false;
+        }
+        if (isRecentlyAdded(type, uuid)) {
+            putLocal(type, uuid);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 새로 등록된 UUID 를 모든 노드의 필터에 추가합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후 한 번 더 추가하여, 커밋 전에 시작된 재구성에서 빠지지 않게 합니다.
+     */
+    public void add(Type type, UUID uuid) {
+        addNow(type, uuid);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addNow(type, uuid);
+                }
+            });
+        }
+    }
+
+    @Scheduled(initialDelayString = "${cache.existence.rebuild-interval-ms:600000}",
+            fixedDelayString = "${cache.existence.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuildAsync();
+    }
+
+    /**
+     * 스케줄러 스레드를 막지 않도록 별도 스레드에서 다시 만듭니다. 이미 만드는 중이면 건너뜁니다.
+     */
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("existence-filter-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                // 실패해도 기존 필터를 그대로 사용하고 다음 주기에 다시 시도합니다.
+                log.error("존재 필터 재구성 실패: error={}", e.getMessage(), e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    /**
+     * DB 의 UUID 전체를 load-batch-size 개씩 키셋으로 읽어 필터를 다시 만듭니다.
+     * 재구성 중에 추가된 UUID 는 만들고 있는 필터에도 함께 기록합니다.
+     */
+    public void rebuild() {
+        rebuild(Type.RECIPE, recipeRepository::count,
+                (afterId, limit) -> recipeRepository.findUuidRefsAfter(afterId, PageRequest.of(0, limit)));
+        rebuild(Type.ITEM, itemRepository::count,
+                (afterId, limit) -> itemRepository.findUuidRefsAfter(afterId, PageRequest.of(0, limit)));
+        rebuild(Type.BRAND, brandRepository::count,
+                (afterId, limit) -> brandRepository.findUuidRefsAfter(afterId, PageRequest.of(0, limit)));
+        pruneRecentAdds();
+    }
+
+    private void rebuild(Type type, LongSupplier counter, BiFunction<Long, Integer, List<UuidRef>> loader) {
+        Slot slot = slots.get(type);
+        long start = System.currentTimeMillis();
+
+        // 조회 전에 필터를 먼저 열어, 조회와 교체 사이에 등록된 UUID 도 반영되게 합니다.
+        BloomFilter filter = new BloomFilter(Math.max(minimumCapacity, (long) (counter.getAsLong() * growthFactor)), fpp);
+        slot.building = filter;
+        try {
+            long size = 0;
+            long afterId = 0L;
+            while (true) {
+                List<UuidRef> refs = loader.apply(afterId, loadBatchSize);
+                if (refs.isEmpty()) {
+                    break;
+                }
+                refs.forEach(ref -> filter.put(ref.getUuid()));
+                size += refs.size();
+                afterId = refs.get(refs.size() - 1).getId();
+            }
+            slot.current = filter;
+
+            log.info("존재 필터 재구성 완료: type={}, size={}, bits={}, hashes={}, elapsed={}ms",
+                    type, size, filter.bitSize(), filter.hashCount(), System.currentTimeMillis() - start);
+        } finally {
+            slot.building = null;
+        }
+    }
+
+    private void addNow(Type type, UUID uuid) {
+        putLocal(type, uuid);
+
+        try {
+            recentAdds.get(type).add(System.currentTimeMillis(), uuid.toString());
+        } catch (Exception e) {
+            log.error("존재 필터 최근 등록 기록 실패: type={}, uuid={}, error={}", type, uuid, e.getMessage());
+        }
+        try {
+            addTopic.publish(type.name() + ":" + uuid);
+        } catch (Exception e) {
+            // 최근 등록 목록에 남아 있으므로 다른 노드는 로컬 필터에 없을 때 목록으로 확인합니다.
+            log.warn("존재 필터 추가 전파 실패: type={}, uuid={}, error={}", type, uuid, e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 를 확인할 수 없으면 있을 수도 있는 것으로 판단합니다. (잘못된 거절 방지)
+     */
+    private boolean isRecentlyAdded(Type type, UUID uuid) {
+        try {
+            return recentAdds.get(type).getScore(uuid.toString()) != null;
+        } catch (Exception e) {
+            log.warn("존재 필터 최근 등록 조회 실패: type={}, uuid={}, error={}", type, uuid, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * recent-retention 보다 오래된 등록은 그 사이 모든 노드의 재구성에 포함되었으므로 목록에서 지웁니다.
+     */
+    private void pruneRecentAdds() {
+        long before = System.currentTimeMillis() - recentRetention.toMillis();
+        try {
+            recentAdds.values().forEach(recent -> recent.removeRangeByScore(0, true, before, true));
+        } catch (Exception e) {
+            log.warn("존재 필터 최근 등록 정리 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void putLocal(Type type, UUID uuid) {
+        Slot slot = slots.get(type);
+        BloomFilter current = slot.current;
+        if (current != null) {
+            current.put(uuid);
+        }
+        BloomFilter building = slot.building;
+        if (building != null) {
+            building.put(uuid);
+        }
+    }
+
+    private static class Slot {
+        private volatile BloomFilter current;
+        private volatile BloomFilter building;
+    }
+}
@@ -0,0 +1,125 @@
+package store.myproject.onlineshop.global.cache;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch 기반 핫 키 추적기
+ * - 모든 키의 접근 횟수를 고정 크기(depth x width) 카운터 표에 근사 집계합니다. (과대 추정만 발생)
+ * - 추정치가 상위 K 개의 최솟값을 넘는 키만 후보 맵에 올려 상위 K 를 유지합니다.
+ * - decay() 로 카운터를 절반씩 줄여 최근 접근 위주로 순위를 매깁니다.
+ */
+public class HotKeyTracker {
+
+    private final int width;
+    private final int depth;
+    private final int capacity;
+    private final AtomicLongArray table;
+
+    private final Map<String, Long> topKeys = new ConcurrentHashMap<>();
+    private volatile long threshold;
+
+    /**
+     * @param width    행당 카운터 수 (클수록 오차가 작음, 오차 ≈ 전체 접근 수 x e / width)
+     * @param depth    해시 함수 수 (클수록 오차 확률이 작음)
+     * @param capacity 유지할 상위 키 수
+     */
+    public HotKeyTracker(int width, int depth, int capacity) {
+        this.width = width;
+        this.depth = depth;
+        this.capacity = capacity;
+        this.table = new AtomicLongArray(width * depth);
+    }
+
+    public void record(String key) {
+        long estimate = increment(key);
+
+        // 이미 상위 K 에 있는 키는 잠금 없이 갱신
+        if (topKeys.computeIfPresent(key, (k, count) -> Math.max(count, estimate)) != null) {
+            return;
+        }
+        if (topKeys.size() >= capacity && estimate <= threshold) {
+            return;
+        }
+        synchronized (topKeys) {
+            topKeys.put(key, estimate);
+            if (topKeys.size() > capacity) {
+                topKeys.entrySet().stream()
+                        .min(Map.Entry.comparingByValue())
+                        .ifPresent(min -> topKeys.remove(min.getKey()));
+            }
+            refreshThreshold();
+        }
+    }
+
+    /**
+     * 추정 접근 횟수 내림차순 상위 키
+     */
+    public List<Map.Entry<String, Long>> top(int limit) {
+        return topKeys.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    public long estimate(String key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table.get(index(key, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 모든 카운터와 상위 키의 횟수를 절반으로 줄입니다. (0 이 된 상위 키는 제거)
+     */
+    public void decay() {
+        for (int i = 0; i < table.length(); i++) {
+            table.getAndUpdate(i, count -> count >>> 1);
+        }
+        synchronized (topKeys) {
+            topKeys.replaceAll((key, count) -> count >>> 1);
+            topKeys.values().removeIf(count -> count == 0);
+            refreshThreshold();
+        }
+    }
+
+    private long increment(String key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table.incrementAndGet(index(key, row)));
+        }
+        return min;
+    }
+
+    private void refreshThreshold() {
+        threshold = topKeys.size() < capacity
+                ? 0
+                : topKeys.values().stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+
+    /**
+     * 이중 해싱: (h1 + row * h2) mod width (String.hashCode 는 캐시되므로 키마다 한 번만 계산)
+     */
+    private int index(String key, int row) {
+        int hash1 = mix(key.hashCode());
+        int hash2 = mix(hash1 ^ 0x9E3779B9) | 1;
+        return row * width + Math.floorMod(hash1 + row * hash2, width);
+    }
+
+    /**
+     * MurmurHash3 fmix32
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
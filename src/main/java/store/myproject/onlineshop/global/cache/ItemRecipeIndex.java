@@ -0,0 +1,314 @@
+package store.myproject.onlineshop.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.myproject.onlineshop.domain.recipe.RecipeRepository;
+import store.myproject.onlineshop.dto.recipe.RecipeItemRef;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품 → 레시피 역색인 (메모리)
+ * - 상품 ID 마다 레시피 ID 를 오름차순 int 배열로 둡니다. (박싱 없이 레시피당 4바이트, 개수는 배열 길이)
+ * - 조회는 배열을 이진 탐색해 최신순(레시피 ID 내림차순) 키셋 페이지를 만들고, 변경은 새 배열로 바꿔 끼우므로 읽기에 잠금이 없습니다.
+ * - 레시피 등록/수정/삭제가 커밋되면 자기 노드에 바로 반영하고 (레시피 ID, 상품 ID 목록) 을 Redisson Topic 으로 보내 다른 노드도 반영합니다.
+ * - 기동 시와 rebuild-interval 마다 DB 에서 다시 만들어 전파가 빠진 노드도 맞춥니다. 다시 만드는 동안 받은 변경은 교체 후 다시 적용합니다.
+ * - recipe.item-index.enabled=false 이거나 아직 만들어지지 않았으면 isReady()=false 이고, 호출 측은 DB 로 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemRecipeIndex {
+
+    private static final String TOPIC = "recipe:item-index";
+    private static final int[] EMPTY = new int[0];
+
+    private final RecipeRepository recipeRepository;
+    private final RedissonClient redisson;
+
+    @Value("${recipe.item-index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipe.item-index.load-batch-size:5000}")
+    private int loadBatchSize;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile Map<Long, int[]> recipesByItem = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // 아래 두 필드는 this 잠금 안에서만 사용합니다.
+    private Map<Integer, long[]> itemsByRecipe = new HashMap<>();
+    private List<Change> changesDuringRebuild;
+
+    private RTopic topic;
+    private int listenerId;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        topic = redisson.getTopic(TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> apply(Change.parse(message)));
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 상품을 사용하는 레시피 수
+     */
+    public int count(Long itemId) {
+        return recipesByItem.getOrDefault(itemId, EMPTY).length;
+    }
+
+    /**
+     * 상품을 사용하는 레시피 ID 를 beforeRecipeId 미만에서 내림차순으로 최대 limit 개 반환합니다.
+     */
+    public List<Long> findRecipeIds(Long itemId, Long beforeRecipeId, int limit) {
+        int[] recipeIds = recipesByItem.getOrDefault(itemId, EMPTY);
+        int end = recipeIds.length;
+        if (beforeRecipeId != null) {
+            int found = Arrays.binarySearch(recipeIds, (int) Math.min(beforeRecipeId, Integer.MAX_VALUE));
+            end = found >= 0 ? found : -found - 1;
+        }
+
+        List<Long> page = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+            page.add((long) recipeIds[i]);
+        }
+        return page;
+    }
+
+    /**
+     * 레시피가 사용하는 상품을 itemIds 로 바꿉니다. (삭제면 빈 목록)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영하고 다른 노드에 전파합니다.
+     */
+    public void publish(Long recipeId, Collection<Long> itemIds) {
+        if (!enabled) {
+            return;
+        }
+        Change change = new Change(Math.toIntExact(recipeId), itemIds.stream().mapToLong(Long::longValue).distinct().toArray());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(change);
+                }
+            });
+            return;
+        }
+        publishNow(change);
+    }
+
+    @Scheduled(initialDelayString = "${recipe.item-index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${recipe.item-index.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * 스케줄러/기동 스레드를 막지 않도록 별도 스레드에서 다시 만듭니다. 이미 만드는 중이면 건너뜁니다.
+     */
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("item-recipe-index-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("상품 → 레시피 역색인 생성 실패: error={}", e.getMessage(), e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    /**
+     * DB 의 recipe_item 전체로 색인을 새로 만들어 바꿔 끼웁니다.
+     */
+    void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        Map<Long, IntBuffer> recipeBuffers = new HashMap<>();
+        Map<Integer, List<Long>> itemLists = new HashMap<>();
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<RecipeItemRef> refs = recipeRepository.findRecipeItemRefsAfter(afterId, loadBatchSize);
+                if (refs.isEmpty()) {
+                    break;
+                }
+                for (RecipeItemRef ref : refs) {
+                    int recipeId = Math.toIntExact(ref.getRecipeId());
+                    recipeBuffers.computeIfAbsent(ref.getItemId(), itemId -> new IntBuffer()).add(recipeId);
+                    itemLists.computeIfAbsent(recipeId, id -> new ArrayList<>()).add(ref.getItemId());
+                }
+                afterId = refs.get(refs.size() - 1).getRecipeItemId();
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        Map<Long, int[]> rebuilt = new ConcurrentHashMap<>(Math.max(16, recipeBuffers.size() * 2));
+        recipeBuffers.forEach((itemId, buffer) -> rebuilt.put(itemId, buffer.toSortedDistinctArray()));
+        Map<Integer, long[]> rebuiltReverse = new HashMap<>(Math.max(16, itemLists.size() * 2));
+        itemLists.forEach((recipeId, itemIds) -> rebuiltReverse.put(recipeId,
+                itemIds.stream().mapToLong(Long::longValue).distinct().toArray()));
+
+        synchronized (this) {
+            recipesByItem = rebuilt;
+            itemsByRecipe = rebuiltReverse;
+            List<Change> missed = changesDuringRebuild;
+            changesDuringRebuild = null;
+            missed.forEach(this::applyLocked);
+            ready = true;
+        }
+        log.info("상품 → 레시피 역색인 생성 완료: items={}, recipes={}, elapsed={}ms",
+                rebuilt.size(), rebuiltReverse.size(), System.currentTimeMillis() - start);
+    }
+
+    private void publishNow(Change change) {
+        // 전파가 실패해도 자기 노드는 바로 맞추고, 다른 노드는 다음 재생성 때 맞춰집니다.
+        apply(change);
+        try {
+            topic.publish(change.format());
+        } catch (Exception e) {
+            log.warn("상품 → 레시피 역색인 변경 전파 실패: recipeId={}, error={}", change.recipeId(), e.getMessage());
+        }
+    }
+
+    synchronized void apply(Change change) {
+        applyLocked(change);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * 이전 상품에서 레시피를 빼고 새 상품에 넣습니다. 같은 변경을 여러 번 적용해도 결과가 같습니다.
+     */
+    private void applyLocked(Change change) {
+        int recipeId = change.recipeId();
+        long[] previous = itemsByRecipe.remove(recipeId);
+        if (previous != null) {
+            for (long itemId : previous) {
+                recipesByItem.computeIfPresent(itemId, (id, recipeIds) -> without(recipeIds, recipeId));
+            }
+        }
+        for (long itemId : change.itemIds()) {
+            recipesByItem.merge(itemId, new int[]{recipeId}, (recipeIds, added) -> with(recipeIds, recipeId));
+        }
+        if (change.itemIds().length > 0) {
+            itemsByRecipe.put(recipeId, change.itemIds());
+        }
+    }
+
+    private static int[] with(int[] recipeIds, int recipeId) {
+        int found = Arrays.binarySearch(recipeIds, recipeId);
+        if (found >= 0) {
+            return recipeIds;
+        }
+        int insertAt = -found - 1;
+        int[] result = new int[recipeIds.length + 1];
+        System.arraycopy(recipeIds, 0, result, 0, insertAt);
+        result[insertAt] = recipeId;
+        System.arraycopy(recipeIds, insertAt, result, insertAt + 1, recipeIds.length - insertAt);
+        return result;
+    }
+
+    private static int[] without(int[] recipeIds, int recipeId) {
+        int found = Arrays.binarySearch(recipeIds, recipeId);
+        if (found < 0) {
+            return recipeIds;
+        }
+        if (recipeIds.length == 1) {
+            return null;
+        }
+        int[] result = new int[recipeIds.length - 1];
+        System.arraycopy(recipeIds, 0, result, 0, found);
+        System.arraycopy(recipeIds, found + 1, result, found, recipeIds.length - found - 1);
+        return result;
+    }
+
+    /**
+     * 레시피가 사용하는 상품 목록 변경 (Topic 메시지: "{recipeId}:{itemId},{itemId}")
+     */
+    record Change(int recipeId, long[] itemIds) {
+
+        String format() {
+            StringBuilder message = new StringBuilder().append(recipeId).append(':');
+            for (int i = 0; i < itemIds.length; i++) {
+                message.append(i == 0 ? "" : ",").append(itemIds[i]);
+            }
+            return message.toString();
+        }
+
+        static Change parse(String message) {
+            int separator = message.indexOf(':');
+            String items = message.substring(separator + 1);
+            long[] itemIds = items.isEmpty()
+                    ? new long[0]
+                    : Arrays.stream(items.split(",")).mapToLong(Long::parseLong).toArray();
+            return new Change(Integer.parseInt(message.substring(0, separator)), itemIds);
+        }
+    }
+
+    private static final class IntBuffer {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toSortedDistinctArray() {
+            int[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return Arrays.stream(sorted).distinct().toArray();
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package store.myproject.onlineshop.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 로컬(L1, Caffeine) + Redis(L2) 2단계 캐시
+ * - 조회: L1 → L2 순서로 확인하고, L2 히트 시 L1 에 적재
+ * - 무효화: L2 삭제 후 Redisson Topic 으로 모든 노드의 L1 을 무효화
+ * - L1 은 직렬화된 바이트 크기를 가중치로 사용해 전체 메모리 사용량을 제한
+ * - 미스 시 JVM 내부 요청 병합(SingleFlight) + 확률적 조기 갱신(XFetch)으로 스탬피드 방지
+ * - 짧은 TTL 의 목록 캐시는 stale-while-revalidate 로 만료 직후에도 기존 값을 반환하며 백그라운드에서 갱신
+ * - 없는 값은 짧은 TTL 의 음성 캐시(값이 null 인 CacheEnvelope)로 저장해 반복 조회가 DB 까지 가지 않게 함
+ * - 모든 조회/로딩은 CacheMetrics 로 KeyType 별 지표를 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearCache {
+
+    private static final String INVALIDATION_TOPIC = "cache:invalidation";
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+    private final RedissonClient redisson;
+    private final CacheMetrics cacheMetrics;
+
+    @Value("${cache.near.maximum-weight-bytes:67108864}")
+    private long maximumWeightBytes;
+
+    @Value("${cache.near.expire-after-write:5m}")
+    private Duration expireAfterWrite;
+
+    @Value("${cache.near.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    @Value("${cache.near.negative-ttl:30s}")
+    private Duration negativeTtl;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private Cache<String, LocalEntry> localCache;
+    private RTopic invalidationTopic;
+    private int listenerId;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String key, LocalEntry entry) -> entry.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+
+        invalidationTopic = redisson.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        listenerId = invalidationTopic.addListener(String.class, (channel, key) -> localCache.invalidate(key));
+    }
+
+    @PreDestroy
+    void destroy() {
+        invalidationTopic.removeListener(listenerId);
+    }
+
+    /**
+     * L1 → L2 순서로 조회합니다. 둘 다 없으면 null 을 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key) {
+        CacheEnvelope envelope = getEnvelope(key);
+        return envelope != null ? (T) envelope.getValue() : null;
+    }
+
+    /**
+     * 여러 키를 한 번에 조회합니다. L1 에 없는 키는 MGET 한 번으로 L2 에서 읽습니다.
+     * 둘 다 없거나 음성 캐시된 키는 결과에서 빠집니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(List<String> keys) {
+        Map<String, T> found = new HashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : keys) {
+            LocalEntry local = localCache.getIfPresent(key);
+            if (local == null) {
+                remoteKeys.add(key);
+                continue;
+            }
+            cacheMetrics.l1Hit(key);
+            if (local.envelope().getValue() != null) {
+                found.put(key, (T) local.envelope().getValue());
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return found;
+        }
+
+        List<byte[]> values = cacheRedisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(remoteKeys.stream().map(this::serializeKey).toArray(byte[][]::new)));
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            CacheEnvelope envelope = fromRemote(remoteKeys.get(i), values == null ? null : values.get(i));
+            if (envelope != null && envelope.getValue() != null) {
+                found.put(remoteKeys.get(i), (T) envelope.getValue());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 캐시를 조회하고, 없으면 loader 로 계산해 L1/L2 에 저장합니다.
+     * - 같은 JVM 안의 동시 미스는 하나의 로딩으로 합쳐집니다.
+     * - 만료가 가까운 값은 XFetch 확률에 따라 한 요청만 미리 갱신하고, 나머지는 기존 값을 그대로 사용합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoad(String key, Duration ttl, Supplier<T> loader) {
+        CacheEnvelope cached = getEnvelope(key);
+
+        if (cached == null) {
+            return loadShared(key, () -> load(key, ttl, loader));
+        }
+
+        if (cached.shouldRefreshEarly(earlyRefreshBeta, System.currentTimeMillis())) {
+            return singleFlight.executeIfIdle(key, () -> load(key, ttl, loader))
+                    .orElse((T) cached.getValue());
+        }
+        return (T) cached.getValue();
+    }
+
+    /**
+     * 없을 수 있는 값을 조회합니다. getOrLoad 와 같지만 loader 가 빈 값을 반환하면
+     * "없음" 을 negative-ttl 동안 캐시하여, 같은 키의 이후 조회는 DB 를 거치지 않고 빈 값을 반환합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getOrLoadOptional(String key, Duration ttl, Supplier<Optional<T>> loader) {
+        CacheEnvelope cached = getEnvelope(key);
+
+        if (cached == null) {
+            return loadShared(key, () -> loadOptional(key, ttl, loader));
+        }
+
+        Optional<T> value = Optional.ofNullable((T) cached.getValue());
+        if (cached.shouldRefreshEarly(earlyRefreshBeta, System.currentTimeMillis())) {
+            return singleFlight.executeIfIdle(key, () -> loadOptional(key, ttl, loader))
+                    .orElse(value);
+        }
+        return value;
+    }
+
+    /**
+     * stale-while-revalidate 조회
+     * - 저장 후 ttl 이 지나면 stale 로 보고, 이후 staleTtl 동안은 기존 값을 바로 반환하면서 백그라운드에서 키당 한 번만 다시 계산합니다.
+     * - 값이 없거나 staleTtl 까지 지났으면 getOrLoad 처럼 요청 스레드에서 로딩합니다. (L2 에는 ttl + staleTtl 동안 저장)
+     * - loader 는 요청 스레드 밖에서도 실행되므로 트랜잭션이나 요청 정보에 의존하지 않아야 합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrLoadStale(String key, Duration ttl, Duration staleTtl, Supplier<T> loader) {
+        Duration storeTtl = ttl.plus(staleTtl);
+        CacheEnvelope cached = getEnvelope(key);
+        long now = System.currentTimeMillis();
+
+        // L1 은 expireAfterWrite 동안 남아 있으므로 논리적 만료 시각을 직접 확인합니다.
+        if (cached == null || now >= cached.getExpireAtMillis()) {
+            return loadShared(key, () -> load(key, storeTtl, loader));
+        }
+        if (now >= cached.getExpireAtMillis() - staleTtl.toMillis()) {
+            refreshInBackground(key, storeTtl, loader);
+        }
+        return (T) cached.getValue();
+    }
+
+    /**
+     * L2 에 TTL 과 함께 저장하고 L1 에도 적재합니다.
+     */
+    public void put(String key, Object value, Duration ttl) {
+        put(key, value, ttl, 0L);
+    }
+
+    /**
+     * L2 를 삭제하고 모든 노드의 L1 을 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후 한 번 더 무효화하여, 커밋 전에 다른 요청이 다시 적재한 이전 값을 제거합니다.
+     */
+    public void evict(String key) {
+        evictNow(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * SingleFlight 로 로딩하고, 다른 요청의 로딩 결과를 받은 경우 기다린 시간을 기록합니다.
+     */
+    private <T> T loadShared(String key, Supplier<T> load) {
+        AtomicBoolean loadedHere = new AtomicBoolean();
+        long start = System.nanoTime();
+        T value = singleFlight.execute(key, () -> {
+            loadedHere.set(true);
+            return load.get();
+        });
+        if (!loadedHere.get()) {
+            cacheMetrics.waited(key, System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    private <T> void refreshInBackground(String key, Duration ttl, Supplier<T> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        Thread.ofVirtual().name("near-cache-refresh").start(() -> {
+            try {
+                load(key, ttl, loader);
+            } catch (Exception e) {
+                // 실패해도 staleTtl 이 끝날 때까지는 기존 값을 계속 반환하고, 다음 요청에서 다시 시도합니다.
+                log.warn("캐시 백그라운드 갱신 실패: key={}, error={}", key, e.getMessage());
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    private <T> T load(String key, Duration ttl, Supplier<T> loader) {
+        long start = System.nanoTime();
+        T value = loader.get();
+        long elapsed = System.nanoTime() - start;
+        int size = put(key, value, ttl, elapsed / 1_000_000);
+        cacheMetrics.loaded(key, elapsed, size);
+        return value;
+    }
+
+    private <T> Optional<T> loadOptional(String key, Duration ttl, Supplier<Optional<T>> loader) {
+        long start = System.nanoTime();
+        Optional<T> value = loader.get();
+        long elapsed = System.nanoTime() - start;
+        int size = put(key, value.orElse(null), value.isPresent() ? ttl : negativeTtl, elapsed / 1_000_000);
+        cacheMetrics.loaded(key, elapsed, size);
+        return value;
+    }
+
+    private CacheEnvelope getEnvelope(String key) {
+        LocalEntry local = localCache.getIfPresent(key);
+        if (local != null) {
+            cacheMetrics.l1Hit(key);
+            return local.envelope();
+        }
+
+        byte[] bytes = cacheRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(serializeKey(key)));
+        return fromRemote(key, bytes);
+    }
+
+    /**
+     * L2 에서 읽은 바이트를 CacheEnvelope 으로 바꾸고 L1 에 적재합니다. (없거나 읽을 수 없으면 null)
+     */
+    private CacheEnvelope fromRemote(String key, byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            cacheMetrics.miss(key);
+            return null;
+        }
+
+        Object stored;
+        try {
+            stored = valueSerializer().deserialize(bytes);
+        } catch (SerializationException e) {
+            // 읽을 수 없는 형식(ex. 롤백된 노드에서 모르는 스키마 버전)은 미스로 보고 다시 적재합니다.
+            log.warn("캐시 값 역직렬화 실패, 미스로 처리: key={}, error={}", key, e.getMessage());
+            cacheMetrics.miss(key);
+            return null;
+        }
+        if (stored == null) {
+            cacheMetrics.miss(key);
+            return null;
+        }
+
+        // 메타 정보 없이 저장된 이전 형식의 값도 그대로 읽습니다.
+        CacheEnvelope envelope = stored instanceof CacheEnvelope cacheEnvelope
+                ? cacheEnvelope
+                : CacheEnvelope.legacy(stored);
+        localCache.put(key, new LocalEntry(envelope, weightOf(key, bytes)));
+        cacheMetrics.l2Hit(key, bytes.length);
+        return envelope;
+    }
+
+    /**
+     * @return 저장한 값의 직렬화 크기 (bytes)
+     */
+    private int put(String key, Object value, Duration ttl, long deltaMillis) {
+        CacheEnvelope envelope = new CacheEnvelope(value, deltaMillis, System.currentTimeMillis() + ttl.toMillis());
+        byte[] bytes = valueSerializer().serialize(envelope);
+
+        cacheRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(serializeKey(key), bytes, Expiration.from(ttl), SetOption.upsert()));
+
+        localCache.put(key, new LocalEntry(envelope, weightOf(key, bytes)));
+        return bytes.length;
+    }
+
+    private void evictNow(String key) {
+        cacheRedisTemplate.delete(key);
+        localCache.invalidate(key);
+
+        try {
+            invalidationTopic.publish(key);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1 은 expireAfterWrite 이후 자연 만료됩니다.
+            log.warn("L1 캐시 무효화 전파 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) cacheRedisTemplate.getValueSerializer();
+    }
+
+    private byte[] serializeKey(String key) {
+        return RedisSerializer.string().serialize(key);
+    }
+
+    private int weightOf(String key, byte[] bytes) {
+        return key.length() + bytes.length;
+    }
+
+    private record LocalEntry(CacheEnvelope envelope, int weight) {
+    }
+}
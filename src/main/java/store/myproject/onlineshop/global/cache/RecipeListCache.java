@@ -0,0 +1,175 @@
+package store.myproject.onlineshop.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.myproject.onlineshop.dto.recipe.RecipeCursorResponse;
+import store.myproject.onlineshop.dto.recipe.RecipeListCond;
+import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
+import store.myproject.onlineshop.global.utils.RedisKeyHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 레시피 목록 첫 페이지 캐시
+ * - 커서 없는 요청만 정규화한 조건(정렬, 인분, 조리 시간 범위, 크기)으로 키를 만들어 NearCache 에 저장합니다.
+ * - TTL 에 지터를 더해 함께 만들어진 키가 한꺼번에 만료되지 않게 하고, 만료 후 stale-ttl 동안은 기존 값을 반환하며 백그라운드에서 갱신합니다.
+ * - 레시피 등록/수정/삭제 시 목록 버전(recipe:list:version)을 올려 모든 조건의 키를 한 번에 바꿉니다. 이전 버전 키는 TTL 로 사라집니다.
+ * - 노드는 버전을 version-refresh 간격으로 다시 읽으므로, 다른 노드의 변경은 그만큼 늦게 보일 수 있습니다.
+ * - 캐시한 페이지는 모든 사용자가 공유하므로 항상 복사본을 반환합니다. (좋아요 여부, 미반영 카운터는 복사본에 채움)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeListCache {
+
+    private static final String VERSION = "version";
+
+    private final NearCache nearCache;
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+
+    @Value("${recipe.list-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipe.list-cache.ttl:20s}")
+    private Duration ttl;
+
+    @Value("${recipe.list-cache.ttl-jitter:10s}")
+    private Duration ttlJitter;
+
+    @Value("${recipe.list-cache.stale-ttl:60s}")
+    private Duration staleTtl;
+
+    @Value("${recipe.list-cache.max-size:30}")
+    private int maxSize;
+
+    @Value("${recipe.list-cache.version-refresh:1s}")
+    private Duration versionRefresh;
+
+    private volatile long version;
+    private volatile long versionReadAtMillis;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 첫 페이지이고 크기가 max-size 이하인 요청만 캐시합니다.
+     */
+    public boolean isCacheable(RecipeListCond cond) {
+        return enabled
+                && (cond.getNextUuid() == null || cond.getNextUuid().isBlank())
+                && cond.getSize() > 0 && cond.getSize() <= maxSize;
+    }
+
+    /**
+     * 캐시된 첫 페이지의 복사본을 반환하고, 없으면 loader 로 만들어 저장합니다.
+     * loader 는 백그라운드 갱신에서도 실행되므로 요청 사용자에 따라 달라지는 값을 채우면 안 됩니다.
+     */
+    public RecipeCursorResponse getOrLoad(RecipeListCond cond, Supplier<RecipeCursorResponse> loader) {
+        String key = RedisKeyHelper.getRecipeListKey("v" + currentVersion() + ":" + page(cond));
+        RecipeCursorResponse cached = nearCache.getOrLoadStale(key, jitteredTtl(), staleTtl, loader);
+        return copyOf(cached);
+    }
+
+    /**
+     * 목록 버전을 올려 모든 첫 페이지 캐시를 무효화합니다. 트랜잭션 안에서 호출되면 커밋 이후에 올립니다.
+     */
+    public void invalidate() {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow();
+                }
+            });
+            return;
+        }
+        invalidateNow();
+    }
+
+    /**
+     * 조건을 캐시 키 접미사로 정규화합니다. (매퍼와 같은 규칙: 알 수 없는 정렬은 최신순, 0 은 조건 없음, 조리 시간은 범위 양쪽이 있을 때만)
+     */
+    static String page(RecipeListCond cond) {
+        String sortBy = "view".equals(cond.getSortBy()) || "like".equals(cond.getSortBy()) ? cond.getSortBy() : "recent";
+        int servings = cond.getServings() == null ? 0 : cond.getServings();
+        boolean cookingTime = cond.getCookingTimeFrom() != null && cond.getCookingTimeFrom() != 0
+                && cond.getCookingTimeTo() != null && cond.getCookingTimeTo() != 0;
+        return String.format("%s:s%d:t%d-%d:n%d", sortBy, servings,
+                cookingTime ? cond.getCookingTimeFrom() : 0,
+                cookingTime ? cond.getCookingTimeTo() : 0,
+                cond.getSize());
+    }
+
+    private long currentVersion() {
+        long now = System.currentTimeMillis();
+        if (now - versionReadAtMillis < versionRefresh.toMillis()) {
+            return version;
+        }
+        byte[] stored = cacheRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(bytes(versionKey())));
+        version = stored == null ? 0 : Long.parseLong(new String(stored, StandardCharsets.UTF_8));
+        versionReadAtMillis = now;
+        return version;
+    }
+
+    private void invalidateNow() {
+        try {
+            Long next = cacheRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.stringCommands().incr(bytes(versionKey())));
+            if (next != null) {
+                version = next;
+                versionReadAtMillis = System.currentTimeMillis();
+            }
+        } catch (Exception e) {
+            // 실패해도 이전 버전 키는 ttl + stale-ttl 이후 만료됩니다.
+            log.warn("레시피 목록 캐시 무효화 실패: error={}", e.getMessage());
+        }
+    }
+
+    private Duration jitteredTtl() {
+        long jitterMillis = ttlJitter.toMillis();
+        return jitterMillis <= 0 ? ttl : ttl.plusMillis(ThreadLocalRandom.current().nextLong(jitterMillis + 1));
+    }
+
+    private static RecipeCursorResponse copyOf(RecipeCursorResponse page) {
+        return RecipeCursorResponse.of(
+                page.getContent().stream().map(RecipeListCache::copyOf).toList(),
+                page.getNextUuid(), page.getNextViewCount(), page.getNextLikeCount());
+    }
+
+    private static SimpleRecipeDto copyOf(SimpleRecipeDto recipe) {
+        return SimpleRecipeDto.builder()
+                .recipeUuid(recipe.getRecipeUuid())
+                .title(recipe.getTitle())
+                .recipeDescription(recipe.getRecipeDescription())
+                .thumbnail(recipe.getThumbnail())
+                .writer(recipe.getWriter())
+                .recipeCookingTime(recipe.getRecipeCookingTime())
+                .recipeServings(recipe.getRecipeServings())
+                .recipeView(recipe.getRecipeView())
+                .reviewCnt(recipe.getReviewCnt())
+                .likeCnt(recipe.getLikeCnt())
+                .build();
+    }
+
+    private static String versionKey() {
+        return RedisKeyHelper.getRecipeListKey(VERSION);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
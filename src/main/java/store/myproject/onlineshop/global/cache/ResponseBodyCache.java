@@ -0,0 +1,26 @@
+package store.myproject.onlineshop.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.dto.common.Response;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 직렬화가 끝난 HTTP 응답 본문(Response 포함 JSON 바이트) 캐시
+ * - 히트 시 객체 그래프를 만들지 않고 바이트를 그대로 응답 스트림에 씁니다.
+ * - 미스 시 MVC 와 같은 JsonMapper 로 Response.success(...) 를 직렬화해 NearCache 에 저장합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCache {
+
+    private final NearCache nearCache;
+    private final JsonMapper jsonMapper;
+
+    public byte[] getOrLoad(String key, Duration ttl, Supplier<?> loader) {
+        return nearCache.getOrLoad(key, ttl, () -> jsonMapper.writeValueAsBytes(Response.success(loader.get())));
+    }
+}
@@ -0,0 +1,70 @@
+package store.myproject.onlineshop.global.cache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로딩을 하나로 합치는 JVM 내부 요청 병합기
+ * - 처음 도착한 요청(리더)이 자기 스레드에서 로딩을 수행 (트랜잭션/읽기 전용 라우팅 유지)
+ * - 이후 도착한 요청은 리더의 CompletableFuture 결과를 공유 (sleep 재시도 없음)
+ */
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 로딩이 있으면 그 결과를 기다리고, 없으면 직접 로딩합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing != null) {
+            return (T) await(existing);
+        }
+        return lead(key, mine, loader);
+    }
+
+    /**
+     * 진행 중인 로딩이 없을 때만 직접 로딩합니다. 다른 요청이 로딩 중이면 기다리지 않고 빈 값을 반환합니다.
+     */
+    public <T> Optional<T> executeIfIdle(String key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(lead(key, mine, loader));
+    }
+
+    private <T> T lead(String key, CompletableFuture<Object> mine, Supplier<T> loader) {
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 리더에서 발생한 예외(ex. RECIPE_NOT_FOUND)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import store.myproject.onlineshop.global.cache.CacheEnvelope;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 값 바이너리 Serializer
+ * <pre>
+ * [MAGIC 0xCA][포맷 버전][플래그][본문]
+ * 본문: 태그(1) + 값  (타입별 코덱은 태그 뒤에 스키마 버전을 기록, byte[] 는 그대로 기록)
+ * 플래그 COMPRESSED: 본문 = 원본 길이 varint + Deflate 압축 바이트
+ * </pre>
+ * - 코덱이 없는 타입은 기존 JSON Serializer 결과를 본문에 그대로 담습니다.
+ * - 첫 바이트가 MAGIC 이 아니면 이전 JSON 형식으로 보고 JSON Serializer 로 읽습니다. (롤아웃 중 호환)
+ */
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    static final int MAGIC = 0xCA;
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_COMPRESSED = 0x01;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_ENVELOPE = 1;
+    private static final int TAG_LIST = 2;
+    private static final int TAG_CODEC = 3;
+    private static final int TAG_JSON = 4;
+    private static final int TAG_BYTES = 5;
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final boolean writeBinary;
+    private final int compressThresholdBytes;
+    private final int maxValueBytes;
+
+    private final Map<Class<?>, CacheCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, CacheCodec<?>> codecsById = new HashMap<>();
+
+    /**
+     * @param jsonSerializer         코덱이 없는 타입과 이전 형식 값을 처리할 JSON Serializer
+     * @param writeBinary            false 면 JSON 으로 저장 (읽기는 두 형식 모두 지원)
+     * @param compressThresholdBytes 본문이 이 크기 이상이면 압축 (0 이하면 압축하지 않음)
+     * @param maxValueBytes          압축 해제 후 허용하는 최대 본문 크기 (이보다 큰 본문은 압축하지 않음)
+     */
+    public BinaryCacheSerializer(RedisSerializer<Object> jsonSerializer, boolean writeBinary,
+                                 int compressThresholdBytes, int maxValueBytes, List<CacheCodec<?>> codecs) {
+        this.jsonSerializer = jsonSerializer;
+        this.writeBinary = writeBinary;
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.maxValueBytes = maxValueBytes;
+
+        for (CacheCodec<?> codec : codecs) {
+            if (codecsById.put(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("중복된 캐시 코덱 typeId: " + codec.typeId());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (!writeBinary && !isRawBytes(value)) {
+            return jsonSerializer.serialize(value);
+        }
+
+        CacheOutput body = new CacheOutput(256);
+        writeValue(body, value);
+
+        if (compressThresholdBytes > 0 && body.size() >= compressThresholdBytes && body.size() <= maxValueBytes) {
+            byte[] compressed = compress(body);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+
+        CacheOutput out = new CacheOutput(body.size() + 3);
+        writeHeader(out, 0);
+        out.writeRaw(body.buffer(), 0, body.size());
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != FORMAT_VERSION) {
+            throw new SerializationException("지원하지 않는 캐시 포맷 버전입니다.");
+        }
+
+        CacheInput in = (bytes[2] & FLAG_COMPRESSED) != 0
+                ? decompress(bytes)
+                : new CacheInput(bytes, 3, bytes.length);
+        return readValue(in);
+    }
+
+    /**
+     * 응답 본문 바이트는 이전 노드가 읽지 않는 새 키에만 저장되므로 json 모드에서도 바이너리로 기록합니다.
+     */
+    private boolean isRawBytes(Object value) {
+        Object unwrapped = value instanceof CacheEnvelope envelope ? envelope.getValue() : value;
+        return unwrapped instanceof byte[];
+    }
+
+    private void writeHeader(CacheOutput out, int flags) {
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(flags);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeValue(CacheOutput out, Object value) {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+        if (value instanceof CacheEnvelope envelope) {
+            out.writeByte(TAG_ENVELOPE);
+            out.writeLong(envelope.getDeltaMillis());
+            out.writeLong(envelope.getExpireAtMillis());
+            writeValue(out, envelope.getValue());
+            return;
+        }
+        if (value instanceof byte[] bytes) {
+            out.writeByte(TAG_BYTES);
+            out.writeBytes(bytes);
+            return;
+        }
+        if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeList((List<Object>) list, this::writeValue);
+            return;
+        }
+
+        CacheCodec<Object> codec = (CacheCodec<Object>) codecsByType.get(value.getClass());
+        if (codec != null) {
+            out.writeByte(TAG_CODEC);
+            out.writeInt(codec.typeId());
+            out.writeInt(codec.schemaVersion());
+            codec.write(out, value);
+            return;
+        }
+
+        out.writeByte(TAG_JSON);
+        out.writeBytes(jsonSerializer.serialize(value));
+    }
+
+    private Object readValue(CacheInput in) {
+        int tag = in.readByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_ENVELOPE -> {
+                long deltaMillis = in.readLong();
+                long expireAtMillis = in.readLong();
+                yield new CacheEnvelope(readValue(in), deltaMillis, expireAtMillis);
+            }
+            case TAG_LIST -> in.readList(this::readValue);
+            case TAG_CODEC -> {
+                int typeId = in.readInt();
+                CacheCodec<?> codec = codecsById.get(typeId);
+                if (codec == null) {
+                    throw new SerializationException("알 수 없는 캐시 코덱 typeId: " + typeId);
+                }
+                yield codec.read(in, in.readInt());
+            }
+            case TAG_JSON -> jsonSerializer.deserialize(in.readBytes());
+            case TAG_BYTES -> in.readBytes();
+            default -> throw new SerializationException("알 수 없는 캐시 값 태그: " + tag);
+        };
+    }
+
+    /**
+     * 압축 결과가 원본보다 작을 때만 압축된 바이트를 반환합니다.
+     */
+    private byte[] compress(CacheOutput body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body.buffer(), 0, body.size());
+            deflater.finish();
+
+            byte[] chunk = new byte[body.size()];
+            int length = deflater.deflate(chunk);
+            if (!deflater.finished()) {
+                return null;
+            }
+
+            CacheOutput out = new CacheOutput(length + 8);
+            writeHeader(out, FLAG_COMPRESSED);
+            out.writeInt(body.size());
+            out.writeRaw(chunk, 0, length);
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 헤더의 원본 길이는 할당 전에 검사합니다. (손상된 값이 OOM 대신 SerializationException 으로 끝나도록)
+     */
+    private CacheInput decompress(byte[] bytes) {
+        CacheInput header = new CacheInput(bytes, 3, bytes.length);
+        int originalLength = header.readInt();
+        int offset = header.position();
+        if (originalLength < 0 || originalLength > maxValueBytes) {
+            throw new SerializationException("캐시 값 압축 해제 에러: 잘못된 길이 " + originalLength);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] body = new byte[originalLength];
+            int length = inflater.inflate(body);
+            if (length != originalLength || !inflater.finished()) {
+                throw new SerializationException("캐시 값 압축 해제 에러: 길이가 맞지 않습니다.");
+            }
+            return new CacheInput(body, 0, length);
+        } catch (DataFormatException e) {
+            throw new SerializationException("캐시 값 압축 해제 에러: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
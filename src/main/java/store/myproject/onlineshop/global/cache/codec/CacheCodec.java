@@ -0,0 +1,19 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+/**
+ * 타입별 캐시 바이너리 코덱
+ * - typeId: 저장 포맷에 기록되는 타입 식별자 (한 번 배포되면 바꾸지 않습니다)
+ * - schemaVersion: 필드 구성이 바뀌면 올리고, read 에서 이전 버전도 계속 읽습니다.
+ */
+public interface CacheCodec<T> {
+
+    int typeId();
+
+    Class<T> type();
+
+    int schemaVersion();
+
+    void write(CacheOutput out, T value);
+
+    T read(CacheInput in, int schemaVersion);
+}
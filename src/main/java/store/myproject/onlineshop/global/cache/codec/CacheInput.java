@@ -0,0 +1,144 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 캐시 바이너리 포맷 읽기 버퍼 ({@link CacheOutput} 과 대칭)
+ * 잘린 값이나 잘못된 길이는 SerializationException 으로 알립니다.
+ */
+public class CacheInput {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public CacheInput(byte[] buffer, int offset, int limit) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = limit;
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public byte[] readBytes() {
+        int length = readLength();
+        require(length);
+        byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readVarLong() {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new SerializationException("캐시 바이너리 역직렬화 에러: 잘못된 varint");
+    }
+
+    public int readInt() {
+        return Math.toIntExact(readVarLong());
+    }
+
+    public long readLong() {
+        return readVarLong();
+    }
+
+    public Integer readNullableInt() {
+        return readBoolean() ? readInt() : null;
+    }
+
+    public Long readNullableLong() {
+        return readBoolean() ? readVarLong() : null;
+    }
+
+    public String readString() {
+        long encoded = readVarLong();
+        if (encoded == 0) {
+            return null;
+        }
+        int length = toLength(encoded - 1);
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public UUID readUuid() {
+        if (!readBoolean()) {
+            return null;
+        }
+        return new UUID(readFixedLong(), readFixedLong());
+    }
+
+    public BigDecimal readBigDecimal() {
+        if (!readBoolean()) {
+            return null;
+        }
+        int scale = readInt();
+        return new BigDecimal(new BigInteger(readBytes()), scale);
+    }
+
+    public <T> List<T> readList(Function<CacheInput, T> elementReader) {
+        long size = readVarLong();
+        if (size < 0) {
+            return null;
+        }
+        int count = toLength(size);
+        List<T> values = new ArrayList<>(Math.min(count, limit - position));
+        for (int i = 0; i < count; i++) {
+            values.add(elementReader.apply(this));
+        }
+        return values;
+    }
+
+    int position() {
+        return position;
+    }
+
+    private int readLength() {
+        return toLength(readVarLong());
+    }
+
+    private long readFixedLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    private int toLength(long length) {
+        if (length < 0 || length > limit - position) {
+            throw new SerializationException("캐시 바이너리 역직렬화 에러: 잘못된 길이 " + length);
+        }
+        return (int) length;
+    }
+
+    private void require(int length) {
+        if (length > limit - position) {
+            throw new SerializationException("캐시 바이너리 역직렬화 에러: 데이터가 잘렸습니다.");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * 캐시 바이너리 포맷 쓰기 버퍼
+ * - 정수는 zigzag varint, 문자열은 (길이 + 1) varint + UTF-8 (0 이면 null)
+ * - nullable 값은 존재 여부 1바이트를 앞에 붙입니다.
+ */
+public class CacheOutput {
+
+    private byte[] buffer;
+    private int position;
+
+    public CacheOutput(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        writeRaw(bytes, 0, bytes.length);
+    }
+
+    public void writeRaw(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeVarLong(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        writeByte((int) zigzag);
+    }
+
+    public void writeInt(int value) {
+        writeVarLong(value);
+    }
+
+    public void writeLong(long value) {
+        writeVarLong(value);
+    }
+
+    public void writeNullableInt(Integer value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(value);
+        }
+    }
+
+    public void writeNullableLong(Long value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(value);
+        }
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        writeRaw(bytes, 0, bytes.length);
+    }
+
+    public void writeUuid(UUID value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeFixedLong(value.getMostSignificantBits());
+            writeFixedLong(value.getLeastSignificantBits());
+        }
+    }
+
+    public void writeBigDecimal(BigDecimal value) {
+        writeBoolean(value != null);
+        if (value != null) {
+            writeVarLong(value.scale());
+            writeBytes(value.unscaledValue().toByteArray());
+        }
+    }
+
+    /**
+     * null 리스트는 -1 로 기록해 빈 리스트와 구분합니다.
+     */
+    public <T> void writeList(List<T> values, BiConsumer<CacheOutput, T> elementWriter) {
+        if (values == null) {
+            writeVarLong(-1);
+            return;
+        }
+        writeVarLong(values.size());
+        for (T value : values) {
+            elementWriter.accept(this, value);
+        }
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    private void writeFixedLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
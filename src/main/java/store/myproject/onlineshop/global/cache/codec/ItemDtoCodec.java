@@ -0,0 +1,50 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+import store.myproject.onlineshop.dto.item.ItemDto;
+
+/**
+ * ItemDto 바이너리 코덱
+ */
+public class ItemDtoCodec implements CacheCodec<ItemDto> {
+
+    private static final int V1 = 1;
+
+    @Override
+    public int typeId() {
+        return 2;
+    }
+
+    @Override
+    public Class<ItemDto> type() {
+        return ItemDto.class;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return V1;
+    }
+
+    @Override
+    public void write(CacheOutput out, ItemDto value) {
+        out.writeUuid(value.getUuid());
+        out.writeString(value.getItemName());
+        out.writeBigDecimal(value.getPrice());
+        out.writeList(value.getImageList(), CacheOutput::writeString);
+        out.writeString(value.getBrandName());
+    }
+
+    @Override
+    public ItemDto read(CacheInput in, int schemaVersion) {
+        if (schemaVersion != V1) {
+            throw new SerializationException("지원하지 않는 ItemDto 스키마 버전: " + schemaVersion);
+        }
+        return ItemDto.builder()
+                .uuid(in.readUuid())
+                .itemName(in.readString())
+                .price(in.readBigDecimal())
+                .imageList(in.readList(CacheInput::readString))
+                .brandName(in.readString())
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+import store.myproject.onlineshop.dto.recipe.RecipeCursorResponse;
+
+/**
+ * RecipeCursorResponse (목록 첫 페이지) 바이너리 코덱
+ * - 항목은 SimpleRecipeDtoCodec 으로 기록하고, 항목 스키마 버전을 목록 앞에 함께 기록합니다.
+ */
+public class RecipeCursorResponseCodec implements CacheCodec<RecipeCursorResponse> {
+
+    private static final int V1 = 1;
+
+    private final SimpleRecipeDtoCodec simpleRecipeDtoCodec = new SimpleRecipeDtoCodec();
+
+    @Override
+    public int typeId() {
+        return 4;
+    }
+
+    @Override
+    public Class<RecipeCursorResponse> type() {
+        return RecipeCursorResponse.class;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return V1;
+    }
+
+    @Override
+    public void write(CacheOutput out, RecipeCursorResponse value) {
+        out.writeInt(simpleRecipeDtoCodec.schemaVersion());
+        out.writeList(value.getContent(), simpleRecipeDtoCodec::write);
+        out.writeUuid(value.getNextUuid());
+        out.writeNullableLong(value.getNextViewCount());
+        out.writeNullableLong(value.getNextLikeCount());
+    }
+
+    @Override
+    public RecipeCursorResponse read(CacheInput in, int schemaVersion) {
+        if (schemaVersion != V1) {
+            throw new SerializationException("지원하지 않는 RecipeCursorResponse 스키마 버전: " + schemaVersion);
+        }
+        int contentSchemaVersion = in.readInt();
+        return RecipeCursorResponse.builder()
+                .content(in.readList(input -> simpleRecipeDtoCodec.read(input, contentSchemaVersion)))
+                .nextUuid(in.readUuid())
+                .nextViewCount(in.readNullableLong())
+                .nextLikeCount(in.readNullableLong())
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+import store.myproject.onlineshop.dto.recipe.RecipeDto;
+import store.myproject.onlineshop.dto.recipe.RecipeItemDto;
+import store.myproject.onlineshop.dto.recipestep.RecipeStepDto;
+
+/**
+ * RecipeDto (단계, 재료 포함) 바이너리 코덱
+ */
+public class RecipeDtoCodec implements CacheCodec<RecipeDto> {
+
+    private static final int V1 = 1;
+
+    @Override
+    public int typeId() {
+        return 1;
+    }
+
+    @Override
+    public Class<RecipeDto> type() {
+        return RecipeDto.class;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return V1;
+    }
+
+    @Override
+    public void write(CacheOutput out, RecipeDto value) {
+        out.writeUuid(value.getRecipeUuid());
+        out.writeString(value.getRecipeTitle());
+        out.writeString(value.getRecipeDescription());
+        out.writeNullableInt(value.getRecipeCookingTime());
+        out.writeNullableInt(value.getRecipeServings());
+        out.writeString(value.getRecipeWriter());
+        out.writeString(value.getThumbnailUrl());
+        out.writeNullableLong(value.getRecipeMetaId());
+        out.writeList(value.getItems(), RecipeDtoCodec::writeItem);
+        out.writeList(value.getSteps(), RecipeDtoCodec::writeStep);
+    }
+
+    @Override
+    public RecipeDto read(CacheInput in, int schemaVersion) {
+        if (schemaVersion != V1) {
+            throw new SerializationException("지원하지 않는 RecipeDto 스키마 버전: " + schemaVersion);
+        }
+        return RecipeDto.builder()
+                .recipeUuid(in.readUuid())
+                .recipeTitle(in.readString())
+                .recipeDescription(in.readString())
+                .recipeCookingTime(in.readNullableInt())
+                .recipeServings(in.readNullableInt())
+                .recipeWriter(in.readString())
+                .thumbnailUrl(in.readString())
+                .recipeMetaId(in.readNullableLong())
+                .items(in.readList(RecipeDtoCodec::readItem))
+                .steps(in.readList(RecipeDtoCodec::readStep))
+                .build();
+    }
+
+    private static void writeItem(CacheOutput out, RecipeItemDto item) {
+        out.writeUuid(item.getItemUuid());
+        out.writeString(item.getItemName());
+        out.writeBigDecimal(item.getItemPrice());
+        out.writeString(item.getBrandName());
+        out.writeString(item.getThumbnail());
+    }
+
+    private static RecipeItemDto readItem(CacheInput in) {
+        return RecipeItemDto.builder()
+                .itemUuid(in.readUuid())
+                .itemName(in.readString())
+                .itemPrice(in.readBigDecimal())
+                .brandName(in.readString())
+                .thumbnail(in.readString())
+                .build();
+    }
+
+    private static void writeStep(CacheOutput out, RecipeStepDto step) {
+        out.writeInt(step.getStepOrder());
+        out.writeString(step.getContent());
+        out.writeString(step.getImageUrl());
+    }
+
+    private static RecipeStepDto readStep(CacheInput in) {
+        return RecipeStepDto.builder()
+                .stepOrder(in.readInt())
+                .content(in.readString())
+                .imageUrl(in.readString())
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
+
+/**
+ * SimpleRecipeDto (목록 항목) 바이너리 코덱
+ */
+public class SimpleRecipeDtoCodec implements CacheCodec<SimpleRecipeDto> {
+
+    private static final int V1 = 1;
+
+    @Override
+    public int typeId() {
+        return 3;
+    }
+
+    @Override
+    public Class<SimpleRecipeDto> type() {
+        return SimpleRecipeDto.class;
+    }
+
+    @Override
+    public int schemaVersion() {
+        return V1;
+    }
+
+    @Override
+    public void write(CacheOutput out, SimpleRecipeDto value) {
+        out.writeUuid(value.getRecipeUuid());
+        out.writeString(value.getTitle());
+        out.writeString(value.getRecipeDescription());
+        out.writeString(value.getThumbnail());
+        out.writeString(value.getWriter());
+        out.writeNullableInt(value.getRecipeCookingTime());
+        out.writeNullableInt(value.getRecipeServings());
+        out.writeNullableLong(value.getRecipeView());
+        out.writeNullableLong(value.getReviewCnt());
+        out.writeNullableLong(value.getLikeCnt());
+    }
+
+    @Override
+    public SimpleRecipeDto read(CacheInput in, int schemaVersion) {
+        if (schemaVersion != V1) {
+            throw new SerializationException("지원하지 않는 SimpleRecipeDto 스키마 버전: " + schemaVersion);
+        }
+        return SimpleRecipeDto.builder()
+                .recipeUuid(in.readUuid())
+                .title(in.readString())
+                .recipeDescription(in.readString())
+                .thumbnail(in.readString())
+                .writer(in.readString())
+                .recipeCookingTime(in.readNullableInt())
+                .recipeServings(in.readNullableInt())
+                .recipeView(in.readNullableLong())
+                .reviewCnt(in.readNullableLong())
+                .likeCnt(in.readNullableLong())
+                .build();
+    }
+}
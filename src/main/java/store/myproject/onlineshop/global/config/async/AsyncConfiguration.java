@@ -1,50 +1,94 @@
 package store.myproject.onlineshop.global.config.async;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import store.myproject.onlineshop.global.config.async.BulkheadExecutor.OverflowPolicy;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
+/**
+ * 비동기 작업 Executor
+ * - 기본: 고정 크기 ThreadPoolTaskExecutor (큐가 가득 차면 RejectedExecutionException)
+ * - async.executor.virtual-threads=true: 작업마다 가상 스레드 + 세마포어 동시 실행 제한 (BulkheadExecutor)
+ */
 @Slf4j
 @EnableAsync
 @Configuration
 public class AsyncConfiguration implements AsyncConfigurer {
 
+    @Value("${async.executor.virtual-threads:false}")
+    private boolean virtualThreads;
+
     @Bean(name = "mailExecutor")
-    public Executor mailExecutor() {
+    public Executor mailExecutor(
+            @Value("${async.executor.mail.max-concurrency:15}") int maxConcurrency,
+            @Value("${async.executor.mail.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+            @Value("${async.executor.mail.acquire-timeout:5s}") Duration acquireTimeout,
+            AsyncExecutorMetrics asyncExecutorMetrics) {
+        if (virtualThreads) {
+            BulkheadExecutor executor = BulkheadExecutor.virtual("Mail-Executor-", maxConcurrency, overflowPolicy, acquireTimeout);
+            asyncExecutorMetrics.instrument("mailExecutor", executor);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(15);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("Mail-Executor-");
+        asyncExecutorMetrics.instrument("mailExecutor", executor);
 
         executor.initialize();
         return executor;
     }
 
     @Bean(name = "recipeMetaExecutor")
-    public Executor recipeMetaExecutor() {
+    public Executor recipeMetaExecutor(
+            @Value("${async.executor.recipe-meta.max-concurrency:10}") int maxConcurrency,
+            @Value("${async.executor.recipe-meta.overflow-policy:REJECT}") OverflowPolicy overflowPolicy,
+            @Value("${async.executor.recipe-meta.acquire-timeout:0ms}") Duration acquireTimeout,
+            AsyncExecutorMetrics asyncExecutorMetrics) {
+        if (virtualThreads) {
+            BulkheadExecutor executor = BulkheadExecutor.virtual("Recipe-Meta-Executor-", maxConcurrency, overflowPolicy, acquireTimeout);
+            asyncExecutorMetrics.instrument("recipeMetaExecutor", executor);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(800);
         executor.setThreadNamePrefix("Recipe-Meta-Executor-");
+        asyncExecutorMetrics.instrument("recipeMetaExecutor", executor);
 
         executor.initialize();
         return executor;
     }
 
     @Bean(name = "monthlyPurchaseExecutor")
-    public Executor monthlyPurchaseExecutor() {
+    public Executor monthlyPurchaseExecutor(
+            @Value("${async.executor.monthly-purchase.max-concurrency:5}") int maxConcurrency,
+            @Value("${async.executor.monthly-purchase.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy,
+            @Value("${async.executor.monthly-purchase.acquire-timeout:0ms}") Duration acquireTimeout,
+            AsyncExecutorMetrics asyncExecutorMetrics) {
+        if (virtualThreads) {
+            BulkheadExecutor executor = BulkheadExecutor.virtual("Monthly-Purchase-Executor-", maxConcurrency, overflowPolicy, acquireTimeout);
+            asyncExecutorMetrics.instrument("monthlyPurchaseExecutor", executor);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(800);
         executor.setThreadNamePrefix("Monthly-Purchase-Executor-");
+        asyncExecutorMetrics.instrument("monthlyPurchaseExecutor", executor);
 
         executor.initialize();
         return executor;
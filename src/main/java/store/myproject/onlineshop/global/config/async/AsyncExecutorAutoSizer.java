@@ -0,0 +1,124 @@
+package store.myproject.onlineshop.global.config.async;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.global.config.db.mysql.DataSourceConfiguration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 스레드 풀 core 크기 자동 조정 (async.executor.auto-sizing.enabled=true 일 때)
+ * - master 커넥션 풀이 포화되면(커넥션 대기 발생 또는 사용률 saturation-ratio 이상) 보호 대상이 아닌 풀부터 core 를 줄여
+ *   조회수 같은 대량 작업이 월 구매 금액 같은 작업의 커넥션을 빼앗지 않게 합니다.
+ * - 포화가 아니고 작업 대기 시간이 target-wait 를 넘으면 core 를 max 까지 늘리고, 한가하면 처음 크기로 되돌립니다.
+ * - 대기 시간은 직전 조정 이후 구간의 평균으로 판단합니다.
+ */
+@Slf4j
+@Component
+public class AsyncExecutorAutoSizer {
+
+    private final AsyncExecutorMetrics asyncExecutorMetrics;
+    private final ObjectProvider<HikariDataSource> masterDataSource;
+    private final Map<String, Integer> initialCoreSizes = new HashMap<>();
+    private final Map<String, long[]> lastWaits = new HashMap<>();
+
+    @Value("${async.executor.auto-sizing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${async.executor.auto-sizing.target-wait:100ms}")
+    private Duration targetWait;
+
+    @Value("${async.executor.auto-sizing.saturation-ratio:0.9}")
+    private double saturationRatio;
+
+    @Value("${async.executor.auto-sizing.step:2}")
+    private int step;
+
+    @Value("${async.executor.auto-sizing.protected:monthlyPurchaseExecutor}")
+    private Set<String> protectedExecutors;
+
+    public AsyncExecutorAutoSizer(AsyncExecutorMetrics asyncExecutorMetrics,
+                                  @Qualifier(DataSourceConfiguration.MASTER_DATASOURCE) ObjectProvider<HikariDataSource> masterDataSource) {
+        this.asyncExecutorMetrics = asyncExecutorMetrics;
+        this.masterDataSource = masterDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${async.executor.auto-sizing.interval-ms:10000}")
+    public void adjust() {
+        if (!enabled) {
+            return;
+        }
+
+        boolean saturated = isDatabaseSaturated();
+        asyncExecutorMetrics.getPools().forEach((name, executor) -> {
+            int current = executor.getCorePoolSize();
+            int initial = initialCoreSizes.computeIfAbsent(name, key -> current);
+            int next = nextCoreSize(current, initial, executor.getMaxPoolSize(), saturated,
+                    protectedExecutors.contains(name), meanWaitMillis(name), executor.getQueueSize());
+            if (next != current) {
+                executor.setCorePoolSize(next);
+                log.info("비동기 스레드 풀 core 크기 조정: executor={}, {} -> {}, dbSaturated={}", name, current, next, saturated);
+            }
+        });
+    }
+
+    /**
+     * 다음 core 크기
+     * - DB 포화: 보호 대상이 아니면 step 만큼 줄임 (최소 1)
+     * - 대기 시간이 target-wait 초과이고 큐에 작업이 있음: step 만큼 늘림 (최대 max)
+     * - 큐가 비어 있음: 처음 크기보다 크면 step 만큼 되돌림
+     */
+    int nextCoreSize(int current, int initial, int max, boolean saturated, boolean protectedExecutor,
+                     double meanWaitMillis, int queueDepth) {
+        if (saturated) {
+            return protectedExecutor ? current : Math.max(1, current - step);
+        }
+        if (meanWaitMillis > targetWait.toMillis() && queueDepth > 0) {
+            return Math.min(max, current + step);
+        }
+        if (queueDepth == 0 && current > initial) {
+            return Math.max(initial, current - step);
+        }
+        if (queueDepth == 0 && current < initial) {
+            return Math.min(initial, current + step);
+        }
+        return current;
+    }
+
+    private boolean isDatabaseSaturated() {
+        HikariDataSource dataSource = masterDataSource.getIfAvailable();
+        HikariPoolMXBean pool = dataSource == null ? null : dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return false;
+        }
+        return pool.getThreadsAwaitingConnection() > 0
+                || pool.getActiveConnections() >= dataSource.getMaximumPoolSize() * saturationRatio;
+    }
+
+    // 직전 조정 이후 구간의 평균 대기 시간
+    private double meanWaitMillis(String name) {
+        Timer timer = asyncExecutorMetrics.getWaitTimer(name);
+        if (timer == null) {
+            return 0;
+        }
+        long count = timer.count();
+        long totalNanos = (long) timer.totalTime(TimeUnit.NANOSECONDS);
+        long[] last = lastWaits.put(name, new long[]{count, totalNanos});
+        if (last == null || count <= last[0]) {
+            return 0;
+        }
+        return (totalNanos - last[1]) / (double) (count - last[0]) / 1_000_000;
+    }
+}
@@ -0,0 +1,98 @@
+package store.myproject.onlineshop.global.config.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 Executor 지표 (Executor 빈 이름별)
+ * <pre>
+ * async.executor.active      {name}  실행 중인 작업 수
+ * async.executor.pool.size   {name}  현재 스레드 수 (bulkhead 는 최대 동시 실행 수)
+ * async.executor.queue.depth {name}  큐에서 기다리는 작업 수 (bulkhead 는 큐 없음)
+ * async.executor.task.wait   {name}  제출부터 실행 시작까지 걸린 시간
+ * async.executor.task.run    {name}  작업 실행 시간
+ * async.executor.rejected    {name}  거절된 작업 수
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class AsyncExecutorMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ThreadPoolTaskExecutor> pools = new ConcurrentHashMap<>();
+    private final Map<String, Timer> waitTimers = new ConcurrentHashMap<>();
+
+    /**
+     * 스레드 풀에 지표를 붙입니다. initialize() 전에 호출해야 합니다.
+     */
+    public void instrument(String name, ThreadPoolTaskExecutor executor) {
+        Counter rejected = Counter.builder("async.executor.rejected").tag("name", name).register(meterRegistry);
+        executor.setTaskDecorator(timing(name));
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Task " + task + " rejected from " + pool);
+        });
+
+        Gauge.builder("async.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("async.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("async.executor.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("name", name).register(meterRegistry);
+        pools.put(name, executor);
+    }
+
+    public void instrument(String name, BulkheadExecutor executor) {
+        executor.setTaskDecorator(timing(name));
+
+        FunctionCounter.builder("async.executor.rejected", executor, BulkheadExecutor::getRejectedCount)
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("async.executor.active", executor, BulkheadExecutor::getActiveCount)
+                .tag("name", name).register(meterRegistry);
+        Gauge.builder("async.executor.pool.size", executor, BulkheadExecutor::getMaxConcurrency)
+                .tag("name", name).register(meterRegistry);
+    }
+
+    /**
+     * 지표를 붙인 스레드 풀 (AsyncExecutorAutoSizer 가 크기 조정에 사용)
+     */
+    public Map<String, ThreadPoolTaskExecutor> getPools() {
+        return pools;
+    }
+
+    public Timer getWaitTimer(String name) {
+        return waitTimers.get(name);
+    }
+
+    private TaskDecorator timing(String name) {
+        Timer wait = Timer.builder("async.executor.task.wait").tag("name", name).register(meterRegistry);
+        Timer run = Timer.builder("async.executor.task.run").tag("name", name).register(meterRegistry);
+        waitTimers.put(name, wait);
+
+        return task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                wait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    run.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+}
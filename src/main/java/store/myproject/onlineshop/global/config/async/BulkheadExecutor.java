@@ -0,0 +1,142 @@
+package store.myproject.onlineshop.global.config.async;
+
+import org.springframework.core.task.TaskDecorator;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 실행 수를 세마포어로 제한하는 Executor (bulkhead)
+ * - 작업마다 가상 스레드에서 실행하고, 큐 길이 대신 허가 수(= 동시에 DB 커넥션을 쓸 수 있는 작업 수)로 제한합니다.
+ * - 허가를 얻지 못하면 OverflowPolicy 에 따라 기다리거나, 호출 스레드에서 실행하거나, 거절합니다.
+ */
+public class BulkheadExecutor implements Executor, AutoCloseable {
+
+    public enum OverflowPolicy {
+        // acquire-timeout 동안 허가를 기다리고, 그래도 없으면 거절
+        BLOCK,
+        // 호출 스레드에서 바로 실행 (유실 없음, 호출 측 응답이 느려질 수 있음)
+        CALLER_RUNS,
+        // 바로 거절 (RecipeService 카운터 작업은 AsyncFailureLog 에 남아 재실행 스케줄러가 반영)
+        REJECT
+    }
+
+    private final String name;
+    private final Executor delegate;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration acquireTimeout;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    private TaskDecorator taskDecorator;
+
+    public BulkheadExecutor(String name, Executor delegate, int maxConcurrency,
+                            OverflowPolicy overflowPolicy, Duration acquireTimeout) {
+        this.name = name;
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.overflowPolicy = overflowPolicy;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 bulkhead
+     */
+    public static BulkheadExecutor virtual(String threadNamePrefix, int maxConcurrency,
+                                           OverflowPolicy overflowPolicy, Duration acquireTimeout) {
+        ExecutorService delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        return new BulkheadExecutor(threadNamePrefix, delegate, maxConcurrency, overflowPolicy, acquireTimeout);
+    }
+
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        this.taskDecorator = taskDecorator;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Runnable task = taskDecorator == null ? command : taskDecorator.decorate(command);
+        if (permits.tryAcquire()) {
+            submit(task);
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                if (!acquire()) {
+                    throw reject();
+                }
+                submit(task);
+            }
+            case CALLER_RUNS -> {
+                callerRuns.increment();
+                task.run();
+            }
+            case REJECT -> throw reject();
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getCallerRunsCount() {
+        return callerRuns.sum();
+    }
+
+    /**
+     * 실행 중인 작업이 끝날 때까지 기다린 뒤 종료합니다.
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private RejectedExecutionException reject() {
+        rejected.increment();
+        return new RejectedExecutionException(name + " 동시 실행 한도 초과: maxConcurrency=" + maxConcurrency);
+    }
+}
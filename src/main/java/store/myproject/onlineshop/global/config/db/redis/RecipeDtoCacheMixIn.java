@@ -0,0 +1,12 @@
+package store.myproject.onlineshop.global.config.db.redis;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * API 응답에서는 숨기는 RecipeDto 내부 식별자를 캐시 직렬화에는 포함시키기 위한 MixIn
+ */
+abstract class RecipeDtoCacheMixIn {
+
+    @JsonIgnore(false)
+    private Long recipeMetaId;
+}
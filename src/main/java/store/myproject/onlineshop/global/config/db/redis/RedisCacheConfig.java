@@ -11,6 +11,8 @@ import org.springframework.data.redis.connection.lettuce.LettuceClientConfigurat
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import store.myproject.onlineshop.dto.recipe.RecipeDto;
+import store.myproject.onlineshop.global.cache.codec.*;
 import tools.jackson.databind.*;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
@@ -18,6 +20,7 @@ import tools.jackson.databind.jsontype.PolymorphicTypeValidator;
 import tools.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class RedisCacheConfig {
@@ -32,6 +35,15 @@ public class RedisCacheConfig {
     @Value("${spring.data.redis.cache.password}")
     private String redisPassword;
 
+    @Value("${cache.codec.format:binary}")
+    private String cacheCodecFormat;
+
+    @Value("${cache.codec.compress-threshold-bytes:1024}")
+    private int compressThresholdBytes;
+
+    @Value("${cache.codec.max-value-bytes:16777216}")
+    private int maxValueBytes;
+
     @Bean(name = "redisConnectionFactory")
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration serverConfig = new RedisStandaloneConfiguration();
@@ -59,8 +71,11 @@ public class RedisCacheConfig {
         // Jackson 3 기반 Serializer
         Jackson3RedisSerializer<Object> jsonSerializer = new Jackson3RedisSerializer<>(redisObjectMapper());
 
+        // 캐시 값은 바이너리 코덱으로 저장하고, 이전 JSON 값도 그대로 읽음
+        BinaryCacheSerializer valueSerializer = cacheValueSerializer(jsonSerializer);
+
         template.setKeySerializer(RedisSerializer.string());
-        template.setValueSerializer(jsonSerializer);
+        template.setValueSerializer(valueSerializer);
         template.setHashKeySerializer(RedisSerializer.string());
         template.setHashValueSerializer(jsonSerializer);
         template.setDefaultSerializer(jsonSerializer);
@@ -70,6 +85,20 @@ public class RedisCacheConfig {
         return template;
     }
 
+    /**
+     * cache.codec.format=json 이면 기존 JSON 으로 저장합니다. (롤백 시 구버전 노드가 읽을 수 있도록)
+     */
+    private BinaryCacheSerializer cacheValueSerializer(Jackson3RedisSerializer<Object> jsonSerializer) {
+        List<CacheCodec<?>> codecs = List.of(
+                new RecipeDtoCodec(),
+                new ItemDtoCodec(),
+                new SimpleRecipeDtoCodec(),
+                new RecipeCursorResponseCodec()
+        );
+        boolean writeBinary = !"json".equalsIgnoreCase(cacheCodecFormat);
+        return new BinaryCacheSerializer(jsonSerializer, writeBinary, compressThresholdBytes, maxValueBytes, codecs);
+    }
+
     @Bean(name = "redisObjectMapper")
     public ObjectMapper redisObjectMapper() {
         // 애플리케이션 패키지만 허용하는 보안 강화 타입 검증기
@@ -77,6 +106,8 @@ public class RedisCacheConfig {
                 // 애플리케이션 도메인 패키지
                 .allowIfSubType("store.myproject.onlineshop.domain")
                 .allowIfSubType("store.myproject.onlineshop.dto")
+                // 캐시 메타 정보 (CacheEnvelope)
+                .allowIfSubType("store.myproject.onlineshop.global.cache")
                 // Java 표준 타입
                 .allowIfSubType("java.util.List")
                 .allowIfSubType("java.util.ArrayList")
@@ -89,6 +120,7 @@ public class RedisCacheConfig {
                 .allowIfSubType("java.time")
                 .allowIfSubType("java.lang.String")
                 .allowIfSubType("java.lang.Number")
+                .allowIfSubType("java.math.BigDecimal")
                 .allowIfSubType("java.lang.Boolean")
                 .allowIfSubType("java.util.UUID")
                 .build();
@@ -97,6 +129,9 @@ public class RedisCacheConfig {
                 // Java 8 날짜/시간 지원
                 .addModule(new JavaTimeModule())
 
+                // API 응답에서 숨긴 필드도 캐시에는 저장
+                .addMixIn(RecipeDto.class, RecipeDtoCacheMixIn.class)
+
                 // 역직렬화 설정
                 .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
                 .enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
@@ -76,6 +76,8 @@ public class SecurityConfiguration {
         configureRecipeAccess(authorize);
         configureReviewAccess(authorize);
         configureOrderAccess(authorize);
+        configureCacheAccess(authorize);
+        configureActuatorAccess(authorize);
 
         // 나머지 모든 요청 차단
         authorize.anyRequest().denyAll();
@@ -202,6 +204,22 @@ public class SecurityConfiguration {
         authorize.requestMatchers(HttpMethod.DELETE, orderDeletePaths).authenticated();
     }
 
+    private void configureCacheAccess(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry authorize) {
+        String[] cacheGetPaths = {"/api/v1/caches/hot-keys"};
+        String[] cachePostPaths = {"/api/v1/caches/warm-up"};
+
+        authorize.requestMatchers(HttpMethod.GET, cacheGetPaths).hasRole("ADMIN");
+        authorize.requestMatchers(HttpMethod.POST, cachePostPaths).hasRole("ADMIN");
+    }
+
+    private void configureActuatorAccess(AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry authorize) {
+        String[] actuatorPublicPaths = {"/actuator/health/**"};
+        String[] actuatorAdminPaths = {"/actuator/**"};
+
+        authorize.requestMatchers(HttpMethod.GET, actuatorPublicPaths).permitAll();
+        authorize.requestMatchers(HttpMethod.GET, actuatorAdminPaths).hasRole("ADMIN");
+    }
+
     private CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOriginPatterns(List.of("*"));
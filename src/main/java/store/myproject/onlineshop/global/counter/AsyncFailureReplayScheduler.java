@@ -0,0 +1,98 @@
+package store.myproject.onlineshop.global.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.domain.faillog.FailureStatus;
+import store.myproject.onlineshop.domain.faillog.JobType;
+import store.myproject.onlineshop.service.AsyncFailureReplayService;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실패한 비동기 작업을 주기적으로 재실행합니다.
+ * <pre>
+ * async.failure.replay.rows   {job_type}  재실행한 행 수
+ * async.failure.replay.batch              배치 하나의 처리 시간
+ * async.failure.backlog                   남은 FAILED 행 수 (실행마다 갱신)
+ * </pre>
+ */
+@Slf4j
+@Component
+public class AsyncFailureReplayScheduler {
+
+    private final AsyncFailureReplayService asyncFailureReplayService;
+    private final AsyncFailureLogRepository asyncFailureLogRepository;
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+    private final AtomicLong backlog = new AtomicLong();
+
+    @Value("${async-failure.replay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${async-failure.replay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${async-failure.replay.max-batches:20}")
+    private int maxBatches;
+
+    public AsyncFailureReplayScheduler(AsyncFailureReplayService asyncFailureReplayService,
+                                       AsyncFailureLogRepository asyncFailureLogRepository,
+                                       MeterRegistry meterRegistry) {
+        this.asyncFailureReplayService = asyncFailureReplayService;
+        this.asyncFailureLogRepository = asyncFailureLogRepository;
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = Timer.builder("async.failure.replay.batch")
+                .description("실패 작업 재실행 배치 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("async.failure.backlog", backlog, AtomicLong::get)
+                .description("재실행을 기다리는 실패 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${async-failure.replay.interval-ms:60000}")
+    public void replay() {
+        if (!enabled) {
+            return;
+        }
+
+        for (int i = 0; i < maxBatches; i++) {
+            Map<JobType, Integer> replayed;
+            try {
+                replayed = batchTimer.recordCallable(() -> asyncFailureReplayService.replay(batchSize));
+            } catch (Exception e) {
+                // 트랜잭션이 롤백되어 행은 FAILED 로 남고 다음 실행에서 다시 시도합니다.
+                log.error("실패 작업 재실행 실패: error={}", e.getMessage(), e);
+                break;
+            }
+
+            replayed.forEach((jobType, count) -> Counter.builder("async.failure.replay.rows")
+                    .tag("job_type", jobType.name())
+                    .description("재실행한 실패 작업 수")
+                    .register(meterRegistry)
+                    .increment(count));
+
+            int total = replayed.values().stream().mapToInt(Integer::intValue).sum();
+            if (total < batchSize) {
+                break;
+            }
+        }
+
+        refreshBacklog();
+    }
+
+    private void refreshBacklog() {
+        try {
+            backlog.set(asyncFailureLogRepository.countByFailureStatus(FailureStatus.FAILED));
+        } catch (Exception e) {
+            log.warn("실패 작업 수 조회 실패: error={}", e.getMessage());
+        }
+    }
+}
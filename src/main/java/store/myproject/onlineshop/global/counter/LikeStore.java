@@ -0,0 +1,227 @@
+package store.myproject.onlineshop.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.dto.like.LikeChange;
+import store.myproject.onlineshop.global.utils.RedisKeyHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Redis 좋아요 저장소
+ * - 레시피마다 좋아요한 고객 ID 를 Set(recipe:likers:{uuid}) 으로 두고, 토글 판단/좋아요 수 증가분/반영 대상 기록을 Lua 한 번으로 처리합니다.
+ *   같은 고객의 동시 토글도 Redis 에서 순서대로 실행되므로 좋아요 수가 정확히 한 번씩만 반영됩니다.
+ * - 좋아요 수 증가분은 RecipeCounterStore 의 Hash 에 더해져 RecipeCounterSyncScheduler 가 반영하고,
+ *   like_count 행은 변경된 (레시피, 고객) 을 dirty Set 에 모아 LikeSyncScheduler 가 일괄 반영합니다.
+ * - Set 이 없으면 DB 의 좋아요 목록으로 채운 뒤 토글합니다. (빈 Set 을 구분하기 위해 고객 ID 0 을 자리표시로 넣음)
+ * - recipe.counter.redis-enabled=false 면 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeStore {
+
+    private static final String DIRTY_KEY = "recipe:likes:dirty";
+    private static final String PLACEHOLDER = "0";
+    private static final long NOT_LOADED = -1L;
+
+    // 1: 좋아요, 0: 좋아요 취소, -1: Set 이 없어 DB 에서 채워야 함
+    private static final String TOGGLE_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local liked = 1
+            if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+                liked = 0
+            else
+                redis.call('SADD', KEYS[1], ARGV[1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('HINCRBY', KEYS[2], 'like', liked == 1 and 1 or -1)
+            redis.call('SADD', KEYS[3], ARGV[2])
+            redis.call('SADD', KEYS[4], ARGV[2] .. ':' .. ARGV[1])
+            return liked
+            """;
+
+    // 다른 노드가 먼저 채웠거나 토글했으면 덮어쓰지 않습니다.
+    private static final String LOAD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    // 고객별 좋아요 여부 (1: 좋아요, 0: 아님, -1: Set 이 없어 알 수 없음)
+    private static final String STATE_SCRIPT = """
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                if redis.call('EXISTS', key) == 0 then
+                    result[i] = -1
+                else
+                    result[i] = redis.call('SISMEMBER', key, ARGV[i])
+                end
+            end
+            return result
+            """;
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+
+    @Value("${recipe.counter.redis-enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipe.like.likers-ttl:7d}")
+    private Duration likersTtl;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요를 토글하고 토글 후 좋아요 상태를 반환합니다.
+     *
+     * @param likerLoader Set 이 없을 때 DB 에서 레시피의 좋아요 고객 ID 를 읽어옵니다.
+     */
+    public boolean toggle(UUID recipeUuid, Long customerId, Supplier<Collection<Long>> likerLoader) {
+        long result = runToggle(recipeUuid, customerId);
+        if (result == NOT_LOADED) {
+            load(recipeUuid, likerLoader.get());
+            result = runToggle(recipeUuid, customerId);
+        }
+        return result == 1L;
+    }
+
+    /**
+     * dirty Set 에서 최대 count 개의 (레시피, 고객) 을 꺼내 현재 좋아요 상태를 가져옵니다.
+     * Set 이 만료되어 상태를 알 수 없는 항목은 버립니다. 반영에 실패하면 restore 로 되돌려야 합니다.
+     */
+    public List<LikeChange> claim(int count) {
+        List<String> members = cacheRedisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<byte[]> popped = connection.setCommands().sPop(bytes(DIRTY_KEY), count);
+            return popped == null ? List.of() : popped.stream()
+                    .map(member -> new String(member, StandardCharsets.UTF_8))
+                    .toList();
+        });
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> recipeUuids = new ArrayList<>();
+        List<Long> customerIds = new ArrayList<>();
+        for (String member : members) {
+            int separator = member.lastIndexOf(':');
+            recipeUuids.add(UUID.fromString(member.substring(0, separator)));
+            customerIds.add(Long.parseLong(member.substring(separator + 1)));
+        }
+
+        List<Long> states = states(recipeUuids, customerIds);
+
+        List<LikeChange> changes = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            long state = states.get(i);
+            if (state == NOT_LOADED) {
+                log.warn("좋아요 Set 만료로 반영 불가: recipeUuid={}, customerId={}", recipeUuids.get(i), customerIds.get(i));
+                continue;
+            }
+            changes.add(new LikeChange(recipeUuids.get(i), customerIds.get(i), state == 1L));
+        }
+        return changes;
+    }
+
+    /**
+     * 고객이 각 레시피에 좋아요했는지 Lua 한 번으로 확인합니다.
+     * Set 이 없어 알 수 없는 레시피는 결과에서 빠지므로 DB 로 확인해야 합니다.
+     */
+    public Map<UUID, Boolean> getLikedStates(Long customerId, List<UUID> recipeUuids) {
+        if (recipeUuids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> states = states(recipeUuids, Collections.nCopies(recipeUuids.size(), customerId));
+        Map<UUID, Boolean> liked = new HashMap<>();
+        for (int i = 0; i < recipeUuids.size(); i++) {
+            if (states.get(i) != NOT_LOADED) {
+                liked.put(recipeUuids.get(i), states.get(i) == 1L);
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * claim 으로 가져온 (레시피, 고객) 을 dirty Set 에 되돌립니다. (상태는 다음 반영 시점에 다시 읽음)
+     */
+    public void restore(Collection<LikeChange> changes) {
+        cacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (LikeChange change : changes) {
+                connection.setCommands().sAdd(bytes(DIRTY_KEY), bytes(member(change.getRecipeUuid(), change.getCustomerId())));
+            }
+            return null;
+        }, RedisSerializer.string());
+    }
+
+    private long runToggle(UUID recipeUuid, Long customerId) {
+        Long result = cacheRedisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands().eval(
+                bytes(TOGGLE_SCRIPT), ReturnType.INTEGER, 4,
+                key(recipeUuid),
+                bytes(RedisKeyHelper.getRecipeCounterKey(recipeUuid)),
+                bytes(RecipeCounterStore.DIRTY_KEY),
+                bytes(DIRTY_KEY),
+                bytes(customerId.toString()),
+                bytes(recipeUuid.toString()),
+                bytes(String.valueOf(likersTtl.toSeconds()))));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    private List<Long> states(List<UUID> recipeUuids, List<Long> customerIds) {
+        List<Object> states = cacheRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            byte[][] keysAndArgs = new byte[recipeUuids.size() * 2][];
+            for (int i = 0; i < recipeUuids.size(); i++) {
+                keysAndArgs[i] = key(recipeUuids.get(i));
+                keysAndArgs[recipeUuids.size() + i] = bytes(customerIds.get(i).toString());
+            }
+            return connection.scriptingCommands().eval(bytes(STATE_SCRIPT), ReturnType.MULTI, recipeUuids.size(), keysAndArgs);
+        });
+        return states.stream().map(state -> ((Number) state).longValue()).toList();
+    }
+
+    private void load(UUID recipeUuid, Collection<Long> likerIds) {
+        byte[][] keysAndArgs = new byte[likerIds.size() + 3][];
+        int i = 0;
+        keysAndArgs[i++] = key(recipeUuid);
+        keysAndArgs[i++] = bytes(String.valueOf(likersTtl.toSeconds()));
+        keysAndArgs[i++] = bytes(PLACEHOLDER);
+        for (Long likerId : likerIds) {
+            keysAndArgs[i++] = bytes(likerId.toString());
+        }
+        cacheRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(bytes(LOAD_SCRIPT), ReturnType.INTEGER, 1, keysAndArgs));
+    }
+
+    private byte[] key(UUID recipeUuid) {
+        return bytes(RedisKeyHelper.getRecipeLikersKey(recipeUuid));
+    }
+
+    private static String member(UUID recipeUuid, Long customerId) {
+        return recipeUuid + ":" + customerId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,79 @@
+package store.myproject.onlineshop.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.domain.like.LikeRepository;
+import store.myproject.onlineshop.dto.like.LikeChange;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 좋아요 Set 의 변경을 like_count 에 일괄 반영합니다.
+ * - dirty Set 에서 batch-size 개씩 꺼내 반영 시점의 좋아요 상태대로 INSERT/UPDATE 한 번씩 실행합니다.
+ *   (짧은 시간에 여러 번 토글해도 마지막 상태만 반영)
+ * - INSERT/UPDATE 모두 이미 반영된 행은 건너뛰므로, 실패 시 dirty Set 에 되돌려 다시 반영해도 중복되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeSyncScheduler {
+
+    private final LikeStore likeStore;
+    private final LikeRepository likeRepository;
+
+    @Value("${recipe.like.sync.batch-size:500}")
+    private int batchSize;
+
+    @Value("${recipe.like.sync.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${recipe.like.sync.interval-ms:1000}")
+    public void sync() {
+        if (!likeStore.isEnabled()) {
+            return;
+        }
+
+        for (int i = 0; i < maxBatches; i++) {
+            List<LikeChange> claimed;
+            try {
+                claimed = likeStore.claim(batchSize);
+            } catch (Exception e) {
+                log.warn("좋아요 변경 가져오기 실패: error={}", e.getMessage());
+                return;
+            }
+            if (claimed.isEmpty()) {
+                return;
+            }
+            if (!write(claimed)) {
+                return;
+            }
+        }
+    }
+
+    private boolean write(List<LikeChange> claimed) {
+        try {
+            Map<Boolean, List<LikeChange>> byState = claimed.stream()
+                    .collect(Collectors.partitioningBy(LikeChange::isLiked));
+            likeRepository.insertLikes(byState.get(true));
+            likeRepository.deleteLikes(byState.get(false));
+            return true;
+        } catch (Exception e) {
+            log.error("좋아요 반영 실패, Redis 로 되돌림: size={}, error={}", claimed.size(), e.getMessage(), e);
+            restore(claimed);
+            return false;
+        }
+    }
+
+    private void restore(List<LikeChange> claimed) {
+        try {
+            likeStore.restore(claimed);
+        } catch (Exception e) {
+            log.error("좋아요 변경 되돌리기 실패, 변경 유실: size={}", claimed.size(), e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package store.myproject.onlineshop.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.myproject.onlineshop.global.utils.RedisKeyHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Redis 레시피 카운터 (조회수/좋아요 수)
+ * - 리뷰 수는 ReviewCountBuffer 가 DB 에 바로 반영하므로 여기서 모으지 않습니다.
+ * - 레시피마다 Hash(recipe:counter:{uuid}) 에 아직 DB 에 반영되지 않은 증가분을 HINCRBY 로 모읍니다.
+ * - 증가분이 생긴 레시피는 dirty Set 에 기록하고, RecipeCounterSyncScheduler 가 주기적으로 꺼내 recipe_meta 에 일괄 반영합니다.
+ * - 조회 시에는 DB 값에 이 증가분을 더해 실시간 수치를 보여줍니다. (목록은 파이프라인 HMGET 한 번)
+ * - recipe.counter.redis-enabled=false 면 사용하지 않습니다. (단일 노드: ViewCountBuffer + 비동기 UPDATE)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeCounterStore {
+
+    static final String DIRTY_KEY = "recipe:counters:dirty";
+
+    // 증가분을 읽고 지워 반영 대상으로 가져옵니다. (읽기와 삭제 사이에 들어온 증가분이 섞이지 않도록 원자적으로 실행)
+    private static final String CLAIM_SCRIPT = """
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                local counts = redis.call('HMGET', key, 'view', 'like')
+                redis.call('DEL', key)
+                result[#result + 1] = tonumber(counts[1]) or 0
+                result[#result + 1] = tonumber(counts[2]) or 0
+            end
+            return result
+            """;
+
+    public enum Field {
+        VIEW("view"), LIKE("like");
+
+        private final byte[] hashField;
+
+        Field(String name) {
+            this.hashField = name.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증가분
+     */
+    public record Pending(long view, long like) {
+
+        public static final Pending EMPTY = new Pending(0, 0);
+
+        public boolean isEmpty() {
+            return view == 0 && like == 0;
+        }
+    }
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+
+    @Value("${recipe.counter.redis-enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 증가분을 더합니다. 트랜잭션 안에서 호출되면 커밋 이후에 더합니다. (롤백된 좋아요가 집계되지 않도록)
+     */
+    public void increment(UUID recipeUuid, Field field, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementNow(recipeUuid, field, delta);
+                }
+            });
+            return;
+        }
+        incrementNow(recipeUuid, field, delta);
+    }
+
+    /**
+     * 레시피별 미반영 증가분을 한 번의 파이프라인으로 조회합니다.
+     * Redis 조회에 실패하면 빈 결과를 반환합니다. (DB 값만으로 응답)
+     */
+    public Map<UUID, Pending> getPending(Collection<UUID> recipeUuids) {
+        if (!enabled || recipeUuids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> uuids = List.copyOf(recipeUuids);
+        List<Object> results;
+        try {
+            results = cacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (UUID uuid : uuids) {
+                    connection.hashCommands().hMGet(key(uuid), Field.VIEW.hashField, Field.LIKE.hashField);
+                }
+                return null;
+            }, RedisSerializer.string());
+        } catch (Exception e) {
+            log.warn("레시피 카운터 조회 실패, DB 값으로 응답: error={}", e.getMessage());
+            return Map.of();
+        }
+
+        Map<UUID, Pending> pending = new HashMap<>();
+        for (int i = 0; i < uuids.size(); i++) {
+            List<?> counts = (List<?>) results.get(i);
+            Pending value = new Pending(toLong(counts.get(0)), toLong(counts.get(1)));
+            if (!value.isEmpty()) {
+                pending.put(uuids.get(i), value);
+            }
+        }
+        return pending;
+    }
+
+    public Pending getPending(UUID recipeUuid) {
+        return getPending(List.of(recipeUuid)).getOrDefault(recipeUuid, Pending.EMPTY);
+    }
+
+    /**
+     * dirty Set 에서 최대 count 개 레시피를 꺼내 증가분을 가져오고 Redis 에서 지웁니다.
+     * 반영에 실패하면 restore 로 되돌려야 합니다.
+     */
+    public Map<UUID, Pending> claim(int count) {
+        List<UUID> uuids = cacheRedisTemplate.execute((RedisCallback<List<UUID>>) connection -> {
+            List<byte[]> members = connection.setCommands().sPop(bytes(DIRTY_KEY), count);
+            return members == null ? List.of() : members.stream()
+                    .map(member -> UUID.fromString(new String(member, StandardCharsets.UTF_8)))
+                    .toList();
+        });
+        if (uuids == null || uuids.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> counts = cacheRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            byte[][] keys = uuids.stream().map(this::key).toArray(byte[][]::new);
+            return connection.scriptingCommands().eval(bytes(CLAIM_SCRIPT), ReturnType.MULTI, keys.length, keys);
+        });
+
+        Map<UUID, Pending> claimed = new LinkedHashMap<>();
+        for (int i = 0; i < uuids.size(); i++) {
+            Pending value = new Pending(toLong(counts.get(i * 2)), toLong(counts.get(i * 2 + 1)));
+            if (!value.isEmpty()) {
+                claimed.put(uuids.get(i), value);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * claim 으로 가져온 증가분을 Redis 에 되돌립니다.
+     */
+    public void restore(Map<UUID, Pending> claimed) {
+        cacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            claimed.forEach((uuid, pending) -> {
+                incrementField(connection, uuid, Field.VIEW, pending.view());
+                incrementField(connection, uuid, Field.LIKE, pending.like());
+                connection.setCommands().sAdd(bytes(DIRTY_KEY), bytes(uuid.toString()));
+            });
+            return null;
+        }, RedisSerializer.string());
+    }
+
+    private void incrementNow(UUID recipeUuid, Field field, long delta) {
+        try {
+            cacheRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                incrementField(connection, recipeUuid, field, delta);
+                connection.setCommands().sAdd(bytes(DIRTY_KEY), bytes(recipeUuid.toString()));
+                return null;
+            }, RedisSerializer.string());
+        } catch (Exception e) {
+            // 유실된 증가분은 정합성 점검 전까지 DB 에 반영되지 않으므로 경고로 남깁니다.
+            log.warn("레시피 카운터 증가 실패: recipeUuid={}, field={}, delta={}, error={}",
+                    recipeUuid, field, delta, e.getMessage());
+        }
+    }
+
+    private void incrementField(RedisConnection connection, UUID recipeUuid, Field field, long delta) {
+        if (delta != 0) {
+            connection.hashCommands().hIncrBy(key(recipeUuid), field.hashField, delta);
+        }
+    }
+
+    private byte[] key(UUID recipeUuid) {
+        return bytes(RedisKeyHelper.getRecipeCounterKey(recipeUuid));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long toLong(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,87 @@
+package store.myproject.onlineshop.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+import store.myproject.onlineshop.dto.recipemeta.RecipeMetaKey;
+import store.myproject.onlineshop.global.counter.RecipeCounterStore.Pending;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 레시피 카운터의 미반영 증가분을 recipe_meta 에 일괄 반영합니다.
+ * - dirty Set 에서 batch-size 개씩 꺼내 UPDATE 한 번으로 반영하고, 한 번 실행에 최대 max-batches 번 반복합니다.
+ * - 반영에 실패하면 꺼낸 증가분을 Redis 에 되돌려 다음 실행에서 다시 반영합니다.
+ * - 여러 노드가 동시에 실행해도 SPOP 으로 서로 다른 레시피를 가져가므로 중복 반영되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeCounterSyncScheduler {
+
+    private final RecipeCounterStore recipeCounterStore;
+    private final RecipeMetaRepository recipeMetaRepository;
+
+    @Value("${recipe.counter.sync.batch-size:500}")
+    private int batchSize;
+
+    @Value("${recipe.counter.sync.max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${recipe.counter.sync.interval-ms:5000}")
+    public void sync() {
+        if (!recipeCounterStore.isEnabled()) {
+            return;
+        }
+
+        for (int i = 0; i < maxBatches; i++) {
+            Map<UUID, Pending> claimed;
+            try {
+                claimed = recipeCounterStore.claim(batchSize);
+            } catch (Exception e) {
+                log.warn("레시피 카운터 가져오기 실패: error={}", e.getMessage());
+                return;
+            }
+            if (claimed.isEmpty()) {
+                return;
+            }
+            if (!write(claimed)) {
+                return;
+            }
+        }
+    }
+
+    private boolean write(Map<UUID, Pending> claimed) {
+        try {
+            List<RecipeMetaKey> keys = recipeMetaRepository.findRecipeMetaKeys(claimed.keySet());
+
+            // 삭제되어 recipe 가 없는 레시피의 증가분은 버립니다.
+            List<RecipeCounterDelta> deltas = keys.stream()
+                    .map(key -> {
+                        Pending pending = claimed.get(key.getRecipeUuid());
+                        return new RecipeCounterDelta(key.getRecipeMetaId(), pending.view(), pending.like(), 0);
+                    })
+                    .toList();
+            recipeMetaRepository.addCounts(deltas);
+            return true;
+        } catch (Exception e) {
+            log.error("레시피 카운터 반영 실패, Redis 로 되돌림: size={}, error={}", claimed.size(), e.getMessage(), e);
+            restore(claimed);
+            return false;
+        }
+    }
+
+    private void restore(Map<UUID, Pending> claimed) {
+        try {
+            recipeCounterStore.restore(claimed);
+        } catch (Exception e) {
+            log.error("레시피 카운터 되돌리기 실패, 증가분 유실: claimed={}", claimed, e);
+        }
+    }
+}
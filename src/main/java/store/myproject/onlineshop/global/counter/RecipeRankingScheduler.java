@@ -0,0 +1,33 @@
+package store.myproject.onlineshop.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트렌딩 랭킹의 기준 시각을 주기적으로 옮깁니다.
+ * - 점수가 2^(경과 시간 / 반감기) 배로 커지며 더해지므로, 주기적으로 줄여 double 범위 안에 두고 식은 레시피를 정리합니다.
+ * - 여러 노드가 동시에 실행해도 Lua 한 번으로 처리되어 결과는 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeRankingScheduler {
+
+    private final RecipeRankingStore recipeRankingStore;
+
+    @Scheduled(fixedDelayString = "${recipe.ranking.trending.rebase-interval-ms:3600000}")
+    public void rebase() {
+        if (!recipeRankingStore.isEnabled()) {
+            return;
+        }
+
+        try {
+            long size = recipeRankingStore.rebaseTrending();
+            log.debug("트렌딩 랭킹 기준 시각 갱신: size={}", size);
+        } catch (Exception e) {
+            log.warn("트렌딩 랭킹 기준 시각 갱신 실패: error={}", e.getMessage());
+        }
+    }
+}
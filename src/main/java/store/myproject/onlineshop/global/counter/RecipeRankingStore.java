@@ -0,0 +1,255 @@
+package store.myproject.onlineshop.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.myproject.onlineshop.dto.recipe.RecipeRankingMetric;
+import store.myproject.onlineshop.dto.recipe.RecipeRankingPeriod;
+import store.myproject.onlineshop.global.utils.RedisKeyHelper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis Sorted Set 레시피 랭킹
+ * - 조회/좋아요/리뷰가 생길 때마다 지표별 일간(recipe:ranking:{metric}:d:{yyyyMMdd}), 주간(:w:{year}-{week}),
+ *   누적(:all) ZSET 과 트렌딩 ZSET(recipe:ranking:trending) 을 Lua 한 번으로 ZINCRBY 합니다.
+ * - 트렌딩 점수는 반감기(half-life) 지수 감쇠입니다. 점수를 매번 깎는 대신 기준 시각(epoch) 대비 2^((now - epoch) / halfLife) 배로 키워 더하고,
+ *   rebaseTrending 이 주기적으로 ZUNIONSTORE WEIGHTS 로 전체를 줄여 기준 시각을 옮깁니다. (순위는 감쇠 점수와 같음)
+ * - 상위 N / 페이지 조회는 ZREVRANGEBYSCORE LIMIT 으로 O(log N + size) 입니다.
+ * - 누적 랭킹은 랭킹을 켠 이후의 증가분만 집계합니다.
+ * - recipe.ranking.enabled=false 면 기록하지 않습니다. Redis 장애 시에도 요청은 실패시키지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeRankingStore {
+
+    private static final String TRENDING = "trending";
+    private static final String TRENDING_EPOCH = "trending:epoch";
+
+    // KEYS: 일간, 주간, 누적, 트렌딩, 트렌딩 기준 시각 / ARGV: 증가량, 트렌딩 가중치, 현재 시각, 반감기, 일간 TTL, 주간 TTL, 레시피 UUID
+    private static final String RECORD_SCRIPT = """
+            redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[7])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            redis.call('ZINCRBY', KEYS[2], ARGV[1], ARGV[7])
+            redis.call('EXPIRE', KEYS[2], ARGV[6])
+            redis.call('ZINCRBY', KEYS[3], ARGV[1], ARGV[7])
+            local weight = tonumber(ARGV[2])
+            if weight ~= 0 then
+                local now = tonumber(ARGV[3])
+                local epoch = tonumber(redis.call('GET', KEYS[5]))
+                if not epoch then
+                    epoch = now
+                    redis.call('SET', KEYS[5], ARGV[3])
+                end
+                redis.call('ZINCRBY', KEYS[4], weight * math.pow(2, (now - epoch) / tonumber(ARGV[4])), ARGV[7])
+            end
+            return 1
+            """;
+
+    // 점수가 0 이하인 레시피는 제외하고, 맨 앞에 트렌딩 기준 시각을 붙여 반환합니다. (없으면 빈 문자열)
+    private static final String RANGE_SCRIPT = """
+            local epoch = redis.call('GET', KEYS[2]) or ''
+            local rows = redis.call('ZREVRANGEBYSCORE', KEYS[1], '+inf', '(0', 'WITHSCORES', 'LIMIT', ARGV[1], ARGV[2])
+            table.insert(rows, 1, epoch)
+            return rows
+            """;
+
+    // 기준 시각을 현재로 옮기며 점수를 감쇠시키고, min-score 이하와 max-size 를 넘는 하위 레시피를 지웁니다.
+    private static final String REBASE_SCRIPT = """
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                return 0
+            end
+            local factor = math.pow(2, (epoch - tonumber(ARGV[1])) / tonumber(ARGV[2]))
+            redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor)
+            redis.call('SET', KEYS[2], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1))
+            return redis.call('ZCARD', KEYS[1])
+            """;
+
+    /**
+     * 랭킹 한 항목 (score 는 트렌딩이면 현재 시각 기준 감쇠 점수)
+     */
+    public record Entry(UUID recipeUuid, double score) {
+    }
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+
+    @Value("${recipe.ranking.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipe.ranking.daily-ttl:2d}")
+    private Duration dailyTtl;
+
+    @Value("${recipe.ranking.weekly-ttl:15d}")
+    private Duration weeklyTtl;
+
+    @Value("${recipe.ranking.trending.half-life:6h}")
+    private Duration halfLife;
+
+    @Value("${recipe.ranking.trending.view-weight:1}")
+    private double viewWeight;
+
+    @Value("${recipe.ranking.trending.like-weight:5}")
+    private double likeWeight;
+
+    @Value("${recipe.ranking.trending.review-weight:10}")
+    private double reviewWeight;
+
+    @Value("${recipe.ranking.trending.min-score:0.1}")
+    private double minScore;
+
+    @Value("${recipe.ranking.trending.max-size:10000}")
+    private long maxSize;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 랭킹 점수를 더합니다. 트랜잭션 안에서 호출되면 커밋 이후에 더합니다. (롤백된 좋아요/리뷰가 집계되지 않도록)
+     */
+    public void record(UUID recipeUuid, RecipeRankingMetric metric, long delta) {
+        if (!enabled || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordNow(recipeUuid, metric, delta);
+                }
+            });
+            return;
+        }
+        recordNow(recipeUuid, metric, delta);
+    }
+
+    /**
+     * 이미 커밋된 변경의 랭킹 점수를 바로 더합니다.
+     * AFTER_COMMIT 리스너에서는 새로 등록한 트랜잭션 동기화가 실행되지 않으므로 record 대신 사용합니다.
+     */
+    public void recordCommitted(UUID recipeUuid, RecipeRankingMetric metric, long delta) {
+        if (!enabled || delta == 0) {
+            return;
+        }
+        recordNow(recipeUuid, metric, delta);
+    }
+
+    /**
+     * 점수 내림차순으로 offset 부터 size 개를 가져옵니다. (TRENDING 은 metric 을 무시)
+     */
+    public List<Entry> getRange(RecipeRankingPeriod period, RecipeRankingMetric metric, long offset, int size) {
+        String key = RedisKeyHelper.getRecipeRankingKey(ranking(period, metric, LocalDate.now()));
+        List<Object> rows = cacheRedisTemplate.execute((RedisCallback<List<Object>>) connection ->
+                connection.scriptingCommands().eval(bytes(RANGE_SCRIPT), ReturnType.MULTI, 2,
+                        bytes(key),
+                        bytes(RedisKeyHelper.getRecipeRankingKey(TRENDING_EPOCH)),
+                        bytes(String.valueOf(offset)),
+                        bytes(String.valueOf(size))));
+        if (rows == null || rows.isEmpty()) {
+            return List.of();
+        }
+
+        // 트렌딩 점수는 기준 시각 시점의 값이므로 현재 시각만큼 감쇠시켜 보여줍니다.
+        String epoch = string(rows.get(0));
+        double decay = period == RecipeRankingPeriod.TRENDING && !epoch.isEmpty()
+                ? Math.pow(2, (Long.parseLong(epoch) - System.currentTimeMillis()) / (double) halfLife.toMillis())
+                : 1.0;
+
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 1; i + 1 < rows.size(); i += 2) {
+            entries.add(new Entry(UUID.fromString(string(rows.get(i))), Double.parseDouble(string(rows.get(i + 1))) * decay));
+        }
+        return entries;
+    }
+
+    /**
+     * 트렌딩 점수의 기준 시각을 현재로 옮기고 낮은 점수를 정리합니다.
+     *
+     * @return 정리 후 트렌딩 ZSET 크기
+     */
+    public long rebaseTrending() {
+        Long size = cacheRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.scriptingCommands().eval(bytes(REBASE_SCRIPT), ReturnType.INTEGER, 2,
+                        bytes(RedisKeyHelper.getRecipeRankingKey(TRENDING)),
+                        bytes(RedisKeyHelper.getRecipeRankingKey(TRENDING_EPOCH)),
+                        bytes(String.valueOf(System.currentTimeMillis())),
+                        bytes(String.valueOf(halfLife.toMillis())),
+                        bytes(String.valueOf(minScore)),
+                        bytes(String.valueOf(maxSize))));
+        return size == null ? 0 : size;
+    }
+
+    private void recordNow(UUID recipeUuid, RecipeRankingMetric metric, long delta) {
+        LocalDate today = LocalDate.now();
+        try {
+            cacheRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.scriptingCommands().eval(bytes(RECORD_SCRIPT), ReturnType.INTEGER, 5,
+                            key(ranking(RecipeRankingPeriod.DAILY, metric, today)),
+                            key(ranking(RecipeRankingPeriod.WEEKLY, metric, today)),
+                            key(ranking(RecipeRankingPeriod.ALL_TIME, metric, today)),
+                            key(TRENDING),
+                            key(TRENDING_EPOCH),
+                            bytes(String.valueOf(delta)),
+                            bytes(String.valueOf(trendingWeight(metric) * delta)),
+                            bytes(String.valueOf(System.currentTimeMillis())),
+                            bytes(String.valueOf(halfLife.toMillis())),
+                            bytes(String.valueOf(dailyTtl.toSeconds())),
+                            bytes(String.valueOf(weeklyTtl.toSeconds())),
+                            bytes(recipeUuid.toString())));
+        } catch (Exception e) {
+            log.warn("레시피 랭킹 기록 실패: recipeUuid={}, metric={}, delta={}, error={}",
+                    recipeUuid, metric, delta, e.getMessage());
+        }
+    }
+
+    private double trendingWeight(RecipeRankingMetric metric) {
+        return switch (metric) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case REVIEW -> reviewWeight;
+        };
+    }
+
+    /**
+     * 기간/지표별 랭킹 키의 접미사 (주간은 ISO 주차 기준)
+     */
+    static String ranking(RecipeRankingPeriod period, RecipeRankingMetric metric, LocalDate date) {
+        String prefix = metric.name().toLowerCase();
+        return switch (period) {
+            case DAILY -> prefix + ":d:" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+            case WEEKLY -> String.format("%s:w:%d-%02d", prefix,
+                    date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case ALL_TIME -> prefix + ":all";
+            case TRENDING -> TRENDING;
+        };
+    }
+
+    private byte[] key(String ranking) {
+        return bytes(RedisKeyHelper.getRecipeRankingKey(ranking));
+    }
+
+    private static String string(Object value) {
+        return value instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
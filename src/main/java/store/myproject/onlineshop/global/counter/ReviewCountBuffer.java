@@ -0,0 +1,164 @@
+package store.myproject.onlineshop.global.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.domain.review.ReviewRepository;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 리뷰 수 / 대댓글 수 쓰기 지연 버퍼
+ * - 커밋된 댓글 작성/삭제(ReviewCountEvent)의 증감분을 recipe_meta_id 별, 부모 댓글 ID 별로 합산합니다.
+ * - flush-interval-ms 마다, 또는 쌓인 이벤트가 max-pending 에 도달하면 batch-size 단위의 UPDATE 한 번으로
+ *   recipe_meta.review_cnt 와 review.reply_cnt 에 반영합니다. (0 미만으로 내려가지 않음)
+ * - 반영한 키는 맵에서 제거합니다. (remove 이후의 증감분은 새 항목으로 쌓이므로 유실 없음)
+ * - 반영에 실패한 증감분은 다시 맵에 더해 다음 반영에서 재시도하고, 그래도 어긋난 값은 ReviewCountVerifier 가 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCountBuffer {
+
+    private final RecipeMetaRepository recipeMetaRepository;
+    private final ReviewRepository reviewRepository;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${recipe.review-count.max-pending:1000}")
+    private long maxPending;
+
+    @Value("${recipe.review-count.batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, Long> reviewDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, Long> replyDeltas = new ConcurrentHashMap<>();
+    private final LongAdder pending = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * 댓글 작성(+1)/삭제(-1) 증감분을 모읍니다. parentId 가 있으면 부모 댓글의 대댓글 수에도 더합니다.
+     */
+    public void add(Long recipeMetaId, Long parentId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        reviewDeltas.merge(recipeMetaId, delta, Long::sum);
+        if (parentId != null) {
+            replyDeltas.merge(parentId, delta, Long::sum);
+        }
+        pending.increment();
+
+        // 주기를 기다리지 않고 바로 반영 (이미 예약된 반영이 있으면 중복 예약하지 않음)
+        if (pending.sum() >= maxPending && flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, Instant.now());
+        }
+    }
+
+    public boolean hasPendingReview(Long recipeMetaId) {
+        return reviewDeltas.containsKey(recipeMetaId);
+    }
+
+    public boolean hasPendingReply(Long parentId) {
+        return replyDeltas.containsKey(parentId);
+    }
+
+    /**
+     * 모인 증감분을 반영합니다. 다른 반영이 진행 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${recipe.review-count.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushDeltas();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 반영을 기다린 뒤 남은 증감분을 모두 반영합니다. (종료 시, 검증 전)
+     */
+    @PreDestroy
+    public void drain() {
+        flushLock.lock();
+        try {
+            flushDeltas();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushDeltas() {
+        pending.reset();
+
+        List<Map<Long, Long>> reviewBatches = collectBatches(reviewDeltas);
+        for (Map<Long, Long> batch : reviewBatches) {
+            try {
+                recipeMetaRepository.addCounts(batch.entrySet().stream()
+                        .map(entry -> new RecipeCounterDelta(entry.getKey(), 0, 0, entry.getValue()))
+                        .toList());
+            } catch (Exception e) {
+                log.error("리뷰 수 일괄 반영 실패, 다음 반영에서 재시도: size={}, error={}", batch.size(), e.getMessage(), e);
+                restore(reviewDeltas, batch);
+            }
+        }
+
+        List<Map<Long, Long>> replyBatches = collectBatches(replyDeltas);
+        for (Map<Long, Long> batch : replyBatches) {
+            try {
+                reviewRepository.addReplyCounts(batch);
+            } catch (Exception e) {
+                log.error("대댓글 수 일괄 반영 실패, 다음 반영에서 재시도: size={}, error={}", batch.size(), e.getMessage(), e);
+                restore(replyDeltas, batch);
+            }
+        }
+    }
+
+    /**
+     * 키를 하나씩 꺼내(remove) batch-size 단위로 나눕니다. 합이 0 인 키는 반영하지 않습니다.
+     */
+    private List<Map<Long, Long>> collectBatches(Map<Long, Long> deltas) {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        Map<Long, Long> batch = new LinkedHashMap<>();
+        for (Long id : new ArrayList<>(deltas.keySet())) {
+            Long delta = deltas.remove(id);
+            if (delta == null || delta == 0) {
+                continue;
+            }
+            batch.put(id, delta);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private void restore(Map<Long, Long> deltas, Map<Long, Long> batch) {
+        batch.forEach((id, delta) -> deltas.merge(id, delta, Long::sum));
+        pending.add(batch.size());
+    }
+}
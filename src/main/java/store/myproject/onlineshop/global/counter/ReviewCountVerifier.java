@@ -0,0 +1,103 @@
+package store.myproject.onlineshop.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.domain.review.ReviewRepository;
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 리뷰 수 / 대댓글 수 검증
+ * - interval-ms 마다 버퍼에 남은 증감분을 먼저 반영한 뒤, 레시피와 부모 댓글을 batch-size 개씩 키셋으로 읽어
+ *   저장된 recipe_meta.review_cnt, review.reply_cnt 를 실제 개수와 비교하고 다른 행만 다시 계산합니다.
+ * - 반영 실패, 종료 중 유실 등으로 생긴 차이를 맞추는 용도이며 recipe.review-count.verify.enabled=true 일 때만 실행합니다.
+ * - 검증 중 이 노드 버퍼에 새 증감분이 쌓인 행은 덮어쓰면 두 번 반영되므로 다음 검증으로 미룹니다.
+ * - 다른 노드 버퍼에 남은 증감분은 보이지 않으므로, 직전 검증과 같은 차이가 남아 있는 행만 다시 계산합니다.
+ *   (다른 노드의 증감분은 flush-interval-ms 안에 반영되어 다음 검증에서는 차이가 사라짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewCountVerifier {
+
+    private final ReviewCountBuffer reviewCountBuffer;
+    private final RecipeMetaRepository recipeMetaRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Value("${recipe.review-count.verify.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipe.review-count.verify.batch-size:1000}")
+    private int batchSize;
+
+    /** 직전 검증에서 발견한 차이 (targetId -> 저장값 - 실제 개수) */
+    private Map<Long, Long> lastRecipeDrifts = Map.of();
+    private Map<Long, Long> lastReplyDrifts = Map.of();
+
+    @Scheduled(initialDelayString = "${recipe.review-count.verify.interval-ms:3600000}",
+            fixedDelayString = "${recipe.review-count.verify.interval-ms:3600000}")
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        reviewCountBuffer.drain();
+
+        Map<Long, Long> recipeDrifts = new HashMap<>();
+        int fixedRecipes = fix(recipeMetaRepository::findReviewCountChecks, reviewCountBuffer::hasPendingReview,
+                recipeMetaRepository::fixReviewCounts, lastRecipeDrifts, recipeDrifts);
+        lastRecipeDrifts = recipeDrifts;
+
+        Map<Long, Long> replyDrifts = new HashMap<>();
+        int fixedReviews = fix(reviewRepository::findReplyCountChecks, reviewCountBuffer::hasPendingReply,
+                reviewRepository::fixReplyCounts, lastReplyDrifts, replyDrifts);
+        lastReplyDrifts = replyDrifts;
+
+        log.info("리뷰 수 검증 완료: fixedRecipes={}, fixedReviews={}, elapsed={}ms",
+                fixedRecipes, fixedReviews, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 키셋 페이지마다 직전 검증과 같은 차이가 남은 행만 다시 계산하고, 다시 계산한 행 수를 반환합니다.
+     * 이번에 발견한 차이는 drifts 에 담아 다음 검증에서 비교합니다.
+     */
+    private int fix(BiFunction<Long, Integer, List<ReviewCountCheck>> findChecks,
+                    Predicate<Long> pending, Function<List<Long>, Integer> fixCounts,
+                    Map<Long, Long> lastDrifts, Map<Long, Long> drifts) {
+        int fixed = 0;
+        long afterId = 0L;
+        while (true) {
+            List<ReviewCountCheck> checks = findChecks.apply(afterId, batchSize);
+            if (checks.isEmpty()) {
+                return fixed;
+            }
+            List<Long> drifted = new ArrayList<>();
+            for (ReviewCountCheck check : checks) {
+                if (!check.isDrifted() || pending.test(check.getTargetId())) {
+                    continue;
+                }
+                drifts.put(check.getTargetId(), check.getDrift());
+                if (Long.valueOf(check.getDrift()).equals(lastDrifts.get(check.getTargetId()))) {
+                    drifted.add(check.getTargetId());
+                }
+            }
+            if (!drifted.isEmpty()) {
+                log.warn("리뷰 수 차이 발견: ids={}", drifted);
+                fixCounts.apply(drifted);
+                fixed += drifted.size();
+            }
+            afterId = checks.get(checks.size() - 1).getId();
+        }
+    }
+}
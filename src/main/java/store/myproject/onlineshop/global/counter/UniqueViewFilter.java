@@ -0,0 +1,104 @@
+package store.myproject.onlineshop.global.counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.global.utils.RedisKeyHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 레시피 순 조회자 필터 (같은 조회자의 window 내 재조회는 조회수에 넣지 않음)
+ * - 노드 내: Caffeine 에 (레시피, 조회자) 를 window 동안 기억해, 새로고침은 Redis 까지 가지 않고 걸러냅니다.
+ * - 노드 간: 레시피별 시간 버킷 HyperLogLog(recipe:viewers:{uuid}:{bucket}) 에 조회자를 넣고,
+ *   최근 window 에 해당하는 버킷들의 합집합 크기가 늘었을 때만 새 조회로 판단합니다. (HLL 특성상 드물게 새 조회를 놓칠 수 있음)
+ * - Redis 장애 시에는 노드 내 판단만으로 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueViewFilter {
+
+    // 추가 전후의 합집합 크기를 비교해 처음 보는 조회자인지 판단합니다. (KEYS[1] 이 현재 버킷)
+    private static final RedisScript<Long> FIRST_VIEW_SCRIPT = new DefaultRedisScript<>("""
+            local before = redis.call('PFCOUNT', unpack(KEYS))
+            redis.call('PFADD', KEYS[1], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            local after = redis.call('PFCOUNT', unpack(KEYS))
+            return after - before
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> cacheRedisTemplate;
+
+    @Value("${recipe.view-count.unique.enabled:false}")
+    private boolean enabled;
+
+    @Value("${recipe.view-count.unique.window:30m}")
+    private Duration window;
+
+    @Value("${recipe.view-count.unique.bucket:10m}")
+    private Duration bucket;
+
+    @Value("${recipe.view-count.unique.local-maximum-size:100000}")
+    private long localMaximumSize;
+
+    private Cache<String, Boolean> recentViews;
+
+    @PostConstruct
+    void init() {
+        recentViews = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * window 안에서 이 조회자의 첫 조회인지 확인하고 기록합니다.
+     */
+    public boolean isFirstView(UUID recipeUuid, String viewerId) {
+        String localKey = recipeUuid + ":" + viewerId;
+        if (recentViews.asMap().putIfAbsent(localKey, Boolean.TRUE) != null) {
+            return false;
+        }
+
+        try {
+            Long added = cacheRedisTemplate.execute(FIRST_VIEW_SCRIPT, RedisSerializer.string(),
+                    new GenericToStringSerializer<>(Long.class), bucketKeys(recipeUuid),
+                    viewerId, String.valueOf(window.plus(bucket).toSeconds()));
+            return added == null || added > 0;
+        } catch (Exception e) {
+            log.warn("순 조회자 확인 실패, 노드 내 판단으로 집계: recipeUuid={}, error={}", recipeUuid, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 현재 버킷부터 window 를 덮는 이전 버킷까지의 키 (현재 버킷이 첫 번째)
+     */
+    List<String> bucketKeys(UUID recipeUuid) {
+        long current = System.currentTimeMillis() / bucket.toMillis();
+        long count = Math.max(1, (window.toMillis() + bucket.toMillis() - 1) / bucket.toMillis());
+
+        List<String> keys = new ArrayList<>();
+        for (long i = 0; i < count; i++) {
+            keys.add(RedisKeyHelper.getRecipeViewersKey(recipeUuid, current - i));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,149 @@
+package store.myproject.onlineshop.global.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLog;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static store.myproject.onlineshop.domain.faillog.FailureStatus.FAILED;
+import static store.myproject.onlineshop.domain.faillog.JobType.RECIPE_VIEW_COUNT_INCREMENT;
+
+/**
+ * 레시피 조회수 쓰기 지연 버퍼
+ * - 조회마다 DB 를 갱신하지 않고 recipe_meta_id 별 LongAdder 에 모읍니다. (같은 레시피 동시 조회도 경합 없음)
+ * - flush-interval-ms 마다, 또는 쌓인 조회가 max-pending 에 도달하면 증가분을 batch-size 단위의 UPDATE 한 번으로 반영합니다.
+ * - 레시피별 LongAdder 는 제거하지 않고 재사용합니다. (제거와 동시 증가 사이의 유실 방지, 최대 레시피 수만큼만 유지)
+ * - 종료 시 남은 증가분을 모두 반영하고, 반영에 실패한 증가분은 AsyncFailureLog 에 남깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private final RecipeMetaRepository recipeMetaRepository;
+    private final AsyncFailureLogRepository asyncFailureLogRepository;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${recipe.view-count.max-pending:10000}")
+    private long maxPending;
+
+    @Value("${recipe.view-count.batch-size:500}")
+    private int batchSize;
+
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    private final LongAdder pending = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    public void increment(Long recipeMetaId) {
+        counts.computeIfAbsent(recipeMetaId, id -> new LongAdder()).increment();
+        pending.increment();
+
+        // 주기를 기다리지 않고 바로 반영 (이미 예약된 반영이 있으면 중복 예약하지 않음)
+        if (pending.sum() >= maxPending && flushScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, Instant.now());
+        }
+    }
+
+    /**
+     * 모인 증가분을 반영합니다. 다른 반영이 진행 중이면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${recipe.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushDeltas();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 종료 시 진행 중인 반영을 기다린 뒤 남은 증가분을 모두 반영합니다.
+     */
+    @PreDestroy
+    void drain() {
+        flushLock.lock();
+        try {
+            flushDeltas();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushDeltas() {
+        Map<Long, Long> deltas = collectDeltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            Map<Long, Long> batch = new LinkedHashMap<>();
+            entries.subList(from, Math.min(from + batchSize, entries.size()))
+                    .forEach(entry -> batch.put(entry.getKey(), entry.getValue()));
+            writeBatch(batch);
+        }
+    }
+
+    private Map<Long, Long> collectDeltas() {
+        pending.reset();
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        counts.forEach((recipeMetaId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(recipeMetaId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void writeBatch(Map<Long, Long> batch) {
+        try {
+            recipeMetaRepository.addViewCounts(batch);
+        } catch (Exception e) {
+            log.error("조회수 일괄 반영 실패: size={}, error={}", batch.size(), e.getMessage(), e);
+            saveAsyncFailureLogs(batch, e);
+        }
+    }
+
+    private void saveAsyncFailureLogs(Map<Long, Long> batch, Exception e) {
+        List<AsyncFailureLog> logs = batch.entrySet().stream()
+                .map(entry -> AsyncFailureLog.builder()
+                        .jobType(RECIPE_VIEW_COUNT_INCREMENT)
+                        .targetId(entry.getKey())
+                        .amount(BigDecimal.valueOf(entry.getValue()))
+                        .errorMessage(e.getMessage())
+                        .failureStatus(FAILED)
+                        .build())
+                .toList();
+        try {
+            asyncFailureLogRepository.saveAll(logs);
+        } catch (Exception logError) {
+            log.error("조회수 실패 로그 저장 실패, 증가분 유실: deltas={}", batch, logError);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package store.myproject.onlineshop.global.event;
+
+import java.util.UUID;
+
+/**
+ * 댓글 작성(+1) / 삭제(-1) 이벤트
+ * - 댓글 작성/삭제 트랜잭션 안에서 발행되고, 커밋된 뒤에만 리뷰 수와 대댓글 수에 반영됩니다.
+ * - parentId 는 대댓글일 때 부모 댓글 ID 입니다. (댓글이면 null)
+ */
+public record ReviewCountEvent(UUID recipeUuid, Long recipeMetaId, Long parentId, int delta) {
+
+    public static ReviewCountEvent created(UUID recipeUuid, Long recipeMetaId, Long parentId) {
+        return new ReviewCountEvent(recipeUuid, recipeMetaId, parentId, 1);
+    }
+
+    public static ReviewCountEvent deleted(UUID recipeUuid, Long recipeMetaId, Long parentId) {
+        return new ReviewCountEvent(recipeUuid, recipeMetaId, parentId, -1);
+    }
+}
@@ -0,0 +1,26 @@
+package store.myproject.onlineshop.global.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import store.myproject.onlineshop.dto.recipe.RecipeRankingMetric;
+import store.myproject.onlineshop.global.counter.RecipeRankingStore;
+import store.myproject.onlineshop.global.counter.ReviewCountBuffer;
+
+/**
+ * 커밋된 댓글 작성/삭제만 리뷰 수 버퍼와 레시피 랭킹에 반영합니다. (롤백된 작성/삭제는 집계되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewCountEventListener {
+
+    private final ReviewCountBuffer reviewCountBuffer;
+    private final RecipeRankingStore recipeRankingStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, classes = ReviewCountEvent.class)
+    public void handle(ReviewCountEvent event) {
+        reviewCountBuffer.add(event.recipeMetaId(), event.parentId(), event.delta());
+        recipeRankingStore.recordCommitted(event.recipeUuid(), RecipeRankingMetric.REVIEW, event.delta());
+    }
+}
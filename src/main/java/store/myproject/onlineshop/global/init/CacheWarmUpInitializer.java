@@ -0,0 +1,38 @@
+package store.myproject.onlineshop.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.service.CacheWarmUpService;
+
+/**
+ * 기동 시 캐시 워밍업
+ * CommandLineRunner 가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로, 워밍업이 끝나기 전에는 트래픽을 받지 않습니다.
+ */
+@Slf4j
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUpInitializer implements CommandLineRunner {
+
+    private final CacheWarmUpService cacheWarmUpService;
+
+    @Value("${cache.warm-up.on-startup:true}")
+    private boolean onStartup;
+
+    @Override
+    public void run(String... args) {
+        if (!onStartup) {
+            return;
+        }
+        try {
+            cacheWarmUpService.warmUp();
+        } catch (Exception e) {
+            // 워밍업 실패로 기동이 막히지 않도록 합니다. (캐시는 요청 시 채워짐)
+            log.warn("기동 시 캐시 워밍업 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package store.myproject.onlineshop.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.global.cache.ExistenceFilter;
+
+/**
+ * 기동 시 존재 필터 구성 (캐시 워밍업보다 먼저 실행)
+ */
+@Slf4j
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class ExistenceFilterInitializer implements CommandLineRunner {
+
+    private final ExistenceFilter existenceFilter;
+
+    @Override
+    public void run(String... args) {
+        try {
+            existenceFilter.rebuild();
+        } catch (Exception e) {
+            // 필터가 없으면 모든 UUID 를 통과시키므로 기동은 계속합니다.
+            log.warn("존재 필터 구성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package store.myproject.onlineshop.global.init;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.global.cache.ItemRecipeIndex;
+
+/**
+ * 기동 시 상품 → 레시피 역색인 생성
+ * - 만들어지기 전까지는 상품별 레시피 조회가 DB 로 처리되므로 기동을 막지 않고 별도 스레드에서 만듭니다.
+ */
+@Order(4)
+@Component
+@RequiredArgsConstructor
+public class ItemRecipeIndexInitializer implements CommandLineRunner {
+
+    private final ItemRecipeIndex itemRecipeIndex;
+
+    @Override
+    public void run(String... args) {
+        if (itemRecipeIndex.isEnabled()) {
+            itemRecipeIndex.rebuildAsync();
+        }
+    }
+}
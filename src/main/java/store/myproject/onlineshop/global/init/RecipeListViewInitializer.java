@@ -0,0 +1,60 @@
+package store.myproject.onlineshop.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
+
+import java.util.List;
+
+/**
+ * 기동 시 레시피 목록 읽기 모델 채우기
+ * - recipe_id 순으로 batch-size 개씩 원본에서 옮겨 적습니다. 같은 행을 다시 써도 결과가 같으므로 운영 중 갱신과 겹쳐도 안전합니다.
+ * - 레시피 수가 많으면 오래 걸리므로 기동을 막지 않도록 별도 스레드에서 실행합니다.
+ */
+@Slf4j
+@Order(3)
+@Component
+@RequiredArgsConstructor
+public class RecipeListViewInitializer implements CommandLineRunner {
+
+    private final RecipeListViewRepository recipeListViewRepository;
+
+    @Value("${recipe.list-view.backfill-on-startup:false}")
+    private boolean onStartup;
+
+    @Value("${recipe.list-view.backfill-batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(String... args) {
+        if (!onStartup || !recipeListViewRepository.isEnabled()) {
+            return;
+        }
+        Thread.ofVirtual().name("recipe-list-view-backfill").start(this::backfill);
+    }
+
+    void backfill() {
+        long start = System.currentTimeMillis();
+        long afterId = 0L;
+        int total = 0;
+        try {
+            while (true) {
+                List<Long> recipeIds = recipeListViewRepository.findRecipeIdsAfter(afterId, batchSize);
+                if (recipeIds.isEmpty()) {
+                    break;
+                }
+                recipeListViewRepository.refresh(recipeIds);
+                afterId = recipeIds.get(recipeIds.size() - 1);
+                total += recipeIds.size();
+            }
+            log.info("레시피 목록 읽기 모델 채우기 완료: recipes={}, elapsed={}ms", total, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 다시 실행하면 처음부터 덮어쓰므로 중단 지점만 남깁니다.
+            log.error("레시피 목록 읽기 모델 채우기 실패: afterId={}, error={}", afterId, e.getMessage(), e);
+        }
+    }
+}
@@ -12,15 +12,35 @@ public class RedisKeyHelper {
         return KeyType.RECIPE_DETAIL_CACHE.format(recipeUuid);
     }
 
-    public String getRecipeLockKey(UUID recipeUuid) {
-        return KeyType.RECIPE_DETAIL_CACHE_LOCK.format(recipeUuid);
+    public String getRecipeBodyKey(UUID recipeUuid) {
+        return KeyType.RECIPE_DETAIL_BODY_CACHE.format(recipeUuid);
+    }
+
+    public String getRecipeCounterKey(UUID recipeUuid) {
+        return KeyType.RECIPE_COUNTER.format(recipeUuid);
+    }
+
+    public String getRecipeViewersKey(UUID recipeUuid, long bucket) {
+        return KeyType.RECIPE_VIEWERS.format(recipeUuid, bucket);
+    }
+
+    public String getRecipeLikersKey(UUID recipeUuid) {
+        return KeyType.RECIPE_LIKERS.format(recipeUuid);
+    }
+
+    public String getRecipeRankingKey(String ranking) {
+        return KeyType.RECIPE_RANKING.format(ranking);
+    }
+
+    public String getRecipeListKey(String page) {
+        return KeyType.RECIPE_LIST_CACHE.format(page);
     }
 
     public String getItemCacheKey(UUID itemUuid) {
         return KeyType.ITEM_DETAIL_CACHE.format(itemUuid);
     }
 
-    public String getItemLockKey(UUID itemUuid) {
-        return KeyType.ITEM_DETAIL_CACHE_LOCK.format(itemUuid);
+    public String getItemBodyKey(UUID itemUuid) {
+        return KeyType.ITEM_DETAIL_BODY_CACHE.format(itemUuid);
     }
 }
\ No newline at end of file
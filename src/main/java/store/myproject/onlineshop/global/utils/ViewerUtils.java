@@ -0,0 +1,31 @@
+package store.myproject.onlineshop.global.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+public class ViewerUtils {
+
+    /**
+     * 조회자 식별자 (로그인 사용자는 계정, 비로그인은 IP)
+     * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr 가 실제 클라이언트 IP 를 반환해야 합니다.
+     */
+    public static String getViewerId(Authentication authentication, HttpServletRequest request) {
+        String email = getEmailOrNull(authentication);
+        if (email != null) {
+            return "c:" + email;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * 로그인 사용자 이메일 (비로그인이면 null)
+     */
+    public static String getEmailOrNull(Authentication authentication) {
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package store.myproject.onlineshop.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import store.myproject.onlineshop.dto.faillog.FailedJob;
+
+import java.util.List;
+
+@Mapper
+public interface AsyncFailureLogMapper {
+
+    List<FailedJob> claimFailedJobs(@Param("limit") int limit);
+
+    int markResolved(@Param("ids") List<Long> ids);
+}
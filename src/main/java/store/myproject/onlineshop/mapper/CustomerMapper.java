@@ -0,0 +1,13 @@
+package store.myproject.onlineshop.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Mapper
+public interface CustomerMapper {
+
+    int addMonthlyPurchaseAmounts(@Param("deltas") Map<Long, BigDecimal> deltas);
+}
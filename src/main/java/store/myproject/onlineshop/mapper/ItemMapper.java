@@ -6,10 +6,13 @@ import store.myproject.onlineshop.dto.item.ItemSearchCond;
 import store.myproject.onlineshop.dto.item.SimpleItemDto;
 
 import java.util.List;
+import java.util.UUID;
 
 @Mapper
 public interface ItemMapper {
     List<SimpleItemDto> searchItem(@Param("cond")ItemSearchCond cond);
 
     Long countItem(@Param("cond")ItemSearchCond cond);
+
+    List<UUID> findPopularItemUuids(@Param("limit") int limit);
 }
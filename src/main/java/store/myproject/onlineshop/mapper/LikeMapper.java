@@ -0,0 +1,15 @@
+package store.myproject.onlineshop.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import store.myproject.onlineshop.dto.like.LikeChange;
+
+import java.util.List;
+
+@Mapper
+public interface LikeMapper {
+
+    int insertLikes(@Param("changes") List<LikeChange> changes);
+
+    int deleteLikes(@Param("changes") List<LikeChange> changes);
+}
@@ -0,0 +1,25 @@
+package store.myproject.onlineshop.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import store.myproject.onlineshop.dto.recipe.RecipeListCond;
+import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface RecipeListViewMapper {
+
+    List<SimpleRecipeDto> findRecipeList(@Param("cond") RecipeListCond cond);
+
+    int upsertByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    int deleteRemovedByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    int syncCounts(@Param("recipeMetaIds") Collection<Long> recipeMetaIds);
+
+    int updateWriterNickName(@Param("customerId") Long customerId, @Param("nickName") String nickName);
+
+    List<Long> findRecipeIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+}
@@ -3,6 +3,7 @@ package store.myproject.onlineshop.mapper;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import store.myproject.onlineshop.dto.recipe.RecipeDto;
+import store.myproject.onlineshop.dto.recipe.RecipeItemRef;
 import store.myproject.onlineshop.dto.recipe.RecipeListCond;
 import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
 
@@ -12,11 +13,23 @@ import java.util.UUID;
 @Mapper
 public interface RecipeMapper {
 
-    RecipeDto findRecipeDtoByUuid(@Param("recipeUuid") UUID recipeUuid);
+    RecipeDto findRecipeDetailByUuid(@Param("recipeUuid") UUID recipeUuid);
 
     List<SimpleRecipeDto>findRecipeList(@Param("cond") RecipeListCond cond);
 
-    List<SimpleRecipeDto> findRecipeUseItem(@Param("itemId") Long itemId);
+    List<Long> findRecipeIdsUseItem(@Param("itemId") Long itemId,
+                                    @Param("beforeRecipeId") Long beforeRecipeId,
+                                    @Param("limit") int limit);
+
+    long countRecipeUseItem(@Param("itemId") Long itemId);
+
+    Long findRecipeIdByUuidWithDeleted(@Param("recipeUuid") UUID recipeUuid);
+
+    UUID findRecipeUuidByIdWithDeleted(@Param("recipeId") Long recipeId);
+
+    List<RecipeItemRef> findRecipeItemRefsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    List<UUID> findPopularRecipeUuids(@Param("limit") int limit);
 
 //    List<SimpleRecipeDto> findRecipeVer3(@Param("cond") RecipeCond cond);
 }
@@ -0,0 +1,26 @@
+package store.myproject.onlineshop.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+import store.myproject.onlineshop.dto.recipemeta.RecipeMetaKey;
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Mapper
+public interface RecipeMetaMapper {
+
+    int addViewCounts(@Param("deltas") Map<Long, Long> deltas);
+
+    int addCounts(@Param("deltas") List<RecipeCounterDelta> deltas);
+
+    List<RecipeMetaKey> findRecipeMetaKeys(@Param("recipeUuids") Collection<UUID> recipeUuids);
+
+    List<ReviewCountCheck> findReviewCountChecks(@Param("afterRecipeId") Long afterRecipeId, @Param("limit") int limit);
+
+    int fixReviewCounts(@Param("recipeMetaIds") Collection<Long> recipeMetaIds);
+}
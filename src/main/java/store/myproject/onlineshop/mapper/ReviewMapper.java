@@ -0,0 +1,34 @@
+package store.myproject.onlineshop.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+import store.myproject.onlineshop.dto.review.ReviewCursor;
+import store.myproject.onlineshop.dto.review.ReviewReplyRow;
+import store.myproject.onlineshop.dto.review.ReviewRow;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Mapper
+public interface ReviewMapper {
+
+    List<ReviewReplyRow> findTopReplies(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    ReviewCursor findReviewCursor(@Param("reviewUuid") UUID reviewUuid);
+
+    List<ReviewRow> findReviews(@Param("recipeId") Long recipeId,
+                                @Param("parentId") Long parentId,
+                                @Param("afterCreatedDate") LocalDateTime afterCreatedDate,
+                                @Param("afterReviewId") Long afterReviewId,
+                                @Param("limit") int limit);
+
+    int addReplyCounts(@Param("deltas") Map<Long, Long> deltas);
+
+    List<ReviewCountCheck> findReplyCountChecks(@Param("afterReviewId") Long afterReviewId, @Param("limit") int limit);
+
+    int fixReplyCounts(@Param("parentIds") Collection<Long> parentIds);
+}
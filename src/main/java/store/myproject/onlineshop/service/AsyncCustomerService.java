@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import store.myproject.onlineshop.domain.faillog.AsyncFailureLog;
 import store.myproject.onlineshop.domain.faillog.FailureStatus;
@@ -24,7 +25,11 @@ public class AsyncCustomerService {
 
     private static final int MAX_RETRY = 3;
 
+    /**
+     * Executor 가 가득 차 호출 스레드에서 실행(CALLER_RUNS)되어도 주문 트랜잭션에 참여하지 않도록 새 트랜잭션에서 실행합니다.
+     */
     @Async(value = "monthlyPurchaseExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void addMonthlyPurchaseAmount(Long customerId, BigDecimal amountToIncrease) {
         addMonthlyPurchaseAmountRetry(customerId, amountToIncrease, 0);
     }
@@ -47,6 +52,7 @@ public class AsyncCustomerService {
     }
 
     @Async(value = "monthlyPurchaseExecutor")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void subtractMonthlyPurchaseAmount(Long customerId, BigDecimal amountToDecrease) {
         subtractMonthlyPurchaseAmountRetry(customerId, amountToDecrease, 0);
     }
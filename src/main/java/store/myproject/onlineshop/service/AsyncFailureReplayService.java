@@ -0,0 +1,95 @@
+package store.myproject.onlineshop.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.myproject.onlineshop.domain.customer.CustomerRepository;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.domain.faillog.JobType;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.dto.faillog.FailedJob;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실패한 비동기 작업(AsyncFailureLog) 재실행
+ * - FAILED 행을 FOR UPDATE SKIP LOCKED 로 잠가 가져오므로 여러 노드가 동시에 실행해도 같은 행을 두 번 처리하지 않습니다.
+ * - 대상별로 증감분을 합산해 recipe_meta / customer 에 UPDATE 한 번씩 반영하고, 같은 트랜잭션에서 행을 RESOLVED 로 바꿉니다.
+ *   (반영과 상태 변경이 함께 커밋되거나 함께 롤백되므로 한 번만 반영됨)
+ * - 금액 없는 구매 금액 행은 반영할 수 없으므로 RESOLVED 로 바꾸지 않고 FAILED 로 남겨 직접 확인하도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncFailureReplayService {
+
+    private final AsyncFailureLogRepository asyncFailureLogRepository;
+    private final RecipeMetaRepository recipeMetaRepository;
+    private final CustomerRepository customerRepository;
+
+    /**
+     * 실패 행을 최대 limit 개 재실행합니다.
+     *
+     * @return JobType 별 처리한 행 수 (처리할 행이 없으면 빈 Map)
+     */
+    @Transactional
+    public Map<JobType, Integer> replay(int limit) {
+        List<FailedJob> jobs = asyncFailureLogRepository.claimFailedJobs(limit);
+        if (jobs.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, long[]> recipeDeltas = new HashMap<>();
+        Map<Long, BigDecimal> purchaseDeltas = new HashMap<>();
+        Map<JobType, Integer> replayed = new EnumMap<>(JobType.class);
+        List<Long> resolvedIds = new ArrayList<>(jobs.size());
+
+        for (FailedJob job : jobs) {
+            if (isMissingPurchaseAmount(job)) {
+                log.warn("금액 없는 구매 금액 실패 기록은 반영하지 않고 FAILED 로 남김: asyncFailureLogId={}", job.getAsyncFailureLogId());
+                continue;
+            }
+            switch (job.getJobType()) {
+                case RECIPE_VIEW_COUNT_INCREMENT -> addRecipeDelta(recipeDeltas, job, 0, 1);
+                case LIKE_COUNT_INCREMENT -> addRecipeDelta(recipeDeltas, job, 1, 1);
+                case LIKE_COUNT_DECREMENT -> addRecipeDelta(recipeDeltas, job, 1, -1);
+                case REVIEW_COUNT_INCREMENT -> addRecipeDelta(recipeDeltas, job, 2, 1);
+                case REVIEW_COUNT_DECREMENT -> addRecipeDelta(recipeDeltas, job, 2, -1);
+                case CUSTOMER_ORDER_AMOUNT_INCREMENT -> addPurchaseDelta(purchaseDeltas, job, BigDecimal.ONE);
+                case CUSTOMER_ORDER_AMOUNT_DECREMENT -> addPurchaseDelta(purchaseDeltas, job, BigDecimal.ONE.negate());
+            }
+            replayed.merge(job.getJobType(), 1, Integer::sum);
+            resolvedIds.add(job.getAsyncFailureLogId());
+        }
+
+        recipeMetaRepository.addCounts(recipeDeltas.entrySet().stream()
+                .map(entry -> new RecipeCounterDelta(entry.getKey(), entry.getValue()[0], entry.getValue()[1], entry.getValue()[2]))
+                .toList());
+        customerRepository.addMonthlyPurchaseAmounts(purchaseDeltas);
+        asyncFailureLogRepository.markResolved(resolvedIds);
+
+        return replayed;
+    }
+
+    // 카운터 작업은 amount 가 없으면 1건 (조회수 버퍼는 합산된 증가분을 amount 로 남김)
+    private void addRecipeDelta(Map<Long, long[]> deltas, FailedJob job, int field, int sign) {
+        long amount = job.getAmount() == null ? 1 : job.getAmount().longValue();
+        deltas.computeIfAbsent(job.getTargetId(), id -> new long[3])[field] += sign * amount;
+    }
+
+    private boolean isMissingPurchaseAmount(FailedJob job) {
+        return job.getAmount() == null
+                && (job.getJobType() == JobType.CUSTOMER_ORDER_AMOUNT_INCREMENT || job.getJobType() == JobType.CUSTOMER_ORDER_AMOUNT_DECREMENT);
+    }
+
+    private void addPurchaseDelta(Map<Long, BigDecimal> deltas, FailedJob job, BigDecimal sign) {
+        deltas.merge(job.getTargetId(), job.getAmount().multiply(sign), BigDecimal::add);
+    }
+}
@@ -17,6 +17,7 @@ import store.myproject.onlineshop.dto.brand.BrandInfo;
 import store.myproject.onlineshop.dto.brand.BrandUpdateRequest;
 import store.myproject.onlineshop.domain.brand.BrandRepository;
 import store.myproject.onlineshop.exception.AppException;
+import store.myproject.onlineshop.global.cache.ExistenceFilter;
 import store.myproject.onlineshop.global.utils.FileUtils;
 import store.myproject.onlineshop.global.utils.MessageUtil;
 
@@ -34,12 +35,16 @@ public class BrandService {
     private final BrandRepository brandRepository;
     private final AwsS3Service awsS3Service;
     private final MessageUtil messageUtil;
+    private final ExistenceFilter existenceFilter;
 
     /**
      * 브랜드 단건 조회 (캐싱 적용)
      */
     @Transactional(readOnly = true)
     public BrandInfo findBrandInfoById(UUID uuid) {
+        if (existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.BRAND, uuid)) {
+            throw new AppException(BRAND_NOT_FOUND, BRAND_NOT_FOUND.getMessage());
+        }
         return findBrandOrThrow(uuid).toBrandInfo();
     }
 
@@ -64,6 +69,8 @@ public class BrandService {
         savedBrand.addImage(image);
         imageFileRepository.save(image);
 
+        existenceFilter.add(ExistenceFilter.Type.BRAND, savedBrand.getUuid());
+
         return MessageResponse.of(savedBrand.getUuid(), messageUtil.get(MessageCode.BRAND_ADDED));
     }
 
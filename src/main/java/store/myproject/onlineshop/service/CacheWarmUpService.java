@@ -0,0 +1,150 @@
+package store.myproject.onlineshop.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import store.myproject.onlineshop.domain.item.ItemRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeRepository;
+import store.myproject.onlineshop.dto.cache.CacheWarmUpResponse;
+import store.myproject.onlineshop.exception.AppException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static store.myproject.onlineshop.exception.ErrorCode.CACHE_WARM_UP_IN_PROGRESS;
+
+/**
+ * 인기 레시피/상품 상세 캐시 워밍업
+ * - 배포 직후나 Redis 장애 복구 후 첫 트래픽이 모두 DB 로 몰리지 않도록 미리 L1/L2 캐시를 채웁니다.
+ * - 조회는 일반 상세 조회와 같은 경로(NearCache.getOrLoad)를 사용하므로 이미 L2 에 있는 값은 L1 에만 적재됩니다.
+ * - 동시 적재 수(parallelism)와 마감 시간(timeout)을 넘기지 않으며, 마감 시 남은 작업은 취소합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmUpService {
+
+    private final RecipeRepository recipeRepository;
+    private final ItemRepository itemRepository;
+    private final RecipeService recipeService;
+    private final ItemService itemService;
+
+    @Value("${cache.warm-up.recipe-limit:200}")
+    private int recipeLimit;
+
+    @Value("${cache.warm-up.item-limit:200}")
+    private int itemLimit;
+
+    @Value("${cache.warm-up.parallelism:8}")
+    private int parallelism;
+
+    @Value("${cache.warm-up.timeout:30s}")
+    private Duration timeout;
+
+    @Value("${cache.passthrough.enabled:false}")
+    private boolean passthroughEnabled;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 인기 레시피/상품 상세를 병렬로 캐시에 적재합니다.
+     * 이미 워밍업이 진행 중이면 CACHE_WARM_UP_IN_PROGRESS 예외가 발생합니다.
+     */
+    public CacheWarmUpResponse warmUp() {
+        if (!running.compareAndSet(false, true)) {
+            throw new AppException(CACHE_WARM_UP_IN_PROGRESS);
+        }
+        try {
+            return doWarmUp();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private CacheWarmUpResponse doWarmUp() {
+        long start = System.currentTimeMillis();
+
+        List<UUID> recipeUuids = recipeRepository.findPopularRecipeUuids(recipeLimit);
+        List<UUID> itemUuids = itemRepository.findPopularItemUuids(itemLimit);
+
+        AtomicInteger failedCount = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>(recipeUuids.size() + itemUuids.size());
+        recipeUuids.forEach(uuid -> tasks.add(task(failedCount, "recipe", uuid, () -> warmUpRecipe(uuid))));
+        itemUuids.forEach(uuid -> tasks.add(task(failedCount, "item", uuid, () -> warmUpItem(uuid))));
+
+        int cancelledCount = runAll(tasks);
+        boolean timedOut = cancelledCount > 0;
+        int failed = failedCount.get() + cancelledCount;
+
+        CacheWarmUpResponse response = CacheWarmUpResponse.builder()
+                .recipeCount(recipeUuids.size())
+                .itemCount(itemUuids.size())
+                .loadedCount(tasks.size() - failed)
+                .failedCount(failed)
+                .timedOut(timedOut)
+                .elapsedMillis(System.currentTimeMillis() - start)
+                .build();
+
+        log.info("캐시 워밍업 완료: recipes={}, items={}, loaded={}, failed={}, timedOut={}, elapsed={}ms",
+                response.getRecipeCount(), response.getItemCount(), response.getLoadedCount(),
+                response.getFailedCount(), response.isTimedOut(), response.getElapsedMillis());
+        return response;
+    }
+
+    private void warmUpRecipe(UUID recipeUuid) {
+        recipeService.getRecipeDetail(recipeUuid);
+        if (passthroughEnabled) {
+            recipeService.getRecipeDetailBody(recipeUuid);
+        }
+    }
+
+    private void warmUpItem(UUID itemUuid) {
+        itemService.getItem(itemUuid);
+        if (passthroughEnabled) {
+            itemService.getItemBody(itemUuid);
+        }
+    }
+
+    /**
+     * 개별 적재 실패(삭제된 레시피, 일시적인 Redis 오류 등)는 전체 워밍업을 멈추지 않고 실패 건수로만 집계합니다.
+     */
+    private Callable<Void> task(AtomicInteger failedCount, String type, UUID uuid, Runnable warmUp) {
+        return () -> {
+            try {
+                warmUp.run();
+            } catch (Exception e) {
+                failedCount.incrementAndGet();
+                log.warn("캐시 워밍업 실패: type={}, uuid={}, error={}", type, uuid, e.getMessage());
+            }
+            return null;
+        };
+    }
+
+    /**
+     * 고정 크기 풀에서 모든 작업을 실행하고, 마감 시간까지 끝나지 않아 취소된 작업 수를 반환합니다.
+     */
+    private int runAll(List<Callable<Void>> tasks) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()),
+                runnable -> new Thread(runnable, "Cache-Warm-Up-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<Void>> futures = executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return (int) futures.stream().filter(Future::isCancelled).count();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return tasks.size();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
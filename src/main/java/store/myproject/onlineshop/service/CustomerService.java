@@ -14,6 +14,7 @@ import store.myproject.onlineshop.domain.customer.Customer;
 import store.myproject.onlineshop.domain.membership.MemberShip;
 import store.myproject.onlineshop.dto.cusotmer.*;
 import store.myproject.onlineshop.domain.membership.MemberShipRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
 import store.myproject.onlineshop.exception.AppException;
 import store.myproject.onlineshop.global.annotation.SendMail;
 import store.myproject.onlineshop.global.utils.JwtUtils;
@@ -21,6 +22,7 @@ import store.myproject.onlineshop.domain.customer.CustomerRepository;
 import store.myproject.onlineshop.global.utils.MessageUtil;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -38,6 +40,7 @@ public class CustomerService {
     private final RedisService redisService;
     private final JwtUtils jwtUtils;
     private final MessageUtil messageUtil;
+    private final RecipeListViewRepository recipeListViewRepository;
 
     @Value("${refresh-token-maxage}")
     public int refreshTokenMaxAge;
@@ -147,7 +150,11 @@ public class CustomerService {
      */
     public MessageResponse updateCustomerInfo(CustomerModifyRequest request, String email) {
         Customer customer = findCustomerByEmail(email);
+        String previousNickName = customer.getNickName();
         customer.updateInfo(request);
+        if (!Objects.equals(previousNickName, customer.getNickName())) {
+            recipeListViewRepository.updateWriterNickName(customer.getId(), customer.getNickName());
+        }
         return MessageResponse.of(messageUtil.get(MessageCode.CUSTOMER_MODIFIED));
     }
 
@@ -2,11 +2,8 @@ package store.myproject.onlineshop.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -14,6 +11,9 @@ import store.myproject.onlineshop.dto.common.MessageCode;
 import store.myproject.onlineshop.dto.common.MessageResponse;
 import store.myproject.onlineshop.domain.brand.Brand;
 import store.myproject.onlineshop.dto.item.*;
+import store.myproject.onlineshop.global.cache.ExistenceFilter;
+import store.myproject.onlineshop.global.cache.NearCache;
+import store.myproject.onlineshop.global.cache.ResponseBodyCache;
 import store.myproject.onlineshop.global.utils.RedisKeyHelper;
 import store.myproject.onlineshop.domain.imagefile.ImageFile;
 import store.myproject.onlineshop.domain.brand.BrandRepository;
@@ -27,7 +27,6 @@ import store.myproject.onlineshop.global.utils.MessageUtil;
 import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import static store.myproject.onlineshop.exception.ErrorCode.*;
 
@@ -37,60 +36,39 @@ import static store.myproject.onlineshop.exception.ErrorCode.*;
 @RequiredArgsConstructor
 public class ItemService {
 
+    private static final Duration ITEM_CACHE_TTL = Duration.ofDays(1L);
+
     private final ImageFileRepository imageFileRepository;
     private final ItemRepository itemRepository;
     private final BrandRepository brandRepository;
     private final AwsS3Service awsS3Service;
     private final MessageUtil messageUtil;
-    private final RedisTemplate<String, Object> cacheRedisTemplate;
-    private final RedissonClient redisson;
-
+    private final NearCache nearCache;
+    private final ExistenceFilter existenceFilter;
+    private final ResponseBodyCache responseBodyCache;
+
+    /**
+     * 상품 정보를 조회합니다.
+     * 존재 필터에 없는 UUID 는 바로 거절하고, DB 에 없는 UUID 는 음성 캐시로 기억합니다.
+     */
     @Transactional(readOnly = true)
     public ItemDto getItem(UUID uuid) {
+        validateItemMayExist(uuid);
         String itemCacheKey = RedisKeyHelper.getItemCacheKey(uuid);
-        ItemDto cachedItemDto = (ItemDto) cacheRedisTemplate.opsForValue().get(itemCacheKey);
-
-        if (cachedItemDto != null) {
-            return cachedItemDto;
-        }
-
-        String itemLockKey = RedisKeyHelper.getItemLockKey(uuid);
-        RLock lock = redisson.getLock(itemLockKey);
-
-        try {
-            boolean isLocked = lock.tryLock(300, 2000, TimeUnit.MILLISECONDS);
-
-            if (isLocked) {
-                try {
-                    ItemDto doubleCheckCache = (ItemDto) cacheRedisTemplate.opsForValue().get(itemCacheKey);
-                    if (doubleCheckCache != null) {
-                        return doubleCheckCache;
-                    }
-
-                    Item item = getItemByUuid(uuid);
-
-                    ItemDto itemDto = ItemDto.from(item);
-
-                    cacheRedisTemplate.opsForValue().set(itemCacheKey, itemDto, Duration.ofDays(1L));
-
-                    return itemDto;
-
+        return nearCache.getOrLoadOptional(itemCacheKey, ITEM_CACHE_TTL,
+                        () -> itemRepository.findByUuid(uuid).map(ItemDto::from))
+                .orElseThrow(() -> new AppException(ITEM_NOT_FOUND));
+    }
 
-                } finally {
-                    lock.unlock();
-                }
-            } else {
-                for (int i = 0; i < 3; i++) {
-                    Thread.sleep(100);
-                    ItemDto retryCache = (ItemDto) cacheRedisTemplate.opsForValue().get(itemCacheKey);
-                    if (retryCache != null) return retryCache;
-                }
-                throw new AppException(ITEM_NOT_FOUND);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new AppException(FAIL_ROCK_ACQUIRE);
-        }
+    /**
+     * 상품 응답 본문(Response 로 감싼 JSON 바이트)을 조회합니다.
+     * 캐시 히트 시 역직렬화 없이 바이트를 그대로 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public byte[] getItemBody(UUID uuid) {
+        validateItemMayExist(uuid);
+        String itemBodyKey = RedisKeyHelper.getItemBodyKey(uuid);
+        return responseBodyCache.getOrLoad(itemBodyKey, ITEM_CACHE_TTL, () -> getItem(uuid));
     }
 
     @Transactional(readOnly = true)
@@ -124,6 +102,11 @@ public class ItemService {
             if (i == 0) savedItem.setThumbnail(originImageUrl);
         }
 
+        existenceFilter.add(ExistenceFilter.Type.ITEM, savedItem.getUuid());
+        // 커밋 전에 복제 지연된 slave 를 읽은 조회가 남긴 음성 캐시를 커밋 후 지웁니다.
+        nearCache.evict(RedisKeyHelper.getItemCacheKey(savedItem.getUuid()));
+        nearCache.evict(RedisKeyHelper.getItemBodyKey(savedItem.getUuid()));
+
         return MessageResponse.of(savedItem.getUuid(), messageUtil.get(MessageCode.ITEM_ADDED));
     }
 
@@ -163,7 +146,8 @@ public class ItemService {
         }
 
         String itemCacheKey = RedisKeyHelper.getItemCacheKey(uuid);
-        cacheRedisTemplate.delete(itemCacheKey);
+        nearCache.evict(itemCacheKey);
+        nearCache.evict(RedisKeyHelper.getItemBodyKey(uuid));
 
         return MessageResponse.of(findItem.getUuid(), messageUtil.get(MessageCode.ITEM_MODIFIED));
 
@@ -184,11 +168,18 @@ public class ItemService {
         itemRepository.deleteById(findItem.getId());
 
         String itemCacheKey = RedisKeyHelper.getItemCacheKey(uuid);
-        cacheRedisTemplate.delete(itemCacheKey);
+        nearCache.evict(itemCacheKey);
+        nearCache.evict(RedisKeyHelper.getItemBodyKey(uuid));
 
         return MessageResponse.of(findItem.getUuid(), messageUtil.get(MessageCode.ITEM_DELETED));
     }
 
+    private void validateItemMayExist(UUID uuid) {
+        if (existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.ITEM, uuid)) {
+            throw new AppException(ITEM_NOT_FOUND);
+        }
+    }
+
     private Item getItemByUuid(UUID uuid) {
         return itemRepository.findByUuid(uuid)
                 .orElseThrow(() -> new AppException(ITEM_NOT_FOUND));
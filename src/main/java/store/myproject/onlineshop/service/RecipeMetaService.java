@@ -12,10 +12,12 @@ import store.myproject.onlineshop.domain.faillog.AsyncFailureLog;
 import store.myproject.onlineshop.domain.faillog.FailureStatus;
 import store.myproject.onlineshop.domain.faillog.JobType;
 import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
 import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -25,25 +27,10 @@ public class RecipeMetaService {
 
     private final RecipeMetaRepository recipeMetaRepository;
     private final AsyncFailureLogRepository asyncFailureLogRepository;
+    private final RecipeListViewRepository recipeListViewRepository;
 
     private static final int MAX_RETRY = 3;
 
-    @Retryable(
-            retryFor = Exception.class,
-            maxAttempts = MAX_RETRY,
-            backoff = @Backoff(delay = 200, multiplier = 2))
-    @Async("recipeMetaExecutor")
-    @Transactional
-    public void asyncIncreaseViewCnt(Long recipeMetaId) {
-        recipeMetaRepository.incrementViewCnt(recipeMetaId);
-    }
-
-    @Recover
-    public void recoverIncreaseViewCnt(Exception e, Long recipeMetaId) {
-        log.error("조회수 증가 재시도 실패: recipeMetaId={}, error={}", recipeMetaId, e.getMessage(), e);
-        saveAsyncFailureLog(JobType.RECIPE_VIEW_COUNT_INCREMENT, recipeMetaId, e);
-    }
-
     @Retryable(
             retryFor = Exception.class,
             maxAttempts = MAX_RETRY,
@@ -52,6 +39,7 @@ public class RecipeMetaService {
     @Transactional
     public void asyncIncreaseLikeCnt(Long recipeMetaId) {
         recipeMetaRepository.incrementLikeCnt(recipeMetaId);
+        recipeListViewRepository.syncCounts(List.of(recipeMetaId));
     }
 
     @Recover
@@ -68,6 +56,7 @@ public class RecipeMetaService {
     @Transactional
     public void asyncDecreaseLikeCnt(Long recipeMetaId) {
         recipeMetaRepository.decrementLikeCnt(recipeMetaId);
+        recipeListViewRepository.syncCounts(List.of(recipeMetaId));
     }
 
     @Recover
@@ -76,38 +65,6 @@ public class RecipeMetaService {
         saveAsyncFailureLog(JobType.LIKE_COUNT_DECREMENT, recipeMetaId, e);
     }
 
-    @Retryable(
-            retryFor = Exception.class,
-            maxAttempts = MAX_RETRY,
-            backoff = @Backoff(delay = 200, multiplier = 2))
-    @Async("recipeMetaExecutor")
-    @Transactional
-    public void asyncIncreaseReviewCnt(Long recipeMetaId) {
-        recipeMetaRepository.incrementReviewCnt(recipeMetaId);
-    }
-
-    @Recover
-    public void recoverIncreaseReviewCnt(Exception e, Long recipeMetaId) {
-        log.error("리뷰 수 증가 재시도 실패: recipeMetaId={}, error={}", recipeMetaId, e.getMessage(), e);
-        saveAsyncFailureLog(JobType.REVIEW_COUNT_INCREMENT, recipeMetaId, e);
-    }
-
-    @Retryable(
-            retryFor = Exception.class,
-            maxAttempts = MAX_RETRY,
-            backoff = @Backoff(delay = 200, multiplier = 2))
-    @Async("recipeMetaExecutor")
-    @Transactional
-    public void asyncDecreaseReviewCnt(Long recipeMetaId) {
-        recipeMetaRepository.decrementReviewCnt(recipeMetaId);
-    }
-
-    @Recover
-    public void recoverDecreaseReviewCnt(Exception e, Long recipeMetaId) {
-        log.error("리뷰 수 감소 재시도 실패: recipeMetaId={}, error={}", recipeMetaId, e.getMessage(), e);
-        saveAsyncFailureLog(JobType.REVIEW_COUNT_DECREMENT, recipeMetaId, e);
-    }
-
     private void saveAsyncFailureLog(JobType jobType, Long targetId, Exception e) {
         AsyncFailureLog log = AsyncFailureLog.builder()
                 .jobType(jobType)
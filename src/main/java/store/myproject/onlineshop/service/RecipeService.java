@@ -2,10 +2,8 @@ package store.myproject.onlineshop.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,11 +16,26 @@ import store.myproject.onlineshop.domain.faillog.JobType;
 import store.myproject.onlineshop.dto.recipe.*;
 import store.myproject.onlineshop.dto.recipemeta.RecipeMetaDto;
 import store.myproject.onlineshop.domain.recipestep.RecipeStep;
-import store.myproject.onlineshop.dto.recipestep.RecipeStepDto;
+import store.myproject.onlineshop.dto.review.ChildReviewCursorResponse;
 import store.myproject.onlineshop.dto.review.ChildReviewResponse;
+import store.myproject.onlineshop.dto.review.ReviewCursor;
+import store.myproject.onlineshop.dto.review.ReviewCursorResponse;
+import store.myproject.onlineshop.dto.review.ReviewReplyRow;
 import store.myproject.onlineshop.dto.review.ReviewResponse;
+import store.myproject.onlineshop.dto.review.ReviewRow;
 import store.myproject.onlineshop.dto.review.ReviewUpdateRequest;
 import store.myproject.onlineshop.dto.review.ReviewWriteRequest;
+import store.myproject.onlineshop.global.cache.ExistenceFilter;
+import store.myproject.onlineshop.global.cache.ItemRecipeIndex;
+import store.myproject.onlineshop.global.cache.NearCache;
+import store.myproject.onlineshop.global.cache.RecipeListCache;
+import store.myproject.onlineshop.global.cache.ResponseBodyCache;
+import store.myproject.onlineshop.global.counter.LikeStore;
+import store.myproject.onlineshop.global.counter.RecipeCounterStore;
+import store.myproject.onlineshop.global.counter.RecipeRankingStore;
+import store.myproject.onlineshop.global.counter.UniqueViewFilter;
+import store.myproject.onlineshop.global.counter.ViewCountBuffer;
+import store.myproject.onlineshop.global.event.ReviewCountEvent;
 import store.myproject.onlineshop.global.utils.RedisKeyHelper;
 import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
 import store.myproject.onlineshop.domain.customer.CustomerRepository;
@@ -33,21 +46,24 @@ import store.myproject.onlineshop.domain.like.LikeRepository;
 import store.myproject.onlineshop.domain.recipe.Recipe;
 import store.myproject.onlineshop.domain.recipe.RecipeRepository;
 import store.myproject.onlineshop.domain.recipe.RecipeItem;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
 import store.myproject.onlineshop.domain.review.Review;
-import store.myproject.onlineshop.domain.recipe.RecipeItemRepository;
 import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
-import store.myproject.onlineshop.domain.recipestep.RecipeStepRepository;
 import store.myproject.onlineshop.domain.review.ReviewRepository;
 import store.myproject.onlineshop.exception.AppException;
 import store.myproject.onlineshop.global.utils.MessageUtil;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static store.myproject.onlineshop.domain.faillog.FailureStatus.*;
@@ -57,6 +73,7 @@ import static store.myproject.onlineshop.exception.ErrorCode.FORBIDDEN_ACCESS;
 import static store.myproject.onlineshop.exception.ErrorCode.INVALID_REVIEW;
 import static store.myproject.onlineshop.exception.ErrorCode.ITEM_NOT_FOUND;
 import static store.myproject.onlineshop.exception.ErrorCode.RECIPE_NOT_FOUND;
+import static store.myproject.onlineshop.exception.ErrorCode.RECIPE_RANKING_DISABLED;
 import static store.myproject.onlineshop.exception.ErrorCode.REVIEW_NOT_FOUND;
 
 @Slf4j
@@ -65,6 +82,12 @@ import static store.myproject.onlineshop.exception.ErrorCode.REVIEW_NOT_FOUND;
 @RequiredArgsConstructor
 public class RecipeService {
 
+    private static final Duration RECIPE_CACHE_TTL = Duration.ofDays(1L);
+    private static final int MAX_RANKING_SIZE = 50;
+    private static final int MAX_ITEM_RECIPE_SIZE = 50;
+    private static final int CHILD_REVIEW_PREVIEW_SIZE = 3;
+    private static final int MAX_REVIEW_SIZE = 50;
+
     private final LikeRepository likeRepository;
     private final CustomerRepository customerRepository;
     private final RecipeRepository recipeRepository;
@@ -73,93 +96,98 @@ public class RecipeService {
     private final MessageUtil messageUtil;
     private final AwsS3Service awsS3Service;
     private final RecipeMetaService recipeMetaService;
-    private final RecipeStepRepository recipeStepRepository;
-    private final RecipeItemRepository recipeItemRepository;
-    private final RedisTemplate<String, Object> cacheRedisTemplate;
-    private final RedissonClient redisson;
+    private final NearCache nearCache;
+    private final ExistenceFilter existenceFilter;
+    private final ResponseBodyCache responseBodyCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final RecipeCounterStore recipeCounterStore;
+    private final UniqueViewFilter uniqueViewFilter;
+    private final LikeStore likeStore;
+    private final RecipeRankingStore recipeRankingStore;
+    private final RecipeListViewRepository recipeListViewRepository;
+    private final RecipeListCache recipeListCache;
+    private final ItemRecipeIndex itemRecipeIndex;
     private final RecipeMetaRepository recipeMetaRepository;
     private final AsyncFailureLogRepository asyncFailureLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 단일 레시피 정보를 조회하고 조회수를 증가시킵니다.
+     * 단일 레시피 정보를 조회합니다.
+     * 캐시 미스 시 같은 JVM 안의 동시 요청은 하나의 DB 조회를 공유합니다.
+     * 존재 필터에 없는 UUID 는 바로 거절하고, DB 에 없는 UUID 는 음성 캐시로 기억합니다.
      */
     @Transactional(readOnly = true)
     public RecipeDto getRecipeDetail(UUID recipeUuid) {
+        validateRecipeMayExist(recipeUuid);
         String recipeCacheKey = RedisKeyHelper.getRecipeKey(recipeUuid);
+        return nearCache.getOrLoadOptional(recipeCacheKey, RECIPE_CACHE_TTL,
+                        () -> recipeRepository.findRecipeDetailByUuid(recipeUuid))
+                .orElseThrow(() -> new AppException(RECIPE_NOT_FOUND));
+    }
 
-        // 1. 캐시에서 데이터 조회
-        RecipeDto cachedRecipe = (RecipeDto) cacheRedisTemplate.opsForValue().get(recipeCacheKey);
-        if (cachedRecipe != null) {
-            return cachedRecipe;
-        }
-
-        // 2. 캐시에 없으면 락 획득 후 다시 확인 및 저장
-        String recipeLockKey = RedisKeyHelper.getRecipeLockKey(recipeUuid);
-        RLock lock = redisson.getLock(recipeLockKey);
-
-        try {
-            boolean isLocked = lock.tryLock(300, 2000, TimeUnit.MILLISECONDS);
-
-            if (isLocked) {
-                try {
-                    // 캐시 재확인 (다른 스레드가 락을 선점하여 캐싱했을 수도 있음)
-                    RecipeDto doubleCheckCache = (RecipeDto) cacheRedisTemplate.opsForValue().get(recipeCacheKey);
-                    if (doubleCheckCache != null) {
-                        return doubleCheckCache;
-                    }
-
-                    // DB 조회
-                    RecipeDto recipeDto = recipeRepository.findRecipeDtoByUuid(recipeUuid)
-                            .orElseThrow(() -> new AppException(RECIPE_NOT_FOUND));
-
-                    List<RecipeStepDto> stepDtos = recipeStepRepository.findStepsByRecipeUuid(recipeUuid);
-                    List<RecipeItemDto> itemDtos = recipeItemRepository.findItemsByRecipeUuid(recipeUuid);
-
-                    recipeDto.setSteps(stepDtos);
-                    recipeDto.setItems(itemDtos);
-
-                    // 캐시에 저장 (1일 유지)
-                    cacheRedisTemplate.opsForValue().set(recipeCacheKey, recipeDto, Duration.ofDays(1L));
-
-                    return recipeDto;
-                } finally {
-                    lock.unlock();
-                }
-            } else {
-                for (int i = 0; i < 3; i++) {
-                    Thread.sleep(100); // 100ms 대기
-                    RecipeDto retryCache = (RecipeDto) cacheRedisTemplate.opsForValue().get(recipeCacheKey);
-                    if (retryCache != null) {
-                        return retryCache;
-                    }
-                }
-                throw new AppException(RECIPE_NOT_FOUND);
-            }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            // todo 커스텀 예외 처리
-            throw new RuntimeException("Thread interrupted during lock acquisition", e);
-        }
-
+    /**
+     * 단일 레시피 응답 본문(Response 로 감싼 JSON 바이트)을 조회합니다.
+     * 캐시 히트 시 역직렬화 없이 바이트를 그대로 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public byte[] getRecipeDetailBody(UUID recipeUuid) {
+        validateRecipeMayExist(recipeUuid);
+        String recipeBodyKey = RedisKeyHelper.getRecipeBodyKey(recipeUuid);
+        return responseBodyCache.getOrLoad(recipeBodyKey, RECIPE_CACHE_TTL, () -> getRecipeDetail(recipeUuid));
     }
 
     /**
-     * 레시피 통계 정보(조회수, 좋아요 수, 댓글 수) 조회
+     * 레시피 통계 정보(조회수, 좋아요 수, 댓글 수) 조회 (Redis 카운터 사용 시 미반영 증가분 포함)
      */
     @Transactional(readOnly = true)
     public RecipeMetaDto getRecipeMeta(UUID recipeUuid) {
         Recipe recipe = recipeRepository.findByUuid(recipeUuid)
                 .orElseThrow(() -> new AppException(RECIPE_NOT_FOUND));
 
-        return recipeMetaRepository.findRecipeMetaDto(recipe.getId());
+        RecipeMetaDto recipeMeta = recipeMetaRepository.findRecipeMetaDto(recipe.getRecipeMeta().getId());
+
+        if (recipeCounterStore.isEnabled()) {
+            RecipeCounterStore.Pending pending = recipeCounterStore.getPending(recipeUuid);
+            recipeMeta.setViewCnt(recipeMeta.getViewCnt() + pending.view());
+            recipeMeta.setLikeCnt(Math.max(0, recipeMeta.getLikeCnt() + pending.like()));
+        }
+        return recipeMeta;
     }
 
     /**
      * 레시피 목록 조회.
+     * 커서 없는 첫 페이지는 조건별로 공유 캐시에서 가져오고, 미반영 카운터와 좋아요 여부만 요청마다 채웁니다.
      */
     @Transactional(readOnly = true)
-    public RecipeCursorResponse getRecipes(RecipeListCond cond) {
+    public RecipeCursorResponse getRecipes(RecipeListCond cond, String email) {
+
+        RecipeCursorResponse page = recipeListCache.isCacheable(cond)
+                ? recipeListCache.getOrLoad(cond, () -> findRecipePage(cond))
+                : findRecipePage(cond);
+
+        List<SimpleRecipeDto> limitedRecipes = page.getContent();
+
+        // 커서는 정렬 기준인 DB 값으로 만든 뒤, 응답 수치에만 미반영 증가분을 더합니다.
+        if (recipeCounterStore.isEnabled()) {
+            Map<UUID, RecipeCounterStore.Pending> pending = recipeCounterStore.getPending(
+                    limitedRecipes.stream().map(SimpleRecipeDto::getRecipeUuid).toList());
+            limitedRecipes.forEach(recipe -> {
+                RecipeCounterStore.Pending counts = pending.get(recipe.getRecipeUuid());
+                if (counts != null) {
+                    recipe.addPendingCounts(counts.view(), counts.like());
+                }
+            });
+        }
+
+        markLikedByMe(limitedRecipes, email);
+
+        return page;
+    }
 
+    /**
+     * 목록 한 페이지와 다음 페이지 커서를 DB 값 그대로 만듭니다.
+     */
+    private RecipeCursorResponse findRecipePage(RecipeListCond cond) {
         List<SimpleRecipeDto> recipes = recipeRepository.findRecipeList(cond);
 
         boolean hasNext = recipes.size() > cond.getSize();
@@ -183,6 +211,56 @@ public class RecipeService {
         return RecipeCursorResponse.of(limitedRecipes, nextUuid, nextViewCount, nextLikeCount);
     }
 
+    /**
+     * 레시피 랭킹 조회 (cursor 는 다음 페이지의 시작 순위 - 1)
+     * 레시피 정보는 상세 캐시에서 MGET 한 번으로 채우고, 캐시에 없는 레시피만 IN 조회 한 번으로 채웁니다.
+     */
+    @Transactional(readOnly = true)
+    public RecipeRankingResponse getRecipeRankings(RecipeRankingPeriod period, RecipeRankingMetric metric, Long cursor, int size) {
+        if (!recipeRankingStore.isEnabled()) {
+            throw new AppException(RECIPE_RANKING_DISABLED);
+        }
+
+        long offset = cursor == null ? 0 : Math.max(0, cursor);
+        int limit = Math.clamp(size, 1, MAX_RANKING_SIZE);
+        List<RecipeRankingStore.Entry> entries = recipeRankingStore.getRange(period, metric, offset, limit + 1);
+
+        boolean hasNext = entries.size() > limit;
+        List<RecipeRankingStore.Entry> page = hasNext ? entries.subList(0, limit) : entries;
+
+        Map<UUID, RecipeDto> cached = new HashMap<>();
+        try {
+            Map<String, RecipeDto> found = nearCache.getAll(page.stream()
+                    .map(entry -> RedisKeyHelper.getRecipeKey(entry.recipeUuid()))
+                    .toList());
+            found.values().forEach(recipe -> cached.put(recipe.getRecipeUuid(), recipe));
+        } catch (Exception e) {
+            log.warn("랭킹 레시피 캐시 조회 실패, DB 로 조회: error={}", e.getMessage());
+        }
+
+        List<UUID> missing = page.stream()
+                .map(RecipeRankingStore.Entry::recipeUuid)
+                .filter(uuid -> !cached.containsKey(uuid))
+                .toList();
+        Map<UUID, SimpleRecipeDto> loaded = missing.isEmpty() ? Map.of() : recipeRepository.findSimpleRecipesByUuids(missing)
+                .stream()
+                .collect(Collectors.toMap(SimpleRecipeDto::getRecipeUuid, recipe -> recipe));
+
+        // 삭제되어 정보가 없는 레시피는 건너뛰되 순위는 랭킹상의 위치를 그대로 사용합니다.
+        List<RecipeRankingDto> content = new ArrayList<>();
+        for (int i = 0; i < page.size(); i++) {
+            RecipeRankingStore.Entry entry = page.get(i);
+            long rank = offset + i + 1;
+            if (cached.containsKey(entry.recipeUuid())) {
+                content.add(RecipeRankingDto.of(rank, entry.score(), cached.get(entry.recipeUuid())));
+            } else if (loaded.containsKey(entry.recipeUuid())) {
+                content.add(RecipeRankingDto.of(rank, entry.score(), loaded.get(entry.recipeUuid())));
+            }
+        }
+
+        return RecipeRankingResponse.of(content, hasNext ? offset + limit : null);
+    }
+
     /**
      * 레시피를 등록합니다. 재료 및 단계, 썸네일까지 포함됩니다.
      */
@@ -193,6 +271,13 @@ public class RecipeService {
         recipe.addSteps(mapToRecipeSteps(request.getSteps()));
         applyThumbnail(recipe, request.getThumbnailUrl());
         recipeRepository.save(recipe);
+        existenceFilter.add(ExistenceFilter.Type.RECIPE, recipe.getUuid());
+        // 커밋 전에 복제 지연된 slave 를 읽은 조회가 남긴 음성 캐시를 커밋 후 지웁니다.
+        nearCache.evict(RedisKeyHelper.getRecipeKey(recipe.getUuid()));
+        nearCache.evict(RedisKeyHelper.getRecipeBodyKey(recipe.getUuid()));
+        refreshListView(recipe);
+        recipeListCache.invalidate();
+        itemRecipeIndex.publish(recipe.getId(), itemIdsOf(recipe));
         return MessageResponse.of(recipe.getUuid(), messageUtil.get(MessageCode.RECIPE_ADDED));
     }
 
@@ -209,10 +294,14 @@ public class RecipeService {
         recipe.addItems(mapToRecipeItems(request.getItemUuidList()));
         recipe.addSteps(mapToRecipeSteps(request.getSteps()));
         applyThumbnail(recipe, request.getThumbnailUrl());
+        refreshListView(recipe);
+        recipeListCache.invalidate();
+        itemRecipeIndex.publish(recipe.getId(), itemIdsOf(recipe));
 
         // 캐시 무효화
         String recipeCacheKey = RedisKeyHelper.getRecipeKey(recipeUuid);
-        cacheRedisTemplate.delete(recipeCacheKey);
+        nearCache.evict(recipeCacheKey);
+        nearCache.evict(RedisKeyHelper.getRecipeBodyKey(recipeUuid));
 
         return MessageResponse.of(recipe.getUuid(), messageUtil.get(MessageCode.RECIPE_MODIFIED));
     }
@@ -225,38 +314,61 @@ public class RecipeService {
         Recipe recipe = getRecipeByUuid(recipeUuid);
         validatePermission(customer, recipe.getCustomer());
         recipeRepository.delete(recipe);
+        refreshListView(recipe);
+        recipeListCache.invalidate();
+        itemRecipeIndex.publish(recipe.getId(), List.of());
 
         // 캐시 무효화
         String recipeCacheKey = RedisKeyHelper.getRecipeKey(recipeUuid);
-        cacheRedisTemplate.delete(recipeCacheKey);
+        nearCache.evict(recipeCacheKey);
+        nearCache.evict(RedisKeyHelper.getRecipeBodyKey(recipeUuid));
 
         return MessageResponse.of(recipe.getUuid(), messageUtil.get(MessageCode.RECIPE_DELETED));
     }
 
     /**
-     * 해당 레시피에 작성된 댓글과 대댓글 일부를 조회합니다.
+     * 해당 레시피에 작성된 댓글을 작성순 커서 페이지로 조회하고, 댓글마다 앞쪽 대댓글 일부를 함께 담습니다.
+     * 전체 댓글 수는 COUNT 대신 recipe_meta.review_cnt 를 사용합니다. (ReviewCountBuffer 가 반영하기 전의 증감분은 제외)
      */
-    public Page<ReviewResponse> getRecipeReviews(UUID recipeUuid, Pageable pageable) {
-        Recipe recipe = getRecipeByUuid(recipeUuid);
-        Page<Review> parents = reviewRepository.findParentReviews(recipe, pageable);
-        List<Long> parentIds = parents.stream().map(Review::getId).toList();
-        Map<Long, List<Review>> childMap = reviewRepository.findTop3ChildReviews(parentIds, PageRequest.of(0, 3))
-                .stream().collect(Collectors.groupingBy(Review::getParentId));
-        Map<Long, Long> childCountMap = reviewRepository.countByParentIds(parentIds);
-        return parents.map(parent -> toReviewResponse(parent, childMap, childCountMap));
+    public ReviewCursorResponse getRecipeReviews(UUID recipeUuid, UUID cursor, int size) {
+        Recipe recipe = getRecipeWithMeta(recipeUuid);
+        ReviewCursor after = cursor == null ? null : getCursorReview(cursor, recipe.getId(), null);
+        int limit = Math.clamp(size, 1, MAX_REVIEW_SIZE);
+
+        List<ReviewRow> rows = reviewRepository.findReviews(recipe.getId(), null, after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ReviewRow> parents = hasNext ? rows.subList(0, limit) : rows;
+
+        List<Long> parentIds = parents.stream().map(ReviewRow::getReviewId).toList();
+        Map<Long, List<ReviewReplyRow>> replyMap = reviewRepository.findTopReplies(parentIds, CHILD_REVIEW_PREVIEW_SIZE)
+                .stream().collect(Collectors.groupingBy(ReviewReplyRow::getParentId));
+        List<ReviewResponse> content = parents.stream()
+                .map(parent -> toReviewResponse(parent, replyMap.getOrDefault(parent.getReviewId(), List.of())))
+                .toList();
+
+        UUID nextUuid = hasNext ? parents.get(parents.size() - 1).getReviewUuid() : null;
+        return ReviewCursorResponse.of(content, nextUuid, getReviewCount(recipe));
     }
 
     /**
-     * 특정 댓글의 모든 대댓글을 조회합니다.
+     * 특정 댓글의 대댓글을 작성순 커서 페이지로 조회합니다. 전체 대댓글 수는 review.reply_cnt 를 사용합니다.
      */
-    public Page<ChildReviewResponse> getChildReviews(UUID recipeUuid, UUID reviewUuid, Pageable pageable) {
-        getRecipeByUuid(recipeUuid);
+    public ChildReviewCursorResponse getChildReviews(UUID recipeUuid, UUID reviewUuid, UUID cursor, int size) {
+        Recipe recipe = getRecipeByUuid(recipeUuid);
         Review parent = getReviewByUuid(reviewUuid);
         if (!parent.getRecipe().getUuid().equals(recipeUuid)) {
             throw new AppException(INVALID_REVIEW);
         }
-        return reviewRepository.findByParentId(parent.getId(), pageable)
-                .map(this::toChildReviewDto);
+        ReviewCursor after = cursor == null ? null : getCursorReview(cursor, recipe.getId(), parent.getId());
+        int limit = Math.clamp(size, 1, MAX_REVIEW_SIZE);
+
+        List<ReviewRow> rows = reviewRepository.findReviews(recipe.getId(), parent.getId(), after, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        List<ReviewRow> replies = hasNext ? rows.subList(0, limit) : rows;
+
+        UUID nextUuid = hasNext ? replies.get(replies.size() - 1).getReviewUuid() : null;
+        return ChildReviewCursorResponse.of(replies.stream().map(this::toChildReviewResponse).toList(),
+                nextUuid, parent.getReplyCnt());
     }
 
     /**
@@ -273,9 +385,10 @@ public class RecipeService {
             parentId = parentReview.getId();
         }
 
+        // recipe.reviewList 를 초기화하지 않도록 Review 쪽 연관만 설정해 저장합니다.
         Review review = request.toEntity(parentId, request.getReviewContent(), customer, recipe);
-        review.addReviewToRecipe(recipe);
         reviewRepository.save(review);
+        eventPublisher.publishEvent(ReviewCountEvent.created(recipeUuid, recipe.getRecipeMeta().getId(), parentId));
         return MessageResponse.of(review.getUuid(), messageUtil.get(MessageCode.RECIPE_REVIEW_ADDED));
     }
 
@@ -299,15 +412,24 @@ public class RecipeService {
         Recipe recipe = getRecipeWithMeta(recipeUuid);
         Review review = getReviewByUuid(reviewUuid);
         validatePermission(customer, review.getCustomer());
-        review.removeReviewToRecipe();
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(ReviewCountEvent.deleted(recipeUuid, recipe.getRecipeMeta().getId(), review.getParentId()));
         return MessageResponse.of(review.getUuid(), messageUtil.get(MessageCode.RECIPE_REVIEW_DELETED));
     }
 
     /**
      * 좋아요 토글 처리합니다. 이미 눌렀으면 삭제, 아니면 추가.
+     * Redis 카운터 모드에서는 토글 판단과 좋아요 수 증가를 Redis 에서 원자적으로 처리하고 like_count 는 일괄 반영합니다.
      */
     public MessageResponse toggleLike(UUID recipeUuid, String email) {
+        if (likeStore.isEnabled()) {
+            validateRecipeMayExist(recipeUuid);
+            Long customerId = getCustomerByEmail(email).getId();
+            boolean liked = likeStore.toggle(recipeUuid, customerId, () -> findLikerIds(recipeUuid));
+            recipeRankingStore.record(recipeUuid, RecipeRankingMetric.LIKE, liked ? 1 : -1);
+            return MessageResponse.of(messageUtil.get(liked ? MessageCode.DO_LIKE : MessageCode.UNDO_LIKE));
+        }
+
         Customer customer = getCustomerByEmail(email);
         Recipe recipe = getRecipeWithMeta(recipeUuid);
         Optional<Like> like = likeRepository.findByRecipeAndCustomer(recipe, customer);
@@ -315,12 +437,12 @@ public class RecipeService {
         if (like.isPresent()) {
             likeRepository.delete(like.get());
             decreaseLikeCount(recipeMetaId);
-            recipeMetaService.asyncDecreaseLikeCnt(recipeMetaId);
+            recipeRankingStore.record(recipeUuid, RecipeRankingMetric.LIKE, -1);
             return MessageResponse.of(messageUtil.get(MessageCode.UNDO_LIKE));
         }
         likeRepository.save(Like.of(customer, recipe));
         increaseLikeCount(recipeMetaId);
-        recipeMetaService.asyncIncreaseLikeCnt(recipeMetaId);
+        recipeRankingStore.record(recipeUuid, RecipeRankingMetric.LIKE, 1);
 
         return MessageResponse.of(messageUtil.get(MessageCode.DO_LIKE));
     }
@@ -333,43 +455,36 @@ public class RecipeService {
     }
 
     /**
-     * 레시피 조회 수 증가
+     * 레시피 조회 수 증가 (Redis 카운터 또는 버퍼에 모아 주기적으로 일괄 반영)
+     * 순 조회자 모드에서는 같은 조회자의 window 내 재조회를 집계하지 않습니다.
      */
-    public void increaseRecipeViewCount(UUID recipeUuid) {
-        Long recipeMetaId = recipeRepository.findRecipeMetaIdByRecipeUuid(recipeUuid);
-        try {
-            recipeMetaService.asyncIncreaseViewCnt(recipeMetaId);
-        } catch (RejectedExecutionException e) {
-            saveAsyncFailureLog(e, recipeMetaId, RECIPE_VIEW_COUNT_INCREMENT);
-        }
+    public void increaseRecipeViewCount(UUID recipeUuid, String viewerId) {
+        increaseRecipeViewCount(recipeUuid, null, viewerId);
     }
 
     /**
-     * 리뷰 수 증가
+     * 캐시된 RecipeDto 의 recipeMetaId 를 알고 있으면 recipe_meta_id 조회 없이 버퍼에 더합니다. (null 이면 조회)
      */
-    public void increaseReviewCount(UUID recipeUuid) {
-        Long recipeMetaId = recipeRepository.findRecipeMetaIdByRecipeUuid(recipeUuid);
-        try {
-            recipeMetaService.asyncIncreaseReviewCnt(recipeMetaId);
-        } catch (RejectedExecutionException e) {
-            saveAsyncFailureLog(e, recipeMetaId, REVIEW_COUNT_INCREMENT);
+    public void increaseRecipeViewCount(UUID recipeUuid, Long recipeMetaId, String viewerId) {
+        if (uniqueViewFilter.isEnabled() && !uniqueViewFilter.isFirstView(recipeUuid, viewerId)) {
+            return;
         }
-    }
+        recipeRankingStore.record(recipeUuid, RecipeRankingMetric.VIEW, 1);
 
-    /**
-     * 리뷰 수 감소
-     */
-    public void decreaseReviewCount(UUID recipeUuid) {
-        Long recipeMetaId = recipeRepository.findRecipeMetaIdByRecipeUuid(recipeUuid);
-        try {
-            recipeMetaService.asyncDecreaseReviewCnt(recipeMetaId);
-        } catch (RejectedExecutionException e) {
-            saveAsyncFailureLog(e, recipeMetaId, REVIEW_COUNT_DECREMENT);
+        if (recipeCounterStore.isEnabled()) {
+            recipeCounterStore.increment(recipeUuid, RecipeCounterStore.Field.VIEW, 1);
+            return;
+        }
+        if (recipeMetaId == null) {
+            recipeMetaId = recipeRepository.findRecipeMetaIdByRecipeUuid(recipeUuid);
+        }
+        if (recipeMetaId != null) {
+            viewCountBuffer.increment(recipeMetaId);
         }
     }
 
     /**
-     * 리뷰 수 증가
+     * 좋아요 수 증가
      */
     public void increaseLikeCount(Long recipeMetaId) {
         try {
@@ -380,22 +495,119 @@ public class RecipeService {
     }
 
     /**
-     * 리뷰 수 감소
+     * 좋아요 수 감소
      */
     public void decreaseLikeCount(Long recipeMetaId) {
         try {
             recipeMetaService.asyncDecreaseLikeCnt(recipeMetaId);
         } catch (RejectedExecutionException e) {
-            saveAsyncFailureLog(e, recipeMetaId, LIKE_COUNT_INCREMENT);
+            saveAsyncFailureLog(e, recipeMetaId, LIKE_COUNT_DECREMENT);
         }
     }
 
     /**
-     * 특정 아이템을 사용하는 레시피 목록 조회
+     * 특정 아이템을 사용하는 레시피 목록 조회 (최신순 커서, cursor 는 이전 페이지의 마지막 레시피 UUID)
+     * 레시피 ID 페이지와 개수는 메모리 역색인에서 구하고, DB 는 해당 페이지의 레시피 정보만 IN 조회합니다.
+     * 역색인이 준비되지 않았으면 (item_id, recipe_id) 인덱스로 같은 페이지를 DB 에서 구합니다.
+     * 커서는 삭제된 레시피도 ID 로 바꾸므로, 페이지 사이에 커서 레시피가 삭제되어도 이어서 조회합니다.
      */
-    public Page<SimpleRecipeDto> getRecipesByItem(UUID itemUuid, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ItemRecipeCursorResponse getRecipesByItem(UUID itemUuid, UUID cursor, int size, String email) {
         Long itemId = itemRepository.findIdByUuid(itemUuid).orElseThrow(() -> new AppException(ITEM_NOT_FOUND));
-        return recipeRepository.findRecipeUseItem(itemId, pageable);
+        Long beforeRecipeId = cursor == null
+                ? null
+                : recipeRepository.findIdByUuidWithDeleted(cursor).orElseThrow(() -> new AppException(RECIPE_NOT_FOUND));
+        int limit = Math.clamp(size, 1, MAX_ITEM_RECIPE_SIZE);
+
+        boolean indexed = itemRecipeIndex.isReady();
+        List<Long> recipeIds = indexed
+                ? itemRecipeIndex.findRecipeIds(itemId, beforeRecipeId, limit + 1)
+                : recipeRepository.findRecipeIdsUseItem(itemId, beforeRecipeId, limit + 1);
+        long totalCount = indexed
+                ? itemRecipeIndex.count(itemId)
+                : recipeRepository.countRecipeUseItem(itemId);
+
+        boolean hasNext = recipeIds.size() > limit;
+        List<Long> pageIds = hasNext ? recipeIds.subList(0, limit) : recipeIds;
+        List<SimpleRecipeDto> recipes = pageIds.isEmpty()
+                ? List.of()
+                : recipeRepository.findSimpleRecipesByIdsOrderByIdDesc(pageIds);
+
+        UUID nextUuid = hasNext ? lastRecipeUuid(pageIds, recipes) : null;
+
+        markLikedByMe(recipes, email);
+        return ItemRecipeCursorResponse.of(recipes, nextUuid, totalCount);
+    }
+
+    /**
+     * 페이지의 마지막 레시피 ID 에 해당하는 UUID 를 반환합니다.
+     * ID 조회와 정보 조회 사이에 삭제되어 정보가 빠졌으면 삭제된 행에서 UUID 를 찾습니다. (커서가 앞으로 돌아가거나 끊기지 않도록)
+     */
+    private UUID lastRecipeUuid(List<Long> pageIds, List<SimpleRecipeDto> recipes) {
+        if (recipes.size() == pageIds.size()) {
+            return recipes.get(recipes.size() - 1).getRecipeUuid();
+        }
+        Long lastId = pageIds.get(pageIds.size() - 1);
+        return recipeRepository.findUuidByIdWithDeleted(lastId).orElseThrow(() -> new AppException(RECIPE_NOT_FOUND));
+    }
+
+    /**
+     * 로그인 사용자의 좋아요 여부를 페이지 단위로 한 번에 채웁니다.
+     * Redis 좋아요 Set 이 있는 레시피는 Redis 로, 나머지는 like_count IN 조회 한 번으로 확인합니다.
+     */
+    private void markLikedByMe(List<SimpleRecipeDto> recipes, String email) {
+        if (email == null || recipes.isEmpty()) {
+            return;
+        }
+        Long customerId = customerRepository.findIdByEmail(email).orElse(null);
+        if (customerId == null) {
+            return;
+        }
+
+        List<UUID> recipeUuids = recipes.stream().map(SimpleRecipeDto::getRecipeUuid).toList();
+        Map<UUID, Boolean> liked = new HashMap<>();
+        if (likeStore.isEnabled()) {
+            try {
+                liked.putAll(likeStore.getLikedStates(customerId, recipeUuids));
+            } catch (Exception e) {
+                log.warn("좋아요 여부 Redis 조회 실패, DB 로 조회: error={}", e.getMessage());
+            }
+        }
+
+        List<UUID> unknown = recipeUuids.stream().filter(uuid -> !liked.containsKey(uuid)).toList();
+        if (!unknown.isEmpty()) {
+            Set<UUID> likedInDb = new HashSet<>(likeRepository.findLikedRecipeUuids(customerId, unknown));
+            unknown.forEach(uuid -> liked.put(uuid, likedInDb.contains(uuid)));
+        }
+
+        recipes.forEach(recipe -> recipe.markLikedByMe(liked.get(recipe.getRecipeUuid())));
+    }
+
+    /**
+     * 목록 읽기 모델을 원본 기준으로 다시 옮겨 적습니다.
+     * 읽기 모델은 원본 테이블에서 읽어 만들므로, 아직 반영되지 않은 수정/삭제를 먼저 flush 합니다.
+     */
+    private void refreshListView(Recipe recipe) {
+        if (!recipeListViewRepository.isEnabled()) {
+            return;
+        }
+        recipeRepository.flush();
+        recipeListViewRepository.refresh(List.of(recipe.getId()));
+    }
+
+    /**
+     * 존재 필터 기준으로 확실히 없는 레시피면 캐시/DB 조회 없이 예외
+     */
+    private void validateRecipeMayExist(UUID recipeUuid) {
+        if (existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, recipeUuid)) {
+            throw new AppException(RECIPE_NOT_FOUND);
+        }
+    }
+
+    private List<Long> itemIdsOf(Recipe recipe) {
+        return recipe.getItemList().stream()
+                .map(recipeItem -> recipeItem.getItem().getId())
+                .toList();
     }
 
     /**
@@ -439,30 +651,32 @@ public class RecipeService {
     /**
      * 댓글을 ReviewResponse로 변환
      */
-    private ReviewResponse toReviewResponse(Review parent, Map<Long, List<Review>> childMap, Map<Long, Long> countMap) {
-        List<ChildReviewResponse> children = Optional.ofNullable(childMap.get(parent.getId()))
-                .orElse(List.of())
-                .stream()
-                .map(this::toChildReviewDto)
+    private ReviewResponse toReviewResponse(ReviewRow parent, List<ReviewReplyRow> replies) {
+        List<ChildReviewResponse> children = replies.stream()
+                .map(reply -> ChildReviewResponse.builder()
+                        .uuid(reply.getReviewUuid())
+                        .writer(reply.getWriter())
+                        .content(reply.getReviewContent())
+                        .build())
                 .toList();
-        boolean hasMore = countMap.getOrDefault(parent.getId(), 0L) > 3;
         return ReviewResponse.builder()
-                .uuid(parent.getUuid())
-                .writer(parent.getCustomer().getNickName())
+                .uuid(parent.getReviewUuid())
+                .writer(parent.getWriter())
                 .content(parent.getReviewContent())
                 .childReviews(children)
-                .hasMoreChildReviews(hasMore)
+                .replyCount(parent.getReplyCnt())
+                .hasMoreChildReviews(parent.getReplyCnt() > children.size())
                 .build();
     }
 
     /**
      * 대댓글을 ChildReviewResponse로 변환
      */
-    private ChildReviewResponse toChildReviewDto(Review review) {
+    private ChildReviewResponse toChildReviewResponse(ReviewRow reply) {
         return ChildReviewResponse.builder()
-                .uuid(review.getUuid())
-                .writer(review.getCustomer().getNickName())
-                .content(review.getReviewContent())
+                .uuid(reply.getReviewUuid())
+                .writer(reply.getWriter())
+                .content(reply.getReviewContent())
                 .build();
     }
 
@@ -503,6 +717,26 @@ public class RecipeService {
         return reviewRepository.findByUuid(uuid).orElseThrow(() -> new AppException(REVIEW_NOT_FOUND));
     }
 
+    /**
+     * 커서 댓글이 같은 레시피, 같은 부모 댓글(댓글 목록이면 null)에 속하는지 확인합니다.
+     * 삭제된 댓글도 커서로 받으므로 페이지 사이에 커서 댓글이 삭제되어도 이어서 조회합니다.
+     */
+    private ReviewCursor getCursorReview(UUID cursor, Long recipeId, Long parentId) {
+        ReviewCursor review = reviewRepository.findCursorByUuid(cursor)
+                .orElseThrow(() -> new AppException(REVIEW_NOT_FOUND));
+        if (!Objects.equals(review.getRecipeId(), recipeId) || !Objects.equals(review.getParentId(), parentId)) {
+            throw new AppException(INVALID_REVIEW);
+        }
+        return review;
+    }
+
+    /**
+     * 레시피 전체 댓글 수 (recipe_meta.review_cnt, ReviewCountBuffer 가 반영하기 전의 증감분은 포함하지 않음)
+     */
+    private long getReviewCount(Recipe recipe) {
+        return recipe.getRecipeMeta().getReviewCnt();
+    }
+
     /**
      * 레시피 조회 (with. meta)
      */
@@ -510,6 +744,14 @@ public class RecipeService {
         return recipeRepository.findByIdWithMeta(recipeUuid).orElseThrow(() -> new AppException(RECIPE_NOT_FOUND));
     }
 
+    /**
+     * 레시피에 좋아요한 고객 ID 목록 (Redis 좋아요 Set 을 채울 때 사용)
+     */
+    private List<Long> findLikerIds(UUID recipeUuid) {
+        Long recipeId = recipeRepository.findIdByUuid(recipeUuid).orElseThrow(() -> new AppException(RECIPE_NOT_FOUND));
+        return likeRepository.findCustomerIdsByRecipeId(recipeId);
+    }
+
     private void saveAsyncFailureLog(RejectedExecutionException e, Long targetId, JobType jobType) {
         AsyncFailureLog asyncFailureLog = AsyncFailureLog.builder()
                 .targetId(targetId)
@@ -72,4 +72,116 @@ SET @create_index_recipe_created := IF(
 
 PREPARE stmt_recipe_created FROM @create_index_recipe_created;
 EXECUTE stmt_recipe_created;
-DEALLOCATE PREPARE stmt_recipe_created;
\ No newline at end of file
+DEALLOCATE PREPARE stmt_recipe_created;
+
+-- recipe_item 인덱스 조건부 생성: (item_id, recipe_id) - 상품별 레시피 키셋 페이지와 개수
+SET @index_exists := (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+      AND table_name = 'recipe_item'
+      AND index_name = 'idx_recipe_item_item_recipe'
+);
+
+SET @create_index_recipe_item := IF(
+        @index_exists = 0,
+        'ALTER TABLE recipe_item ADD INDEX idx_recipe_item_item_recipe (item_id, recipe_id);',
+        'SELECT "Index already exists for recipe_item (item_id, recipe_id)"'
+                                 );
+
+PREPARE stmt_recipe_item FROM @create_index_recipe_item;
+EXECUTE stmt_recipe_item;
+DEALLOCATE PREPARE stmt_recipe_item;
+
+-- review 인덱스 조건부 생성: (parent_id, created_date) - 부모 댓글별 앞쪽 대댓글 조회
+SET @index_exists := (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+      AND table_name = 'review'
+      AND index_name = 'idx_review_parent_created'
+);
+
+SET @create_index_review_parent := IF(
+        @index_exists = 0,
+        'ALTER TABLE review ADD INDEX idx_review_parent_created (parent_id, created_date);',
+        'SELECT "Index already exists for review (parent_id, created_date)"'
+                                   );
+
+PREPARE stmt_review_parent FROM @create_index_review_parent;
+EXECUTE stmt_review_parent;
+DEALLOCATE PREPARE stmt_review_parent;
+
+-- review 인덱스 조건부 생성: (recipe_id, parent_id, created_date, review_id) - 댓글/대댓글 키셋 페이지
+SET @index_exists := (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.STATISTICS
+    WHERE table_schema = DATABASE()
+      AND table_name = 'review'
+      AND index_name = 'idx_review_recipe_parent_created'
+);
+
+SET @create_index_review_recipe_parent := IF(
+        @index_exists = 0,
+        'ALTER TABLE review ADD INDEX idx_review_recipe_parent_created (recipe_id, parent_id, created_date, review_id);',
+        'SELECT "Index already exists for review (recipe_id, parent_id, created_date, review_id)"'
+                                          );
+
+PREPARE stmt_review_recipe_parent FROM @create_index_review_recipe_parent;
+EXECUTE stmt_review_recipe_parent;
+DEALLOCATE PREPARE stmt_review_recipe_parent;
+
+-- review.reply_cnt 컬럼 조건부 생성: 부모 댓글별 대댓글 수 (처음 추가할 때만 기존 대댓글 수로 채움)
+SET @column_exists := (
+    SELECT COUNT(*)
+    FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE table_schema = DATABASE()
+      AND table_name = 'review'
+      AND column_name = 'reply_cnt'
+);
+
+SET @add_column_reply_cnt := IF(
+        @column_exists = 0,
+        'ALTER TABLE review ADD COLUMN reply_cnt BIGINT NOT NULL DEFAULT 0;',
+        'SELECT "Column already exists for review.reply_cnt"'
+                             );
+
+PREPARE stmt_review_reply_cnt FROM @add_column_reply_cnt;
+EXECUTE stmt_review_reply_cnt;
+DEALLOCATE PREPARE stmt_review_reply_cnt;
+
+SET @backfill_reply_cnt := IF(
+        @column_exists = 0,
+        'UPDATE review p JOIN (SELECT parent_id, COUNT(*) AS cnt FROM review WHERE parent_id IS NOT NULL AND deleted_date IS NULL GROUP BY parent_id) c ON p.review_id = c.parent_id SET p.reply_cnt = c.cnt;',
+        'SELECT "reply_cnt already backfilled"'
+                           );
+
+PREPARE stmt_review_reply_cnt_backfill FROM @backfill_reply_cnt;
+EXECUTE stmt_review_reply_cnt_backfill;
+DEALLOCATE PREPARE stmt_review_reply_cnt_backfill;
+
+-- 레시피 목록 읽기 모델: recipe + recipe_meta + customer 를 한 행으로 펼쳐, 정렬/필터마다 단일 인덱스 범위 스캔으로 페이지를 읽습니다.
+-- 정렬 키 뒤에 recipe_uuid(커서 동점 처리), 맨 뒤에 recipe_cooking_time(인덱스 조건 푸시다운으로 조리 시간 필터)을 둡니다.
+CREATE TABLE IF NOT EXISTS recipe_list_view (
+    recipe_id           BIGINT       NOT NULL PRIMARY KEY,
+    recipe_uuid         BINARY(16)   NOT NULL,
+    recipe_meta_id      BIGINT       NOT NULL,
+    customer_id         BIGINT       NOT NULL,
+    recipe_title        VARCHAR(255),
+    recipe_description  TEXT,
+    thumbnail_url       VARCHAR(255),
+    writer_nick_name    VARCHAR(255),
+    recipe_servings     INT,
+    recipe_cooking_time INT,
+    recipe_view         BIGINT       NOT NULL DEFAULT 0,
+    like_cnt            BIGINT       NOT NULL DEFAULT 0,
+    review_cnt          BIGINT       NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_recipe_list_view_uuid (recipe_uuid),
+    KEY idx_recipe_list_view_view (recipe_view, recipe_uuid, recipe_cooking_time),
+    KEY idx_recipe_list_view_like (like_cnt, recipe_uuid, recipe_cooking_time),
+    KEY idx_recipe_list_view_servings_recent (recipe_servings, recipe_uuid, recipe_cooking_time),
+    KEY idx_recipe_list_view_servings_view (recipe_servings, recipe_view, recipe_uuid, recipe_cooking_time),
+    KEY idx_recipe_list_view_servings_like (recipe_servings, like_cnt, recipe_uuid, recipe_cooking_time),
+    KEY idx_recipe_list_view_meta (recipe_meta_id),
+    KEY idx_recipe_list_view_customer (customer_id)
+);
@@ -24,6 +24,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
 import store.myproject.onlineshop.dto.item.*;
+import store.myproject.onlineshop.dto.recipe.ItemRecipeCursorResponse;
 import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
 import store.myproject.onlineshop.fixture.CommonFixture;
 import store.myproject.onlineshop.fixture.ItemFixture;
@@ -183,21 +184,24 @@ class ItemControllerTest {
     void findRecipesByItem_success() throws Exception {
         // given
         UUID itemUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        UUID cursor = UUID.randomUUID();
         SimpleRecipeDto recipe = RecipeFixture.createSimpleRecipeDto(); // 테스트용 fixture
-        Page<SimpleRecipeDto> page = new PageImpl<>(List.of(recipe));
+        ItemRecipeCursorResponse response = ItemRecipeCursorResponse.of(List.of(recipe), recipe.getRecipeUuid(), 11L);
 
-        given(recipeService.getRecipesByItem(eq(itemUuid), any(Pageable.class)))
-                .willReturn(page);
+        given(recipeService.getRecipesByItem(eq(itemUuid), eq(cursor), eq(10), any()))
+                .willReturn(response);
 
         // when & then
         mockMvc.perform(get("/api/v1/items/{itemUuid}/recipes", itemUuid)
-                        .param("page", "0")
+                        .param("cursor", cursor.toString())
                         .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.resultCode").value(SUCCESS))
                 .andExpect(jsonPath("$.result.content[0].recipeUuid").value(recipe.getRecipeUuid().toString()))
                 .andExpect(jsonPath("$.result.content[0].title").value(recipe.getTitle()))
                 .andExpect(jsonPath("$.result.content[0].recipeDescription").value(recipe.getRecipeDescription()))
+                .andExpect(jsonPath("$.result.nextUuid").value(recipe.getRecipeUuid().toString()))
+                .andExpect(jsonPath("$.result.totalCount").value(11))
                 .andDo(print());
     }
 }
\ No newline at end of file
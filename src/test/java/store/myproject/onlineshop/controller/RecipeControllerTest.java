@@ -86,7 +86,7 @@ class RecipeControllerTest {
         @DisplayName("성공")
         void get_all_recipes_success() throws Exception {
             List<SimpleRecipeDto> response = List.of(RecipeFixture.createSimpleRecipeDto());
-            given(recipeService.getRecipes(any())).willReturn(new RecipeCursorResponse(response, null, null, null));
+            given(recipeService.getRecipes(any(), any())).willReturn(new RecipeCursorResponse(response, null, null, null));
 
             mockMvc.perform(get("/api/v1/recipes"))
                     .andExpect(status().isOk())
@@ -95,6 +95,42 @@ class RecipeControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("레시피 랭킹 조회")
+    class GetRecipeRankings {
+
+        @Test
+        @DisplayName("성공")
+        void get_recipe_rankings_success() throws Exception {
+            UUID recipeUuid = UUID.randomUUID();
+            RecipeRankingDto ranking = RecipeRankingDto.of(1, 42.0, RecipeFixture.createRecipeDto(recipeUuid));
+            given(recipeService.getRecipeRankings(eq(RecipeRankingPeriod.DAILY), eq(RecipeRankingMetric.LIKE), isNull(), eq(10)))
+                    .willReturn(RecipeRankingResponse.of(List.of(ranking), 10L));
+
+            mockMvc.perform(get("/api/v1/recipes/rankings")
+                            .param("period", "DAILY")
+                            .param("metric", "LIKE"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.resultCode").value(SUCCESS))
+                    .andExpect(jsonPath("$.result.content[0].rank").value(1))
+                    .andExpect(jsonPath("$.result.nextCursor").value(10))
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("실패 - 랭킹 비활성화")
+        void get_recipe_rankings_fail_disabled() throws Exception {
+            given(recipeService.getRecipeRankings(any(), any(), any(), anyInt()))
+                    .willThrow(new AppException(RECIPE_RANKING_DISABLED));
+
+            mockMvc.perform(get("/api/v1/recipes/rankings"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.resultCode").value(ERROR))
+                    .andExpect(jsonPath("$.result.errorCode").value(RECIPE_RANKING_DISABLED.name()))
+                    .andDo(print());
+        }
+    }
+
     @Nested
     @DisplayName("레시피 작성")
     class CreateRecipe {
@@ -7,11 +7,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import store.myproject.onlineshop.dto.common.MessageResponse;
+import store.myproject.onlineshop.dto.review.ChildReviewCursorResponse;
 import store.myproject.onlineshop.dto.review.ChildReviewResponse;
+import store.myproject.onlineshop.dto.review.ReviewCursorResponse;
 import store.myproject.onlineshop.dto.review.ReviewResponse;
 import store.myproject.onlineshop.dto.review.ReviewUpdateRequest;
 import store.myproject.onlineshop.dto.review.ReviewWriteRequest;
@@ -63,12 +64,32 @@ class ReviewControllerTest {
                             .build()
             );
 
-            given(recipeService.getRecipeReviews(any(), any())).willReturn(new PageImpl<>(responses));
+            given(recipeService.getRecipeReviews(any(), any(), anyInt())).willReturn(ReviewCursorResponse.of(responses, null, 1L));
 
             mockMvc.perform(get("/api/v1/recipes/{recipeUuid}/reviews", recipeUuid))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.result.content[0].writer").value("작성자"))
                     .andExpect(jsonPath("$.result.content[0].content").value("내용"))
+                    .andExpect(jsonPath("$.result.totalCount").value(1))
+                    .andDo(print());
+        }
+
+        @Test
+        @DisplayName("성공 - 커서와 사이즈 전달")
+        void get_parent_reviews_with_cursor() throws Exception {
+            UUID recipeUuid = UUID.randomUUID();
+            UUID cursor = UUID.randomUUID();
+            UUID nextUuid = UUID.randomUUID();
+
+            given(recipeService.getRecipeReviews(recipeUuid, cursor, 5))
+                    .willReturn(ReviewCursorResponse.of(List.of(), nextUuid, 12L));
+
+            mockMvc.perform(get("/api/v1/recipes/{recipeUuid}/reviews", recipeUuid)
+                            .param("cursor", cursor.toString())
+                            .param("size", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.nextUuid").value(nextUuid.toString()))
+                    .andExpect(jsonPath("$.result.totalCount").value(12))
                     .andDo(print());
         }
 
@@ -77,7 +98,7 @@ class ReviewControllerTest {
         void get_parent_reviews_recipe_not_found() throws Exception {
             UUID recipeUuid = UUID.randomUUID();
 
-            given(recipeService.getRecipeReviews(any(), any())).willThrow(new AppException(RECIPE_NOT_FOUND));
+            given(recipeService.getRecipeReviews(any(), any(), anyInt())).willThrow(new AppException(RECIPE_NOT_FOUND));
 
             mockMvc.perform(get("/api/v1/recipes/{recipeUuid}/reviews", recipeUuid))
                     .andExpect(status().isNotFound())
@@ -100,7 +121,8 @@ class ReviewControllerTest {
                     ChildReviewResponse.builder().uuid(UUID.randomUUID()).writer("답글작성자").content("답글 내용").build()
             );
 
-            given(recipeService.getChildReviews(any(), any(), any())).willReturn(new PageImpl<>(childResponses));
+            given(recipeService.getChildReviews(any(), any(), any(), anyInt()))
+                    .willReturn(ChildReviewCursorResponse.of(childResponses, null, 1L));
 
             mockMvc.perform(get("/api/v1/recipes/{recipeUuid}/reviews/{reviewUuid}/replies", recipeUuid, reviewUuid))
                     .andExpect(status().isOk())
@@ -115,7 +137,7 @@ class ReviewControllerTest {
             UUID recipeUuid = UUID.randomUUID();
             UUID reviewUuid = UUID.randomUUID();
 
-            given(recipeService.getChildReviews(any(), any(), any())).willThrow(new AppException(RECIPE_NOT_FOUND));
+            given(recipeService.getChildReviews(any(), any(), any(), anyInt())).willThrow(new AppException(RECIPE_NOT_FOUND));
 
             mockMvc.perform(get("/api/v1/recipes/{recipeUuid}/reviews/{reviewUuid}/replies", recipeUuid, reviewUuid))
                     .andExpect(status().isNotFound())
@@ -129,7 +151,7 @@ class ReviewControllerTest {
             UUID recipeUuid = UUID.randomUUID();
             UUID reviewUuid = UUID.randomUUID();
 
-            given(recipeService.getChildReviews(any(), any(), any())).willThrow(new AppException(INVALID_REVIEW));
+            given(recipeService.getChildReviews(any(), any(), any(), anyInt())).willThrow(new AppException(INVALID_REVIEW));
 
             mockMvc.perform(get("/api/v1/recipes/{recipeUuid}/reviews/{reviewUuid}/replies", recipeUuid, reviewUuid))
                     .andExpect(status().isConflict())
@@ -0,0 +1,319 @@
+package store.myproject.onlineshop.domain.recipe;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import store.myproject.onlineshop.dto.recipe.RecipeDto;
+import store.myproject.onlineshop.dto.recipe.RecipeItemDto;
+import store.myproject.onlineshop.dto.recipestep.RecipeStepDto;
+import store.myproject.onlineshop.global.utils.UUIDTypeHandler;
+import store.myproject.onlineshop.mapper.RecipeMapper;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레시피 상세 조회 쿼리 비교 (H2 in-memory, MySQL 모드)
+ * - 기존: 레시피 / 단계 / 재료를 각각 조회 (3회 왕복)
+ * - 변경: UNION ALL + 중첩 resultMap 으로 한 번에 조회 (1회 왕복)
+ * 네트워크 지연이 없는 환경이므로 실제 DB 에서는 왕복 횟수 차이만큼 격차가 더 커집니다.
+ * 삭제된 단계/재료 연결/상품/브랜드를 한 건씩 넣어, 기존 쿼리(@SQLRestriction)와 같이 제외되는지도 확인합니다.
+ * 시간 비교는 -Drecipe.detail.bench=true 일 때만 실행합니다.
+ */
+@Slf4j
+class RecipeDetailQueryBenchmarkTest {
+
+    private static final int STEP_COUNT = 30;
+    private static final int ITEM_COUNT = 20;
+    private static final int WARM_UP = 300;
+    private static final int ITERATIONS = 2_000;
+
+    private static final UUID RECIPE_UUID = UUID.fromString("0190a6f2-7c1e-7a3b-8f00-000000000001");
+
+    private static JdbcDataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:recipe_detail_bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            createSchema(statement);
+            insertRecipe(connection);
+        }
+
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeHandlerRegistry().register(UUIDTypeHandler.class);
+
+        String resource = "mapper/RecipeMapper.xml";
+        try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @Test
+    @DisplayName("단일 쿼리로 삭제되지 않은 단계 30개, 재료 20개를 모두 적재한다")
+    void find_recipe_detail_in_single_query() {
+        // when
+        RecipeDto result;
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            result = session.getMapper(RecipeMapper.class).findRecipeDetailByUuid(RECIPE_UUID);
+        }
+
+        // then
+        assertThat(result.getRecipeUuid()).isEqualTo(RECIPE_UUID);
+        assertThat(result.getRecipeWriter()).isEqualTo("작성자");
+        assertThat(result.getRecipeMetaId()).isEqualTo(1L);
+        assertThat(result.getSteps()).hasSize(STEP_COUNT);
+        assertThat(result.getSteps()).extracting(RecipeStepDto::getStepOrder).isSorted();
+        assertThat(result.getItems()).hasSize(ITEM_COUNT);
+        assertThat(result.getItems()).allSatisfy(item -> {
+            assertThat(item.getItemUuid()).isNotNull();
+            assertThat(item.getBrandName()).isEqualTo("브랜드");
+        });
+        assertThat(result.getSteps()).extracting(RecipeStepDto::getContent).doesNotContain("삭제된 단계");
+        assertThat(result.getItems()).extracting(RecipeItemDto::getItemName).doesNotContain("삭제 확인 재료");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 레시피는 null 을 반환한다")
+    void find_recipe_detail_not_found() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            assertThat(session.getMapper(RecipeMapper.class).findRecipeDetailByUuid(UUID.randomUUID())).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("3회 왕복 조회와 단일 쿼리가 같은 단계/재료 수를 적재한다")
+    void single_query_matches_three_queries() throws Exception {
+        assertThat(loadWithThreeQueries()).isEqualTo(STEP_COUNT + ITEM_COUNT);
+        assertThat(loadWithSingleQuery()).isEqualTo(STEP_COUNT + ITEM_COUNT);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "recipe.detail.bench", matches = "true")
+    @DisplayName("캐시 미스 조회 시간 비교 - 3회 왕복 vs 1회 왕복")
+    void compare_miss_latency() throws Exception {
+        // warm up
+        for (int i = 0; i < WARM_UP; i++) {
+            loadWithThreeQueries();
+            loadWithSingleQuery();
+        }
+
+        // when
+        long threeQueriesNanos = measure(RecipeDetailQueryBenchmarkTest::loadWithThreeQueries);
+        long singleQueryNanos = measure(RecipeDetailQueryBenchmarkTest::loadWithSingleQuery);
+
+        // then
+        log.info("[recipe detail miss] steps={}, items={}, 3 queries: {}us/op, 1 query: {}us/op",
+                STEP_COUNT, ITEM_COUNT, String.format("%.1f", threeQueriesNanos / 1_000.0 / ITERATIONS),
+                String.format("%.1f", singleQueryNanos / 1_000.0 / ITERATIONS));
+    }
+
+    private static long measure(Loader loader) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            loader.load();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static int loadWithSingleQuery() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            RecipeDto dto = session.getMapper(RecipeMapper.class).findRecipeDetailByUuid(RECIPE_UUID);
+            return dto.getSteps().size() + dto.getItems().size();
+        }
+    }
+
+    /**
+     * 기존 findRecipeDtoByUuid + findStepsByRecipeUuid + findItemsByRecipeUuid 와 동일한 SQL
+     */
+    private static int loadWithThreeQueries() throws SQLException {
+        int rows = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement ps = connection.prepareStatement("""
+                    SELECT r.recipe_uuid, r.recipe_title, r.recipe_description, r.recipe_cooking_time,
+                           r.recipe_servings, c.nick_name, r.thumbnail_url
+                    FROM recipe r
+                    JOIN recipe_meta rm ON r.recipe_meta_id = rm.recipe_meta_id
+                    JOIN customer c ON r.customer_id = c.customer_id
+                    WHERE r.recipe_uuid = ? AND r.deleted_date IS NULL
+                    """)) {
+                ps.setBytes(1, toBytes(RECIPE_UUID));
+                rows += count(ps);
+            }
+            try (PreparedStatement ps = connection.prepareStatement("""
+                    SELECT s.step_order, s.content, s.image_url
+                    FROM recipe_step s
+                    JOIN recipe r ON s.recipe_id = r.recipe_id
+                    WHERE r.recipe_uuid = ? AND s.deleted_date IS NULL
+                    ORDER BY s.step_order ASC
+                    """)) {
+                ps.setBytes(1, toBytes(RECIPE_UUID));
+                rows += count(ps);
+            }
+            try (PreparedStatement ps = connection.prepareStatement("""
+                    SELECT i.item_uuid, i.item_name, i.item_price, b.brand_name, i.thumbnail
+                    FROM recipe_item ri
+                    JOIN recipe r ON ri.recipe_id = r.recipe_id
+                    JOIN item i ON ri.item_id = i.item_id
+                    JOIN brand b ON i.brand_id = b.brand_id
+                    WHERE r.recipe_uuid = ? AND ri.deleted_date IS NULL AND i.deleted_date IS NULL AND b.deleted_date IS NULL
+                    """)) {
+                ps.setBytes(1, toBytes(RECIPE_UUID));
+                rows += count(ps);
+            }
+        }
+        return rows - 1; // 레시피 본문 행 제외
+    }
+
+    private static int count(PreparedStatement ps) throws SQLException {
+        int rows = 0;
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static void createSchema(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE customer (customer_id BIGINT PRIMARY KEY, nick_name VARCHAR(50))");
+        statement.execute("CREATE TABLE recipe_meta (recipe_meta_id BIGINT PRIMARY KEY, recipe_view BIGINT, like_cnt BIGINT, review_cnt BIGINT)");
+        statement.execute("""
+                CREATE TABLE recipe (
+                    recipe_id BIGINT PRIMARY KEY,
+                    recipe_uuid BINARY(16) NOT NULL UNIQUE,
+                    recipe_title VARCHAR(255),
+                    recipe_description TEXT,
+                    recipe_cooking_time INT,
+                    recipe_servings INT,
+                    thumbnail_url VARCHAR(255),
+                    customer_id BIGINT,
+                    recipe_meta_id BIGINT,
+                    deleted_date TIMESTAMP
+                )
+                """);
+        statement.execute("CREATE TABLE recipe_step (recipe_step_id BIGINT PRIMARY KEY, step_order INT, content TEXT, image_url VARCHAR(255), recipe_id BIGINT, deleted_date TIMESTAMP)");
+        statement.execute("CREATE INDEX idx_recipe_step_recipe ON recipe_step (recipe_id)");
+        statement.execute("CREATE TABLE brand (brand_id BIGINT PRIMARY KEY, brand_name VARCHAR(100), deleted_date TIMESTAMP)");
+        statement.execute("CREATE TABLE item (item_id BIGINT PRIMARY KEY, item_uuid BINARY(16), item_name VARCHAR(255), item_price DECIMAL(12, 2), thumbnail VARCHAR(255), brand_id BIGINT, deleted_date TIMESTAMP)");
+        statement.execute("CREATE TABLE recipe_item (recipe_item_id BIGINT PRIMARY KEY, recipe_id BIGINT, item_id BIGINT, deleted_date TIMESTAMP)");
+        statement.execute("CREATE INDEX idx_recipe_item_recipe ON recipe_item (recipe_id)");
+    }
+
+    private static void insertRecipe(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO customer VALUES (1, '작성자')");
+            statement.execute("INSERT INTO recipe_meta VALUES (1, 0, 0, 0)");
+            statement.execute("INSERT INTO brand VALUES (1, '브랜드', NULL)");
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO recipe VALUES (1, ?, '떡볶이', '매운 떡볶이', 30, 2, 'thumbnail.jpg', 1, 1, NULL)")) {
+            ps.setBytes(1, toBytes(RECIPE_UUID));
+            ps.executeUpdate();
+        }
+
+        // 단계는 역순으로 넣어 정렬을 확인
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO recipe_step VALUES (?, ?, ?, ?, 1, NULL)")) {
+            for (int i = 1; i <= STEP_COUNT; i++) {
+                ps.setLong(1, i);
+                ps.setInt(2, STEP_COUNT - i + 1);
+                ps.setString(3, "단계 " + (STEP_COUNT - i + 1));
+                ps.setString(4, "step.jpg");
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        try (PreparedStatement item = connection.prepareStatement("INSERT INTO item VALUES (?, ?, ?, ?, 'item.jpg', 1, NULL)");
+             PreparedStatement recipeItem = connection.prepareStatement("INSERT INTO recipe_item VALUES (?, 1, ?, NULL)")) {
+            for (int i = 1; i <= ITEM_COUNT; i++) {
+                item.setLong(1, i);
+                item.setBytes(2, toBytes(UUID.randomUUID()));
+                item.setString(3, "재료 " + i);
+                item.setBigDecimal(4, BigDecimal.valueOf(1_000L * i));
+                item.addBatch();
+
+                recipeItem.setLong(1, i);
+                recipeItem.setLong(2, i);
+                recipeItem.addBatch();
+            }
+            item.executeBatch();
+            recipeItem.executeBatch();
+        }
+
+        // 삭제된 행: 수정 시 교체된 단계, 교체된 재료 연결, 삭제된 상품, 삭제된 브랜드의 상품
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO recipe_step VALUES (" + (STEP_COUNT + 1) + ", 1, '삭제된 단계', 'step.jpg', 1, CURRENT_TIMESTAMP)");
+            statement.execute("INSERT INTO brand VALUES (2, '삭제된 브랜드', CURRENT_TIMESTAMP)");
+        }
+        try (PreparedStatement item = connection.prepareStatement("INSERT INTO item VALUES (?, ?, '삭제 확인 재료', 1000, 'item.jpg', ?, ?)");
+             PreparedStatement recipeItem = connection.prepareStatement("INSERT INTO recipe_item VALUES (?, 1, ?, ?)")) {
+            long deletedItem = ITEM_COUNT + 1;
+            long deletedBrandItem = ITEM_COUNT + 2;
+            addItem(item, deletedItem, 1L, true);
+            addItem(item, deletedBrandItem, 2L, false);
+            item.executeBatch();
+
+            addRecipeItem(recipeItem, ITEM_COUNT + 1, 1L, true);
+            addRecipeItem(recipeItem, ITEM_COUNT + 2, deletedItem, false);
+            addRecipeItem(recipeItem, ITEM_COUNT + 3, deletedBrandItem, false);
+            recipeItem.executeBatch();
+        }
+    }
+
+    private static void addItem(PreparedStatement item, long itemId, long brandId, boolean deleted) throws SQLException {
+        item.setLong(1, itemId);
+        item.setBytes(2, toBytes(UUID.randomUUID()));
+        item.setLong(3, brandId);
+        item.setTimestamp(4, deleted ? new Timestamp(System.currentTimeMillis()) : null);
+        item.addBatch();
+    }
+
+    private static void addRecipeItem(PreparedStatement recipeItem, long recipeItemId, long itemId, boolean deleted) throws SQLException {
+        recipeItem.setLong(1, recipeItemId);
+        recipeItem.setLong(2, itemId);
+        recipeItem.setTimestamp(3, deleted ? new Timestamp(System.currentTimeMillis()) : null);
+        recipeItem.addBatch();
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        int load() throws Exception;
+    }
+}
@@ -0,0 +1,280 @@
+package store.myproject.onlineshop.domain.recipe;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import store.myproject.onlineshop.dto.recipe.RecipeListCond;
+import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
+import store.myproject.onlineshop.global.utils.UUIDTypeHandler;
+import store.myproject.onlineshop.mapper.RecipeListViewMapper;
+import store.myproject.onlineshop.mapper.RecipeMapper;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 레시피 목록 조회 쿼리 비교 (H2 in-memory, MySQL 모드)
+ * - 기존: recipe + customer + recipe_meta JOIN 후 정렬 (정렬 컬럼이 다른 테이블에 있어 인덱스로 커서 범위를 읽지 못함)
+ * - 변경: recipe_list_view 한 테이블에서 (정렬값, recipe_uuid) 인덱스 범위 스캔
+ * 기본 실행에서는 2,000 행으로 결과 동일성만 확인하고, 시간 비교는 -Drecipe.list.bench=true 일 때만 100,000 행으로 실행합니다.
+ * 행 수는 -Drecipe.list.bench.rows 로 바꿀 수 있습니다. (ex. 5000000, 힙 4GB 이상 필요)
+ * 실제 MySQL 의 실행 계획은 같은 SQL 을 EXPLAIN 해 type=range, key=idx_recipe_list_view_* 인지 확인합니다.
+ */
+@Slf4j
+class RecipeListQueryBenchmarkTest {
+
+    private static final boolean BENCH = Boolean.getBoolean("recipe.list.bench");
+    private static final int ROWS = Integer.getInteger("recipe.list.bench.rows", BENCH ? 100_000 : 2_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 5;
+    private static final int WARM_UP = 50;
+    private static final int ITERATIONS = 300;
+
+    private static JdbcDataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:recipe_list_bench;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            createSchema(statement);
+            insertRecipes(connection);
+            statement.execute("""
+                    INSERT INTO recipe_list_view
+                    SELECT r.recipe_id, r.recipe_uuid, r.recipe_meta_id, r.customer_id, r.recipe_title, r.recipe_description,
+                           r.thumbnail_url, c.nick_name, r.recipe_servings, r.recipe_cooking_time, rm.recipe_view, rm.like_cnt, rm.review_cnt
+                    FROM recipe r
+                    JOIN customer c ON r.customer_id = c.customer_id
+                    JOIN recipe_meta rm ON r.recipe_meta_id = rm.recipe_meta_id
+                    WHERE r.deleted_date IS NULL
+                    """);
+        }
+
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeHandlerRegistry().register(UUIDTypeHandler.class);
+
+        for (String resource : List.of("mapper/RecipeMapper.xml", "mapper/RecipeListViewMapper.xml")) {
+            try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+                new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+            }
+        }
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @Test
+    @DisplayName("정렬/인분 조건마다 커서로 넘긴 페이지가 기존 JOIN 쿼리와 같다")
+    void list_view_pages_match_join_query() {
+        for (String sortBy : List.of("recent", "view", "like")) {
+            for (Integer servings : new Integer[]{null, 2}) {
+                List<UUID> expected = readPages(sortBy, servings, cond -> session -> session.getMapper(RecipeMapper.class).findRecipeList(cond));
+                List<UUID> actual = readPages(sortBy, servings, cond -> session -> session.getMapper(RecipeListViewMapper.class).findRecipeList(cond));
+
+                assertThat(actual).as("sortBy=%s, servings=%s", sortBy, servings)
+                        .hasSize(PAGE_SIZE * PAGES)
+                        .doesNotHaveDuplicates()
+                        .containsExactlyElementsOf(expected);
+            }
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "recipe.list.bench", matches = "true")
+    @DisplayName("커서 페이지 조회 시간 비교 - JOIN vs 읽기 모델")
+    void compare_cursor_page_latency() throws Exception {
+        for (String sortBy : List.of("view", "like")) {
+            RecipeListCond cond = secondPageCond(sortBy, 2);
+
+            for (int i = 0; i < WARM_UP; i++) {
+                joinPage(cond);
+                viewPage(cond);
+            }
+
+            long joinNanos = measure(() -> joinPage(cond));
+            long viewNanos = measure(() -> viewPage(cond));
+
+            log.info("[recipe list] rows={}, sortBy={}, servings=2, join: {}us/op, list view: {}us/op",
+                    ROWS, sortBy, String.format("%.1f", joinNanos / 1_000.0 / ITERATIONS),
+                    String.format("%.1f", viewNanos / 1_000.0 / ITERATIONS));
+            assertThat(viewPage(cond)).isEqualTo(joinPage(cond));
+        }
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     EXPLAIN SELECT v.recipe_uuid FROM recipe_list_view v
+                     WHERE v.recipe_servings = 2 AND v.like_cnt <= 500 AND (v.like_cnt < 500 OR v.recipe_uuid < X'00')
+                     ORDER BY v.like_cnt DESC, v.recipe_uuid DESC LIMIT 21
+                     """)) {
+            rs.next();
+            log.info("[recipe list] list view plan: {}", rs.getString(1));
+        }
+    }
+
+    private static List<UUID> readPages(String sortBy, Integer servings, Function<RecipeListCond, Function<SqlSession, List<SimpleRecipeDto>>> query) {
+        List<UUID> uuids = new ArrayList<>();
+        RecipeListCond cond = cond(sortBy, servings);
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            for (int page = 0; page < PAGES; page++) {
+                List<SimpleRecipeDto> rows = query.apply(cond).apply(session);
+                List<SimpleRecipeDto> content = rows.subList(0, Math.min(PAGE_SIZE, rows.size()));
+                content.forEach(row -> uuids.add(row.getRecipeUuid()));
+
+                SimpleRecipeDto last = content.get(content.size() - 1);
+                cond.setNextUuid(last.getRecipeUuid().toString());
+                cond.setNextViewCount(last.getRecipeView());
+                cond.setNextLikeCount(last.getLikeCnt());
+            }
+        }
+        return uuids;
+    }
+
+    private static RecipeListCond secondPageCond(String sortBy, Integer servings) {
+        RecipeListCond cond = cond(sortBy, servings);
+        List<SimpleRecipeDto> firstPage = viewPage(cond);
+        SimpleRecipeDto last = firstPage.get(PAGE_SIZE - 1);
+        cond.setNextUuid(last.getRecipeUuid().toString());
+        cond.setNextViewCount(last.getRecipeView());
+        cond.setNextLikeCount(last.getLikeCnt());
+        return cond;
+    }
+
+    private static RecipeListCond cond(String sortBy, Integer servings) {
+        RecipeListCond cond = new RecipeListCond();
+        cond.setSortBy(sortBy);
+        cond.setServings(servings);
+        cond.setSize(PAGE_SIZE);
+        cond.setSizePlusOne(PAGE_SIZE + 1);
+        return cond;
+    }
+
+    private static List<SimpleRecipeDto> joinPage(RecipeListCond cond) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(RecipeMapper.class).findRecipeList(cond);
+        }
+    }
+
+    private static List<SimpleRecipeDto> viewPage(RecipeListCond cond) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.getMapper(RecipeListViewMapper.class).findRecipeList(cond);
+        }
+    }
+
+    private static long measure(Runnable query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void createSchema(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE customer (customer_id BIGINT PRIMARY KEY, nick_name VARCHAR(50))");
+        statement.execute("CREATE TABLE recipe_meta (recipe_meta_id BIGINT PRIMARY KEY, recipe_view BIGINT, like_cnt BIGINT, review_cnt BIGINT)");
+        statement.execute("""
+                CREATE TABLE recipe (
+                    recipe_id BIGINT PRIMARY KEY,
+                    recipe_uuid BINARY(16) NOT NULL UNIQUE,
+                    recipe_title VARCHAR(255),
+                    recipe_description TEXT,
+                    recipe_cooking_time INT,
+                    recipe_servings INT,
+                    thumbnail_url VARCHAR(255),
+                    customer_id BIGINT,
+                    recipe_meta_id BIGINT,
+                    deleted_date TIMESTAMP
+                )
+                """);
+        statement.execute("CREATE INDEX idx_recipe_servings_cooking_time ON recipe (recipe_servings, recipe_cooking_time)");
+
+        // index.sql 의 recipe_list_view 와 같은 컬럼/인덱스
+        statement.execute("""
+                CREATE TABLE recipe_list_view (
+                    recipe_id BIGINT PRIMARY KEY,
+                    recipe_uuid BINARY(16) NOT NULL UNIQUE,
+                    recipe_meta_id BIGINT NOT NULL,
+                    customer_id BIGINT NOT NULL,
+                    recipe_title VARCHAR(255),
+                    recipe_description TEXT,
+                    thumbnail_url VARCHAR(255),
+                    writer_nick_name VARCHAR(255),
+                    recipe_servings INT,
+                    recipe_cooking_time INT,
+                    recipe_view BIGINT NOT NULL DEFAULT 0,
+                    like_cnt BIGINT NOT NULL DEFAULT 0,
+                    review_cnt BIGINT NOT NULL DEFAULT 0
+                )
+                """);
+        statement.execute("CREATE INDEX idx_recipe_list_view_view ON recipe_list_view (recipe_view, recipe_uuid, recipe_cooking_time)");
+        statement.execute("CREATE INDEX idx_recipe_list_view_like ON recipe_list_view (like_cnt, recipe_uuid, recipe_cooking_time)");
+        statement.execute("CREATE INDEX idx_recipe_list_view_servings_recent ON recipe_list_view (recipe_servings, recipe_uuid, recipe_cooking_time)");
+        statement.execute("CREATE INDEX idx_recipe_list_view_servings_view ON recipe_list_view (recipe_servings, recipe_view, recipe_uuid, recipe_cooking_time)");
+        statement.execute("CREATE INDEX idx_recipe_list_view_servings_like ON recipe_list_view (recipe_servings, like_cnt, recipe_uuid, recipe_cooking_time)");
+    }
+
+    private static void insertRecipes(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO customer VALUES (1, '작성자')");
+        }
+
+        // 조회수/좋아요 수는 좁은 범위로 두어 동점이 많이 생기게 합니다. (커서의 recipe_uuid 동점 처리 확인)
+        Random random = new Random(42);
+        try (PreparedStatement meta = connection.prepareStatement("INSERT INTO recipe_meta VALUES (?, ?, ?, 0)");
+             PreparedStatement recipe = connection.prepareStatement(
+                     "INSERT INTO recipe VALUES (?, ?, '레시피', '설명', ?, ?, 'thumbnail.jpg', 1, ?, NULL)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                meta.setLong(1, i);
+                meta.setLong(2, 1 + random.nextInt(1_000));
+                meta.setLong(3, 1 + random.nextInt(500));
+                meta.addBatch();
+
+                recipe.setLong(1, i);
+                recipe.setBytes(2, toBytes(UUID.randomUUID()));
+                recipe.setInt(3, 10 + random.nextInt(60));
+                recipe.setInt(4, 1 + random.nextInt(4));
+                recipe.setLong(5, i);
+                recipe.addBatch();
+
+                if (i % 10_000 == 0) {
+                    meta.executeBatch();
+                    recipe.executeBatch();
+                }
+            }
+            meta.executeBatch();
+            recipe.executeBatch();
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,66 @@
+package store.myproject.onlineshop.domain.recipemeta;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+import store.myproject.onlineshop.mapper.RecipeMetaMapper;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeMetaRepositoryImplTest {
+
+    @InjectMocks
+    private RecipeMetaRepositoryImpl recipeMetaRepositoryImpl;
+
+    @Mock
+    private RecipeMetaMapper recipeMetaMapper;
+    @Mock
+    private RecipeListViewRepository recipeListViewRepository;
+
+    @Test
+    @DisplayName("목록 읽기 모델 동기화가 실패해도 조회수 증가분은 한 번만 반영되고 예외가 전파되지 않는다")
+    void add_view_counts_ignores_list_view_failure() {
+        // given
+        given(recipeMetaMapper.addViewCounts(anyMap())).willReturn(1);
+        willThrow(new RuntimeException("DB 장애")).given(recipeListViewRepository).syncCounts(any());
+
+        // when
+        int updated = recipeMetaRepositoryImpl.addViewCounts(Map.of(1L, 3L));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        then(recipeMetaMapper).should(times(1)).addViewCounts(Map.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("목록 읽기 모델 동기화가 실패해도 카운터 증감분은 한 번만 반영되고 예외가 전파되지 않는다")
+    void add_counts_ignores_list_view_failure() {
+        // given
+        List<RecipeCounterDelta> deltas = List.of(new RecipeCounterDelta(1L, 0L, 1L, 0L));
+        given(recipeMetaMapper.addCounts(anyList())).willReturn(1);
+        willThrow(new RuntimeException("DB 장애")).given(recipeListViewRepository).syncCounts(any());
+
+        // when
+        int updated = recipeMetaRepositoryImpl.addCounts(deltas);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        then(recipeMetaMapper).should(times(1)).addCounts(deltas);
+    }
+}
@@ -0,0 +1,279 @@
+package store.myproject.onlineshop.domain.review;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import store.myproject.onlineshop.dto.review.ReviewCursor;
+import store.myproject.onlineshop.dto.review.ReviewReplyRow;
+import store.myproject.onlineshop.dto.review.ReviewRow;
+import store.myproject.onlineshop.global.utils.UUIDTypeHandler;
+import store.myproject.onlineshop.mapper.ReviewMapper;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 페이지 조회 SQL 수 확인 (H2 in-memory, MySQL 모드)
+ * - 댓글 목록 1회 + 부모 댓글별 앞쪽 대댓글 1회로, 페이지 크기나 작성자 수와 관계없이 2개의 SQL 만 실행되어야 합니다.
+ * - 작성자 닉네임은 두 쿼리에서 customer 를 JOIN 해 함께 읽으므로 작성자별 추가 조회가 없습니다.
+ */
+class ReviewPageQueryCountTest {
+
+    private static final long RECIPE_ID = 1L;
+    private static final int PARENTS = 60;
+    private static final int REPLIES_PER_PARENT = 4;
+    private static final int REPLY_PREVIEW_SIZE = 3;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private static final AtomicInteger statements = new AtomicInteger();
+    private static SqlSessionFactory sqlSessionFactory;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:review_page_query_count;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        h2.setUser("sa");
+
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            createSchema(statement);
+            insertReviews(connection);
+        }
+
+        Configuration configuration = new Configuration(
+                new Environment("query-count", new JdbcTransactionFactory(), countingDataSource(h2)));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeHandlerRegistry().register(UUIDTypeHandler.class);
+
+        String resource = "mapper/ReviewMapper.xml";
+        try (InputStream inputStream = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @BeforeEach
+    void resetCount() {
+        statements.set(0);
+    }
+
+    @ParameterizedTest(name = "size={0}")
+    @ValueSource(ints = {5, 20, 50})
+    @DisplayName("댓글 첫 페이지는 크기와 관계없이 SQL 2개로 작성자 닉네임과 대댓글 미리보기까지 채운다")
+    void first_page_runs_constant_statements(int size) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            ReviewRepositoryImpl repository = new ReviewRepositoryImpl(session.getMapper(ReviewMapper.class));
+
+            List<ReviewRow> parents = readPage(repository, null, size);
+
+            assertThat(statements.get()).isEqualTo(2);
+            assertThat(parents).hasSize(size);
+            assertThat(parents).extracting(ReviewRow::getWriter).doesNotContainNull().doesNotHaveDuplicates();
+            assertThat(parents).extracting(ReviewRow::getReplyCnt).containsOnly((long) REPLIES_PER_PARENT);
+        }
+    }
+
+    @ParameterizedTest(name = "size={0}")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("커서 다음 페이지도 SQL 2개이고, 이전 페이지와 겹치지 않고 작성순으로 이어진다")
+    void next_page_runs_constant_statements(int size) {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            ReviewRepositoryImpl repository = new ReviewRepositoryImpl(session.getMapper(ReviewMapper.class));
+            List<ReviewRow> firstPage = readPage(repository, null, size);
+            ReviewRow last = firstPage.get(firstPage.size() - 1);
+            ReviewCursor cursor = repository.findCursorByUuid(last.getReviewUuid()).orElseThrow();
+
+            statements.set(0);
+            List<ReviewRow> nextPage = readPage(repository, cursor, size);
+
+            assertThat(statements.get()).isEqualTo(2);
+            assertThat(nextPage).extracting(ReviewRow::getReviewId)
+                    .first().isEqualTo(last.getReviewId() + 1);
+            assertThat(nextPage).extracting(ReviewRow::getReviewId)
+                    .doesNotContainAnyElementsOf(firstPage.stream().map(ReviewRow::getReviewId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("커서 댓글이 삭제되어도 커서 위치를 찾아 다음 페이지를 이어서 읽는다")
+    void deleted_cursor_still_resolves() throws SQLException {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            ReviewRepositoryImpl repository = new ReviewRepositoryImpl(session.getMapper(ReviewMapper.class));
+            List<ReviewRow> firstPage = readPage(repository, null, 5);
+            ReviewRow last = firstPage.get(firstPage.size() - 1);
+            setDeleted(session, last.getReviewId(), true);
+            try {
+                ReviewCursor cursor = repository.findCursorByUuid(last.getReviewUuid()).orElseThrow();
+                List<ReviewRow> nextPage = repository.findReviews(RECIPE_ID, null, cursor, 5);
+
+                assertThat(cursor.getReviewId()).isEqualTo(last.getReviewId());
+                assertThat(cursor.getParentId()).isNull();
+                assertThat(nextPage).extracting(ReviewRow::getReviewId)
+                        .first().isEqualTo(last.getReviewId() + 1);
+            } finally {
+                setDeleted(session, last.getReviewId(), false);
+            }
+        }
+    }
+
+    private static void setDeleted(SqlSession session, long reviewId, boolean deleted) throws SQLException {
+        try (PreparedStatement update = session.getConnection().prepareStatement(
+                "UPDATE review SET deleted_date = " + (deleted ? "CURRENT_TIMESTAMP" : "NULL") + " WHERE review_id = ?")) {
+            update.setLong(1, reviewId);
+            update.executeUpdate();
+        }
+        session.commit(true);
+    }
+
+    /**
+     * RecipeService.getRecipeReviews 와 같은 순서로 한 페이지를 읽습니다.
+     */
+    private static List<ReviewRow> readPage(ReviewRepositoryImpl repository, ReviewCursor after, int size) {
+        List<ReviewRow> rows = repository.findReviews(RECIPE_ID, null, after, size + 1);
+        List<ReviewRow> parents = rows.subList(0, Math.min(size, rows.size()));
+        List<Long> parentIds = parents.stream().map(ReviewRow::getReviewId).toList();
+
+        Map<Long, List<ReviewReplyRow>> replies = repository.findTopReplies(parentIds, REPLY_PREVIEW_SIZE).stream()
+                .collect(Collectors.groupingBy(ReviewReplyRow::getParentId));
+
+        assertThat(replies.keySet()).isEqualTo(Set.copyOf(parentIds));
+        assertThat(replies.values()).allSatisfy(preview -> {
+            assertThat(preview).hasSize(REPLY_PREVIEW_SIZE);
+            assertThat(preview).extracting(ReviewReplyRow::getWriter).doesNotContainNull();
+        });
+        return parents;
+    }
+
+    /**
+     * Connection 에서 만든 Statement 수를 셉니다.
+     */
+    private static DataSource countingDataSource(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return result instanceof Connection connection ? countingConnection(connection) : result;
+                });
+    }
+
+    private static Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")
+                            || method.getName().equals("prepareCall")) {
+                        statements.incrementAndGet();
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void createSchema(Statement statement) throws SQLException {
+        statement.execute("CREATE TABLE customer (customer_id BIGINT PRIMARY KEY, nick_name VARCHAR(50))");
+        // index.sql 의 review 인덱스와 같은 구성
+        statement.execute("""
+                CREATE TABLE review (
+                    review_id BIGINT PRIMARY KEY,
+                    review_uuid BINARY(16) NOT NULL UNIQUE,
+                    parent_id BIGINT,
+                    review_content VARCHAR(255),
+                    customer_id BIGINT,
+                    recipe_id BIGINT,
+                    reply_cnt BIGINT NOT NULL DEFAULT 0,
+                    created_date TIMESTAMP,
+                    deleted_date TIMESTAMP
+                )
+                """);
+        statement.execute("CREATE INDEX idx_review_parent_created ON review (parent_id, created_date)");
+        statement.execute("CREATE INDEX idx_review_recipe_parent_created ON review (recipe_id, parent_id, created_date, review_id)");
+    }
+
+    /**
+     * 부모 댓글마다 작성자가 다르고, 대댓글 작성자도 모두 다르게 넣습니다. (작성자별 지연 로딩이 있다면 SQL 수가 늘어남)
+     */
+    private static void insertReviews(Connection connection) throws SQLException {
+        int customers = PARENTS * (1 + REPLIES_PER_PARENT);
+        try (PreparedStatement customer = connection.prepareStatement("INSERT INTO customer VALUES (?, ?)")) {
+            for (int i = 1; i <= customers; i++) {
+                customer.setLong(1, i);
+                customer.setString(2, "작성자" + i);
+                customer.addBatch();
+            }
+            customer.executeBatch();
+        }
+
+        try (PreparedStatement review = connection.prepareStatement(
+                "INSERT INTO review VALUES (?, ?, ?, '내용', ?, ?, ?, ?, NULL)")) {
+            long customerId = 1;
+            for (int i = 1; i <= PARENTS; i++) {
+                addReview(review, i, null, customerId++, REPLIES_PER_PARENT, BASE_TIME.plusMinutes(i));
+            }
+            long replyId = PARENTS + 1;
+            for (int i = 1; i <= PARENTS; i++) {
+                for (int j = 1; j <= REPLIES_PER_PARENT; j++) {
+                    addReview(review, replyId++, (long) i, customerId++, 0, BASE_TIME.plusMinutes(i).plusSeconds(j));
+                }
+            }
+            review.executeBatch();
+        }
+    }
+
+    private static void addReview(PreparedStatement review, long reviewId, Long parentId, long customerId,
+                                  long replyCnt, LocalDateTime createdDate) throws SQLException {
+        review.setLong(1, reviewId);
+        review.setBytes(2, toBytes(UUID.randomUUID()));
+        if (parentId == null) {
+            review.setNull(3, Types.BIGINT);
+        } else {
+            review.setLong(3, parentId);
+        }
+        review.setLong(4, customerId);
+        review.setLong(5, RECIPE_ID);
+        review.setLong(6, replyCnt);
+        review.setTimestamp(7, Timestamp.valueOf(createdDate));
+        review.addBatch();
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,60 @@
+package store.myproject.onlineshop.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 UUID 는 항상 있을 수도 있음으로 판단한다 (false negative 없음)")
+    void no_false_negative() {
+        // given
+        BloomFilter filter = new BloomFilter(50_000, 0.01);
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            UUID uuid = UUID.randomUUID();
+            uuids.add(uuid);
+            filter.put(uuid);
+        }
+
+        // expect
+        assertThat(uuids).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("없는 UUID 의 오탐률은 목표 fpp 근처로 유지된다")
+    void false_positive_rate_close_to_target() {
+        // given
+        BloomFilter filter = new BloomFilter(50_000, 0.01);
+        for (int i = 0; i < 50_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+
+        // when
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("잘못된 오탐률은 거부한다")
+    void invalid_fpp() {
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
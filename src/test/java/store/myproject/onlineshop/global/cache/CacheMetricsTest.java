@@ -0,0 +1,85 @@
+package store.myproject.onlineshop.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.myproject.onlineshop.dto.common.KeyType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CacheMetrics cacheMetrics = new CacheMetrics(registry, 1024, 4, 10, 3);
+
+    private final String recipeKey = KeyType.RECIPE_DETAIL_CACHE.format(UUID.randomUUID());
+    private final String bodyKey = KeyType.RECIPE_DETAIL_BODY_CACHE.format(UUID.randomUUID());
+
+    @Test
+    @DisplayName("조회 결과를 KeyType 별로 집계하고 히트율을 계산한다")
+    void counts_results_per_key_type() {
+        // when
+        cacheMetrics.l1Hit(recipeKey);
+        cacheMetrics.l2Hit(recipeKey, 512);
+        cacheMetrics.miss(recipeKey);
+        cacheMetrics.miss(recipeKey);
+        cacheMetrics.miss(bodyKey);
+
+        // then
+        assertThat(count("RECIPE_DETAIL_CACHE", "l1_hit")).isEqualTo(1);
+        assertThat(count("RECIPE_DETAIL_CACHE", "l2_hit")).isEqualTo(1);
+        assertThat(count("RECIPE_DETAIL_CACHE", "miss")).isEqualTo(2);
+        assertThat(count("RECIPE_DETAIL_BODY_CACHE", "miss")).isEqualTo(1);
+        assertThat(registry.get("near.cache.hit.ratio").tag("cache", "RECIPE_DETAIL_CACHE").gauge().value())
+                .isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("어떤 KeyType 에도 속하지 않는 키는 OTHER 로 집계한다")
+    void unknown_key_goes_to_other() {
+        // when
+        cacheMetrics.miss("unknown:key");
+
+        // then
+        assertThat(count("OTHER", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로딩 시간, 대기 시간, 값 크기를 기록한다")
+    void records_load_wait_and_size() {
+        // when
+        cacheMetrics.loaded(recipeKey, TimeUnit.MILLISECONDS.toNanos(20), 1_000);
+        cacheMetrics.waited(recipeKey, TimeUnit.MILLISECONDS.toNanos(5));
+
+        // then
+        assertThat(registry.get("near.cache.load").tag("cache", "RECIPE_DETAIL_CACHE").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+        assertThat(registry.get("near.cache.wait").tag("cache", "RECIPE_DETAIL_CACHE").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+        assertThat(registry.get("near.cache.value.size").tag("cache", "RECIPE_DETAIL_CACHE").summary()
+                .totalAmount()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("핫 키를 순위별 지표와 조회 API 로 노출한다")
+    void exposes_hot_keys() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            cacheMetrics.l1Hit(recipeKey);
+        }
+        cacheMetrics.l1Hit(bodyKey);
+
+        // then
+        assertThat(cacheMetrics.hotKeys(2)).extracting(Map.Entry::getKey).containsExactly(recipeKey, bodyKey);
+        assertThat(registry.get("near.cache.hot.key").tag("rank", "1").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("near.cache.hot.key").tag("rank", "3").gauge().value()).isZero();
+    }
+
+    private double count(String cache, String result) {
+        return registry.get("near.cache.gets").tag("cache", cache).tag("result", result).counter().count();
+    }
+}
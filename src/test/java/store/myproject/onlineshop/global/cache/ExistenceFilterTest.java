@@ -0,0 +1,243 @@
+package store.myproject.onlineshop.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.brand.BrandRepository;
+import store.myproject.onlineshop.domain.item.ItemRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeRepository;
+import store.myproject.onlineshop.dto.cache.UuidRef;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ExistenceFilterTest {
+
+    @InjectMocks
+    private ExistenceFilter existenceFilter;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private RedissonClient redisson;
+    @Mock
+    private RTopic addTopic;
+    @Mock
+    private RScoredSortedSet<String> recentAdds;
+
+    private final UUID recipeUuid = UUID.randomUUID();
+    private final UUID itemUuid = UUID.randomUUID();
+    private final UUID brandUuid = UUID.randomUUID();
+
+    private MessageListener<String> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ReflectionTestUtils.setField(existenceFilter, "fpp", 0.01);
+        ReflectionTestUtils.setField(existenceFilter, "growthFactor", 2.0);
+        ReflectionTestUtils.setField(existenceFilter, "minimumCapacity", 1_000L);
+        ReflectionTestUtils.setField(existenceFilter, "loadBatchSize", 2);
+        ReflectionTestUtils.setField(existenceFilter, "recentRetention", Duration.ofDays(1));
+
+        ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+        given(redisson.getTopic(anyString(), any())).willReturn(addTopic);
+        given(redisson.<String>getScoredSortedSet(anyString(), any())).willReturn(recentAdds);
+        given(addTopic.addListener(eq(String.class), captor.capture())).willReturn(1);
+        existenceFilter.init();
+        listener = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("구성 전에는 어떤 UUID 도 거절하지 않는다")
+    void not_built_allows_everything() {
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("구성 후 DB 에 없는 UUID 는 거절하고 있는 UUID 는 통과시킨다")
+    void rebuild_rejects_unknown_uuid() {
+        // given
+        givenRepositories();
+
+        // when
+        existenceFilter.rebuild();
+
+        // then
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, recipeUuid)).isFalse();
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.ITEM, itemUuid)).isFalse();
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.BRAND, brandUuid)).isFalse();
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, itemUuid)).isTrue();
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, UUID.randomUUID())).isTrue();
+    }
+
+    @Test
+    @DisplayName("등록된 UUID 는 로컬 필터와 최근 등록 목록에 추가하고 다른 노드로 전파한다")
+    void add_puts_and_publishes() {
+        // given
+        givenRepositories();
+        existenceFilter.rebuild();
+        UUID created = UUID.randomUUID();
+
+        // when
+        existenceFilter.add(ExistenceFilter.Type.RECIPE, created);
+
+        // then
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, created)).isFalse();
+        then(recentAdds).should().add(anyDouble(), eq(created.toString()));
+        then(addTopic).should().publish("RECIPE:" + created);
+    }
+
+    @Test
+    @DisplayName("전파를 놓친 UUID 도 최근 등록 목록에 있으면 거절하지 않는다")
+    void missed_uuid_is_found_in_recent_adds() {
+        // given
+        givenRepositories();
+        existenceFilter.rebuild();
+        UUID missed = UUID.randomUUID();
+        given(recentAdds.getScore(missed.toString())).willReturn(1.0);
+
+        // when
+        boolean absent = existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, missed);
+
+        // then
+        assertThat(absent).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 등록 목록을 조회할 수 없으면 거절하지 않는다")
+    void recent_adds_failure_allows_uuid() {
+        // given
+        givenRepositories();
+        existenceFilter.rebuild();
+        UUID unknown = UUID.randomUUID();
+        given(recentAdds.getScore(unknown.toString())).willThrow(new RuntimeException("Redis 장애"));
+
+        // when
+        boolean absent = existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, unknown);
+
+        // then
+        assertThat(absent).isFalse();
+    }
+
+    @Test
+    @DisplayName("UUID 를 키셋으로 나누어 끝까지 읽는다")
+    void rebuild_pages_by_keyset() {
+        // given
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        given(recipeRepository.findUuidRefsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new UuidRef(1L, recipeUuid), new UuidRef(2L, second)));
+        given(recipeRepository.findUuidRefsAfter(eq(2L), any(Pageable.class)))
+                .willReturn(List.of(new UuidRef(5L, third)));
+        given(recipeRepository.findUuidRefsAfter(eq(5L), any(Pageable.class))).willReturn(List.of());
+        given(itemRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willReturn(List.of());
+        given(brandRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        existenceFilter.rebuild();
+
+        // then
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, recipeUuid)).isFalse();
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, second)).isFalse();
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, third)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 UUID 를 로컬 필터에 추가한다")
+    void listener_adds_remote_uuid() {
+        // given
+        givenRepositories();
+        existenceFilter.rebuild();
+        UUID remote = UUID.randomUUID();
+
+        // when
+        listener.onMessage("cache:existence:add", "ITEM:" + remote);
+
+        // then
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.ITEM, remote)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 중 등록된 UUID 도 새 필터에 반영된다")
+    void add_during_rebuild_is_kept() {
+        // given
+        UUID createdDuringRebuild = UUID.randomUUID();
+        given(recipeRepository.count()).willReturn(1L);
+        given(recipeRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willAnswer(invocation -> {
+            existenceFilter.add(ExistenceFilter.Type.RECIPE, createdDuringRebuild);
+            return List.of(new UuidRef(1L, recipeUuid));
+        });
+        given(recipeRepository.findUuidRefsAfter(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(itemRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willReturn(List.of());
+        given(brandRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        existenceFilter.rebuild();
+
+        // then
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, createdDuringRebuild)).isFalse();
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, recipeUuid)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 등록 목록에서 정리된 UUID 도 주기 재구성 후에는 통과시킨다")
+    void scheduled_rebuild_recovers_missed_uuid() throws InterruptedException {
+        // given
+        givenRepositories();
+        existenceFilter.rebuild();
+        UUID missed = UUID.randomUUID();
+        given(recipeRepository.findUuidRefsAfter(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(new UuidRef(2L, missed)));
+        given(recipeRepository.findUuidRefsAfter(eq(2L), any(Pageable.class))).willReturn(List.of());
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, missed)).isTrue();
+
+        // when
+        existenceFilter.scheduledRebuild();
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, missed)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, missed)).isFalse();
+    }
+
+    private void givenRepositories() {
+        given(recipeRepository.count()).willReturn(1L);
+        given(itemRepository.count()).willReturn(1L);
+        given(brandRepository.count()).willReturn(1L);
+        given(recipeRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(new UuidRef(1L, recipeUuid)));
+        given(itemRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(new UuidRef(1L, itemUuid)));
+        given(brandRepository.findUuidRefsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(new UuidRef(1L, brandUuid)));
+        given(recipeRepository.findUuidRefsAfter(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(itemRepository.findUuidRefsAfter(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(brandRepository.findUuidRefsAfter(eq(1L), any(Pageable.class))).willReturn(List.of());
+    }
+}
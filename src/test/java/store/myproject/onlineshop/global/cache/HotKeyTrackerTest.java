@@ -0,0 +1,70 @@
+package store.myproject.onlineshop.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyTrackerTest {
+
+    @Test
+    @DisplayName("접근 횟수가 많은 키가 상위에 온다")
+    void top_returns_hottest_keys() {
+        // given
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 3);
+        record(tracker, "recipe:detail:a", 100);
+        record(tracker, "recipe:detail:b", 50);
+        record(tracker, "item:detail:c", 30);
+        for (int i = 0; i < 500; i++) {
+            tracker.record("recipe:detail:cold-" + i);
+        }
+
+        // when
+        List<Map.Entry<String, Long>> top = tracker.top(3);
+
+        // then
+        assertThat(top).extracting(Map.Entry::getKey)
+                .containsExactly("recipe:detail:a", "recipe:detail:b", "item:detail:c");
+    }
+
+    @Test
+    @DisplayName("추정 횟수는 실제 횟수보다 작지 않다")
+    void estimate_never_underestimates() {
+        // given
+        HotKeyTracker tracker = new HotKeyTracker(64, 4, 10);
+        for (int i = 0; i < 1_000; i++) {
+            tracker.record("key-" + (i % 100));
+        }
+
+        // expect
+        for (int i = 0; i < 100; i++) {
+            assertThat(tracker.estimate("key-" + i)).isGreaterThanOrEqualTo(10);
+        }
+    }
+
+    @Test
+    @DisplayName("감쇠 후 최근에 많이 접근한 키가 이전 핫 키를 앞선다")
+    void decay_favors_recent_keys() {
+        // given
+        HotKeyTracker tracker = new HotKeyTracker(1024, 4, 2);
+        record(tracker, "old", 100);
+        tracker.decay();
+        tracker.decay();
+
+        // when
+        record(tracker, "new", 40);
+
+        // then
+        assertThat(tracker.top(1).get(0).getKey()).isEqualTo("new");
+        assertThat(tracker.estimate("old")).isEqualTo(25);
+    }
+
+    private void record(HotKeyTracker tracker, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(key);
+        }
+    }
+}
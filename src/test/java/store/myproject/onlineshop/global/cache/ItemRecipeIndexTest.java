@@ -0,0 +1,99 @@
+package store.myproject.onlineshop.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.recipe.RecipeRepository;
+import store.myproject.onlineshop.dto.recipe.RecipeItemRef;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ItemRecipeIndexTest {
+
+    @InjectMocks
+    private ItemRecipeIndex itemRecipeIndex;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private RedissonClient redisson;
+
+    @Test
+    @DisplayName("DB 의 recipe_item 으로 색인을 만들고 최신순 키셋 페이지와 개수를 메모리에서 구한다")
+    void rebuild_and_page_by_cursor() {
+        // given
+        ReflectionTestUtils.setField(itemRecipeIndex, "enabled", true);
+        ReflectionTestUtils.setField(itemRecipeIndex, "loadBatchSize", 2);
+        given(recipeRepository.findRecipeItemRefsAfter(0L, 2)).willReturn(List.of(
+                new RecipeItemRef(1L, 10L, 100L),
+                new RecipeItemRef(2L, 30L, 100L)));
+        given(recipeRepository.findRecipeItemRefsAfter(2L, 2)).willReturn(List.of(
+                new RecipeItemRef(3L, 20L, 100L),
+                new RecipeItemRef(4L, 20L, 200L)));
+        given(recipeRepository.findRecipeItemRefsAfter(4L, 2)).willReturn(List.of());
+
+        // when
+        itemRecipeIndex.rebuild();
+
+        // then
+        assertThat(itemRecipeIndex.isReady()).isTrue();
+        assertThat(itemRecipeIndex.count(100L)).isEqualTo(3);
+        assertThat(itemRecipeIndex.findRecipeIds(100L, null, 2)).containsExactly(30L, 20L);
+        assertThat(itemRecipeIndex.findRecipeIds(100L, 20L, 2)).containsExactly(10L);
+        assertThat(itemRecipeIndex.findRecipeIds(100L, 25L, 5)).containsExactly(20L, 10L);
+        assertThat(itemRecipeIndex.findRecipeIds(300L, null, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("레시피 재료가 바뀌면 이전 상품에서 빠지고 새 상품에 들어가며, 같은 변경을 다시 적용해도 결과가 같다")
+    void apply_moves_recipe_between_items() {
+        // given
+        itemRecipeIndex.apply(new ItemRecipeIndex.Change(10, new long[]{100L, 200L}));
+        ItemRecipeIndex.Change update = new ItemRecipeIndex.Change(10, new long[]{200L, 300L});
+
+        // when
+        itemRecipeIndex.apply(update);
+        itemRecipeIndex.apply(update);
+
+        // then
+        assertThat(itemRecipeIndex.count(100L)).isZero();
+        assertThat(itemRecipeIndex.findRecipeIds(200L, null, 5)).containsExactly(10L);
+        assertThat(itemRecipeIndex.findRecipeIds(300L, null, 5)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("삭제된 레시피는 모든 상품에서 빠진다")
+    void apply_delete_removes_recipe() {
+        // given
+        itemRecipeIndex.apply(new ItemRecipeIndex.Change(10, new long[]{100L}));
+        itemRecipeIndex.apply(new ItemRecipeIndex.Change(11, new long[]{100L}));
+
+        // when
+        itemRecipeIndex.apply(new ItemRecipeIndex.Change(10, new long[0]));
+
+        // then
+        assertThat(itemRecipeIndex.findRecipeIds(100L, null, 5)).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("Topic 메시지 형식으로 바꿨다가 다시 읽는다")
+    void change_message_round_trip() {
+        ItemRecipeIndex.Change change = ItemRecipeIndex.Change.parse(new ItemRecipeIndex.Change(7, new long[]{1L, 2L}).format());
+        ItemRecipeIndex.Change deleted = ItemRecipeIndex.Change.parse(new ItemRecipeIndex.Change(8, new long[0]).format());
+
+        assertThat(change.recipeId()).isEqualTo(7);
+        assertThat(change.itemIds()).containsExactly(1L, 2L);
+        assertThat(deleted.recipeId()).isEqualTo(8);
+        assertThat(deleted.itemIds()).isEmpty();
+    }
+}
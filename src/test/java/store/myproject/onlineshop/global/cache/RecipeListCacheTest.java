@@ -0,0 +1,40 @@
+package store.myproject.onlineshop.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.myproject.onlineshop.dto.recipe.RecipeListCond;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeListCacheTest {
+
+    @Test
+    @DisplayName("매퍼가 같은 결과를 내는 조건은 같은 키로 정규화한다")
+    void page_key_normalizes_equivalent_conditions() {
+        RecipeListCond defaults = new RecipeListCond();
+        RecipeListCond unknownSort = cond("popular", 0, 10, null);
+        RecipeListCond halfRange = cond("recent", null, 10, 0);
+
+        assertThat(RecipeListCache.page(defaults)).isEqualTo("recent:s0:t0-0:n10");
+        assertThat(RecipeListCache.page(unknownSort)).isEqualTo(RecipeListCache.page(defaults));
+        assertThat(RecipeListCache.page(halfRange)).isEqualTo(RecipeListCache.page(defaults));
+    }
+
+    @Test
+    @DisplayName("정렬, 인분, 조리 시간 범위, 크기가 다르면 다른 키를 쓴다")
+    void page_key_distinguishes_conditions() {
+        RecipeListCond cond = cond("like", 2, 10, 30);
+        cond.setSize(20);
+
+        assertThat(RecipeListCache.page(cond)).isEqualTo("like:s2:t10-30:n20");
+    }
+
+    private RecipeListCond cond(String sortBy, Integer servings, Integer cookingTimeFrom, Integer cookingTimeTo) {
+        RecipeListCond cond = new RecipeListCond();
+        cond.setSortBy(sortBy);
+        cond.setServings(servings);
+        cond.setCookingTimeFrom(cookingTimeFrom);
+        cond.setCookingTimeTo(cookingTimeTo);
+        return cond;
+    }
+}
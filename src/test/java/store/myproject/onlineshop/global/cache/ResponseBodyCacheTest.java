@@ -0,0 +1,57 @@
+package store.myproject.onlineshop.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.myproject.onlineshop.dto.item.ItemDto;
+import store.myproject.onlineshop.fixture.ItemFixture;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ResponseBodyCacheTest {
+
+    private final NearCache nearCache = mock(NearCache.class);
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ResponseBodyCache responseBodyCache = new ResponseBodyCache(nearCache, jsonMapper);
+
+    @Test
+    @DisplayName("미스 시 Response.success 로 감싼 JSON 바이트를 캐시에 적재한다")
+    void load_wraps_result_with_response() {
+        // given
+        ItemDto itemDto = ItemFixture.createItemDto();
+        given(nearCache.<byte[]>getOrLoad(eq("item:detail:body:test"), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+        // when
+        byte[] body = responseBodyCache.getOrLoad("item:detail:body:test", Duration.ofMinutes(5), () -> itemDto);
+
+        // then
+        JsonNode node = jsonMapper.readTree(body);
+        assertThat(node.get("resultCode").asString()).isEqualTo("SUCCESS");
+        assertThat(node.get("result").get("itemName").asString()).isEqualTo(itemDto.getItemName());
+    }
+
+    @Test
+    @DisplayName("히트 시 캐시된 바이트를 그대로 반환한다")
+    void hit_returns_cached_bytes() {
+        // given
+        byte[] cached = "{\"resultCode\":\"SUCCESS\",\"result\":null}".getBytes();
+        given(nearCache.<byte[]>getOrLoad(eq("item:detail:body:test"), any(), any())).willReturn(cached);
+
+        // when
+        byte[] body = responseBodyCache.getOrLoad("item:detail:body:test", Duration.ofMinutes(5), () -> {
+            throw new IllegalStateException("호출되면 안 됩니다.");
+        });
+
+        // then
+        assertThat(body).isSameAs(cached);
+    }
+}
@@ -0,0 +1,103 @@
+package store.myproject.onlineshop.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.myproject.onlineshop.exception.AppException;
+import store.myproject.onlineshop.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    @DisplayName("동시 요청은 하나의 로딩 결과를 공유한다")
+    void concurrent_calls_share_single_load() throws Exception {
+        // given
+        int threads = 16;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value";
+        })));
+        loading.await();
+        for (int i = 1; i < threads; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                loadCount.incrementAndGet();
+                return "other";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loadCount).hasValue(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("리더의 예외는 호출자에게 그대로 전달된다")
+    void leader_exception_propagates() {
+        // expect
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new AppException(ErrorCode.RECIPE_NOT_FOUND);
+        }))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.RECIPE_NOT_FOUND.getMessage());
+
+        // 실패 후에는 다시 로딩할 수 있다
+        assertThat(singleFlight.<String>execute("key", () -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("다른 요청이 로딩 중이면 executeIfIdle 은 기다리지 않는다")
+    void execute_if_idle_skips_when_loading() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            loading.countDown();
+            await(release);
+            return "value";
+        }));
+        loading.await();
+
+        // when
+        Optional<String> result = singleFlight.executeIfIdle("key", () -> "refreshed");
+        release.countDown();
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package store.myproject.onlineshop.global.cache.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.serializer.SerializationException;
+import store.myproject.onlineshop.dto.item.ItemDto;
+import store.myproject.onlineshop.dto.recipe.RecipeCursorResponse;
+import store.myproject.onlineshop.dto.recipe.RecipeDto;
+import store.myproject.onlineshop.dto.recipe.RecipeItemDto;
+import store.myproject.onlineshop.dto.recipe.SimpleRecipeDto;
+import store.myproject.onlineshop.dto.recipestep.RecipeStepDto;
+import store.myproject.onlineshop.fixture.ItemFixture;
+import store.myproject.onlineshop.fixture.RecipeFixture;
+import store.myproject.onlineshop.global.cache.CacheEnvelope;
+import store.myproject.onlineshop.global.config.db.redis.Jackson3RedisSerializer;
+import store.myproject.onlineshop.global.config.db.redis.RedisCacheConfig;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 바이너리 캐시 직렬화 확인. 역직렬화 시간 비교는 -Dcache.codec.bench=true 일 때만 실행합니다.
+ */
+@Slf4j
+class BinaryCacheSerializerTest {
+
+    private static final int ITERATIONS = 20_000;
+    private static final int MAX_VALUE_BYTES = 16 * 1024 * 1024;
+
+    private final Jackson3RedisSerializer<Object> jsonSerializer =
+            new Jackson3RedisSerializer<>(new RedisCacheConfig().redisObjectMapper());
+
+    private final List<CacheCodec<?>> codecs = List.of(new RecipeDtoCodec(), new ItemDtoCodec(), new SimpleRecipeDtoCodec(), new RecipeCursorResponseCodec());
+
+    private final BinaryCacheSerializer binarySerializer = new BinaryCacheSerializer(jsonSerializer, true, 1024, MAX_VALUE_BYTES, codecs);
+    private final BinaryCacheSerializer uncompressedSerializer = new BinaryCacheSerializer(jsonSerializer, true, 0, MAX_VALUE_BYTES, codecs);
+
+    @Test
+    @DisplayName("RecipeDto 를 담은 CacheEnvelope 를 바이너리로 저장하고 다시 읽는다")
+    void round_trip_recipe_envelope() {
+        // given
+        CacheEnvelope envelope = new CacheEnvelope(createLargeRecipe(), 35L, 1_700_000_000_000L);
+
+        // when
+        byte[] bytes = binarySerializer.serialize(envelope);
+        CacheEnvelope result = (CacheEnvelope) binarySerializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0] & 0xFF).isEqualTo(BinaryCacheSerializer.MAGIC);
+        assertThat(bytes[2] & BinaryCacheSerializer.FLAG_COMPRESSED).isEqualTo(BinaryCacheSerializer.FLAG_COMPRESSED);
+        assertThat(result.getDeltaMillis()).isEqualTo(35L);
+        assertThat(result.getExpireAtMillis()).isEqualTo(1_700_000_000_000L);
+        assertThat(result.getValue()).usingRecursiveComparison().isEqualTo(envelope.getValue());
+    }
+
+    @Test
+    @DisplayName("ItemDto, SimpleRecipeDto 와 null 필드를 그대로 복원한다")
+    void round_trip_item_and_simple_recipe() {
+        // given
+        ItemDto itemDto = ItemFixture.createItemDto();
+        SimpleRecipeDto simpleRecipeDto = RecipeFixture.createSimpleRecipeDto();
+        ItemDto emptyItem = new ItemDto();
+
+        // expect
+        assertThat(uncompressedSerializer.deserialize(uncompressedSerializer.serialize(itemDto))).isEqualTo(itemDto);
+        assertThat(uncompressedSerializer.deserialize(uncompressedSerializer.serialize(emptyItem))).isEqualTo(emptyItem);
+        assertThat(uncompressedSerializer.deserialize(uncompressedSerializer.serialize(List.of(simpleRecipeDto))))
+                .usingRecursiveComparison().isEqualTo(List.of(simpleRecipeDto));
+    }
+
+    @Test
+    @DisplayName("목록 첫 페이지(RecipeCursorResponse)를 커서와 함께 복원한다")
+    void round_trip_recipe_cursor_response() {
+        // given
+        RecipeCursorResponse page = RecipeCursorResponse.of(
+                List.of(RecipeFixture.createSimpleRecipeDto(), RecipeFixture.createSimpleRecipeDto()),
+                UUID.randomUUID(), 10L, null);
+        RecipeCursorResponse lastPage = RecipeCursorResponse.of(List.of(), null, null, null);
+
+        // expect
+        assertThat(uncompressedSerializer.deserialize(uncompressedSerializer.serialize(page)))
+                .usingRecursiveComparison().isEqualTo(page);
+        assertThat(uncompressedSerializer.deserialize(uncompressedSerializer.serialize(lastPage)))
+                .usingRecursiveComparison().isEqualTo(lastPage);
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식 값과 코덱이 없는 타입도 읽는다")
+    void read_legacy_json_and_fallback_type() {
+        // given
+        RecipeDto recipeDto = createLargeRecipe();
+        byte[] legacyEnvelope = jsonSerializer.serialize(new CacheEnvelope(recipeDto, 10L, 20L));
+        byte[] legacyPlain = jsonSerializer.serialize(recipeDto);
+        Map<String, String> unknownType = new HashMap<>(Map.of("status", "ok"));
+
+        // when
+        CacheEnvelope envelope = (CacheEnvelope) binarySerializer.deserialize(legacyEnvelope);
+        Object plain = binarySerializer.deserialize(legacyPlain);
+        Object fallback = binarySerializer.deserialize(binarySerializer.serialize(unknownType));
+
+        // then
+        assertThat(envelope.getValue()).usingRecursiveComparison().isEqualTo(recipeDto);
+        assertThat(plain).usingRecursiveComparison().isEqualTo(recipeDto);
+        assertThat(fallback).isEqualTo(unknownType);
+    }
+
+    @Test
+    @DisplayName("json 모드는 기존 JSON 으로 저장하면서 바이너리 값도 읽는다")
+    void json_write_mode_for_rollback() {
+        // given
+        BinaryCacheSerializer jsonMode = new BinaryCacheSerializer(jsonSerializer, false, 1024, MAX_VALUE_BYTES, codecs);
+        ItemDto itemDto = createItem();
+
+        // expect
+        assertThat(jsonMode.serialize(itemDto)).isEqualTo(jsonSerializer.serialize(itemDto));
+        assertThat(jsonMode.deserialize(binarySerializer.serialize(itemDto))).isEqualTo(itemDto);
+    }
+
+    @Test
+    @DisplayName("응답 본문 바이트는 json 모드에서도 그대로 저장하고 읽는다")
+    void round_trip_raw_bytes() {
+        // given
+        BinaryCacheSerializer jsonMode = new BinaryCacheSerializer(jsonSerializer, false, 1024, MAX_VALUE_BYTES, codecs);
+        byte[] body = "{\"resultCode\":\"SUCCESS\",\"result\":{\"itemName\":\"두부\"}}".getBytes();
+        CacheEnvelope envelope = new CacheEnvelope(body, 5L, 20L);
+
+        // when
+        CacheEnvelope fromJsonMode = (CacheEnvelope) jsonMode.deserialize(jsonMode.serialize(envelope));
+        CacheEnvelope fromBinary = (CacheEnvelope) binarySerializer.deserialize(binarySerializer.serialize(envelope));
+
+        // then
+        assertThat((byte[]) fromJsonMode.getValue()).isEqualTo(body);
+        assertThat((byte[]) fromBinary.getValue()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("잘린 바이너리 값은 SerializationException 으로 알린다")
+    void truncated_value_fails() {
+        // given
+        byte[] bytes = uncompressedSerializer.serialize(createLargeRecipe());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+
+        // expect
+        assertThatThrownBy(() -> uncompressedSerializer.deserialize(truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("압축 헤더의 원본 길이가 최대 크기를 넘으면 할당 전에 SerializationException 으로 알린다")
+    void oversized_original_length_fails() {
+        // given
+        CacheOutput out = new CacheOutput(16);
+        out.writeByte(BinaryCacheSerializer.MAGIC);
+        out.writeByte(BinaryCacheSerializer.FORMAT_VERSION);
+        out.writeByte(BinaryCacheSerializer.FLAG_COMPRESSED);
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeByte(0);
+        byte[] corrupted = out.toByteArray();
+
+        // expect
+        assertThatThrownBy(() -> binarySerializer.deserialize(corrupted))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("잘못된 길이");
+    }
+
+    @Test
+    @DisplayName("키당 바이트 수 비교 - 바이너리가 JSON 보다 작고, 압축하면 더 작다")
+    void binary_is_smaller_than_json() {
+        // given
+        CacheEnvelope recipe = new CacheEnvelope(createLargeRecipe(), 35L, System.currentTimeMillis());
+        CacheEnvelope item = new CacheEnvelope(createItem(), 5L, System.currentTimeMillis());
+
+        // when
+        byte[] recipeJson = jsonSerializer.serialize(recipe);
+        byte[] recipeBinary = uncompressedSerializer.serialize(recipe);
+        byte[] recipeCompressed = binarySerializer.serialize(recipe);
+        byte[] itemJson = jsonSerializer.serialize(item);
+        byte[] itemBinary = binarySerializer.serialize(item);
+
+        // then
+        assertThat(recipeBinary.length).isLessThan(recipeJson.length);
+        assertThat(recipeCompressed.length).isLessThan(recipeBinary.length);
+        assertThat(itemBinary.length).isLessThan(itemJson.length);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "cache.codec.bench", matches = "true")
+    @DisplayName("키당 바이트 수와 역직렬화 ns/op 비교 (JSON vs 바이너리 vs 바이너리+압축)")
+    void measure_bytes_and_deserialize_cost() {
+        // given
+        CacheEnvelope recipe = new CacheEnvelope(createLargeRecipe(), 35L, System.currentTimeMillis());
+        CacheEnvelope item = new CacheEnvelope(createItem(), 5L, System.currentTimeMillis());
+
+        byte[] recipeJson = jsonSerializer.serialize(recipe);
+        byte[] recipeBinary = uncompressedSerializer.serialize(recipe);
+        byte[] recipeCompressed = binarySerializer.serialize(recipe);
+        byte[] itemJson = jsonSerializer.serialize(item);
+        byte[] itemBinary = binarySerializer.serialize(item);
+
+        // when
+        double recipeJsonNs = nanosPerOp(() -> jsonSerializer.deserialize(recipeJson));
+        double recipeBinaryNs = nanosPerOp(() -> uncompressedSerializer.deserialize(recipeBinary));
+        double recipeCompressedNs = nanosPerOp(() -> binarySerializer.deserialize(recipeCompressed));
+        double itemJsonNs = nanosPerOp(() -> jsonSerializer.deserialize(itemJson));
+        double itemBinaryNs = nanosPerOp(() -> binarySerializer.deserialize(itemBinary));
+
+        // then
+        log.info("[recipe:detail] json={}B ({}ns/op), binary={}B ({}ns/op), binary+deflate={}B ({}ns/op)",
+                recipeJson.length, Math.round(recipeJsonNs), recipeBinary.length, Math.round(recipeBinaryNs),
+                recipeCompressed.length, Math.round(recipeCompressedNs));
+        log.info("[item:detail] json={}B ({}ns/op), binary={}B ({}ns/op)",
+                itemJson.length, Math.round(itemJsonNs), itemBinary.length, Math.round(itemBinaryNs));
+    }
+
+    private double nanosPerOp(Supplier<Object> task) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.get();
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    /**
+     * 기존 JSON 형식은 허용된 컬렉션 타입만 읽을 수 있으므로 ArrayList 로 구성
+     */
+    private ItemDto createItem() {
+        ItemDto itemDto = ItemFixture.createItemDto();
+        itemDto.setImageList(new ArrayList<>(itemDto.getImageList()));
+        return itemDto;
+    }
+
+    /**
+     * 단계 30개, 재료 20개 레시피
+     */
+    private RecipeDto createLargeRecipe() {
+        List<RecipeStepDto> steps = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            steps.add(RecipeStepDto.builder()
+                    .stepOrder(i)
+                    .content("냄비에 물을 붓고 재료를 넣어 중불에서 " + i + "분간 끓입니다.")
+                    .imageUrl("https://cdn.example.com/recipes/steps/" + i + ".jpg")
+                    .build());
+        }
+
+        List<RecipeItemDto> items = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            items.add(RecipeItemDto.builder()
+                    .itemUuid(UUID.randomUUID())
+                    .itemName("재료 " + i)
+                    .itemPrice(BigDecimal.valueOf(1_500L * i, 2))
+                    .brandName("풀무원")
+                    .thumbnail("https://cdn.example.com/items/" + i + ".jpg")
+                    .build());
+        }
+
+        return RecipeDto.builder()
+                .recipeUuid(UUID.randomUUID())
+                .recipeTitle("매운 떡볶이")
+                .recipeDescription("집에서 쉽게 만드는 매운 떡볶이 레시피입니다.")
+                .recipeCookingTime(30)
+                .recipeServings(2)
+                .recipeWriter("홍길동")
+                .thumbnailUrl("https://cdn.example.com/recipes/thumbnail.jpg")
+                .recipeMetaId(1L)
+                .steps(steps)
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package store.myproject.onlineshop.global.config.async;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncExecutorAutoSizerTest {
+
+    private AsyncExecutorAutoSizer autoSizer;
+
+    @BeforeEach
+    void setUp() {
+        autoSizer = new AsyncExecutorAutoSizer(null, null);
+        ReflectionTestUtils.setField(autoSizer, "targetWait", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(autoSizer, "step", 2);
+    }
+
+    @Test
+    @DisplayName("DB 가 포화되면 보호 대상이 아닌 풀만 줄인다")
+    void shrinks_unprotected_pool_when_saturated() {
+        assertThat(autoSizer.nextCoreSize(4, 4, 20, true, false, 500, 100)).isEqualTo(2);
+        assertThat(autoSizer.nextCoreSize(1, 4, 20, true, false, 500, 100)).isEqualTo(1);
+        assertThat(autoSizer.nextCoreSize(4, 4, 20, true, true, 500, 100)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 길고 큐에 작업이 있으면 max 까지 늘린다")
+    void grows_when_tasks_wait() {
+        assertThat(autoSizer.nextCoreSize(4, 4, 20, false, false, 150, 30)).isEqualTo(6);
+        assertThat(autoSizer.nextCoreSize(19, 4, 20, false, false, 150, 30)).isEqualTo(20);
+        assertThat(autoSizer.nextCoreSize(4, 4, 20, false, false, 50, 30)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("큐가 비면 처음 크기로 되돌린다")
+    void returns_to_initial_when_idle() {
+        assertThat(autoSizer.nextCoreSize(9, 4, 20, false, false, 0, 0)).isEqualTo(7);
+        assertThat(autoSizer.nextCoreSize(5, 4, 20, false, false, 0, 0)).isEqualTo(4);
+        assertThat(autoSizer.nextCoreSize(1, 4, 20, false, false, 0, 0)).isEqualTo(3);
+    }
+}
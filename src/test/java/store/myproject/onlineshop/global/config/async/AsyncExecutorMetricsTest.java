@@ -0,0 +1,66 @@
+package store.myproject.onlineshop.global.config.async;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncExecutorMetricsTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncExecutorMetrics asyncExecutorMetrics = new AsyncExecutorMetrics(meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 대기/실행 시간과 큐 길이, 거절 수를 Executor 이름별로 남긴다")
+    void records_executor_metrics() throws InterruptedException {
+        // given
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        asyncExecutorMetrics.instrument("testExecutor", executor);
+        executor.initialize();
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await(1, TimeUnit.SECONDS);
+        executor.execute(() -> {});
+
+        // when
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+
+        // then
+        assertThat(meterRegistry.get("async.executor.queue.depth").tag("name", "testExecutor").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("async.executor.active").tag("name", "testExecutor").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("async.executor.rejected").tag("name", "testExecutor").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("async.executor.task.wait").tag("name", "testExecutor").timer().count()).isEqualTo(1);
+        assertThat(asyncExecutorMetrics.getPools()).containsKey("testExecutor");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package store.myproject.onlineshop.global.config.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.myproject.onlineshop.global.config.async.BulkheadExecutor.OverflowPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BulkheadExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("허가 수만큼만 동시에 실행한다")
+    void limits_concurrency() throws InterruptedException {
+        // given
+        executor = BulkheadExecutor.virtual("test-", 2, OverflowPolicy.REJECT, Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(2);
+
+        // when
+        executor.execute(blockingTask(started));
+        executor.execute(blockingTask(started));
+        started.await(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CALLER_RUNS 는 허가가 없으면 호출 스레드에서 실행한다")
+    void caller_runs_when_full() throws InterruptedException {
+        // given
+        executor = BulkheadExecutor.virtual("test-", 1, OverflowPolicy.CALLER_RUNS, Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(blockingTask(started));
+        started.await(1, TimeUnit.SECONDS);
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        // then
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(executor.getCallerRunsCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("BLOCK 은 허가가 반납될 때까지 기다렸다가 실행한다")
+    void block_waits_for_permit() throws InterruptedException {
+        // given
+        executor = BulkheadExecutor.virtual("test-", 1, OverflowPolicy.BLOCK, Duration.ofSeconds(5));
+        executor.execute(() -> sleep(100));
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.execute(done::countDown);
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getRejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("BLOCK 은 acquire-timeout 안에 허가를 얻지 못하면 거절한다")
+    void block_rejects_after_timeout() throws InterruptedException {
+        // given
+        executor = BulkheadExecutor.virtual("test-", 1, OverflowPolicy.BLOCK, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(blockingTask(started));
+        started.await(1, TimeUnit.SECONDS);
+
+        // expect
+        assertThatThrownBy(() -> executor.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("작업이 예외로 끝나도 허가를 반납한다")
+    void releases_permit_on_failure() throws InterruptedException {
+        // given
+        executor = BulkheadExecutor.virtual("test-", 1, OverflowPolicy.BLOCK, Duration.ofSeconds(1));
+        AtomicInteger ran = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.execute(() -> {
+            throw new IllegalStateException("작업 실패");
+        });
+        executor.execute(() -> {
+            ran.incrementAndGet();
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(ran.get()).isEqualTo(1);
+    }
+
+    private Runnable blockingTask(CountDownLatch started) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
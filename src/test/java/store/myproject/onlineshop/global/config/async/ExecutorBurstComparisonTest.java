@@ -0,0 +1,108 @@
+package store.myproject.onlineshop.global.config.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import store.myproject.onlineshop.global.config.async.BulkheadExecutor.OverflowPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 이벤트 5만 건이 한꺼번에 들어올 때 Executor 방식별 처리량/거절률 비교
+ * DB 는 커넥션 20개짜리 풀과 건당 200µs 작업으로 흉내 냅니다.
+ * 처리량 비교용이라 기본 실행에서는 제외하고, -Dasync.executor.bench=true 일 때만 실행합니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "async.executor.bench", matches = "true")
+class ExecutorBurstComparisonTest {
+
+    private static final int EVENTS = 50_000;
+    private static final int DB_CONNECTIONS = 20;
+    private static final long WORK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final Semaphore connections = new Semaphore(DB_CONNECTIONS);
+
+    @Test
+    @DisplayName("고정 스레드 풀은 큐가 넘치면 거절하고, 가상 스레드 bulkhead(BLOCK/CALLER_RUNS)는 거절 없이 처리한다")
+    void compare_burst() throws InterruptedException {
+        ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
+        threadPool.setCorePoolSize(4);
+        threadPool.setMaxPoolSize(20);
+        threadPool.setQueueCapacity(800);
+        threadPool.initialize();
+
+        Result pool = burst("thread-pool(4/20/800)", threadPool);
+        threadPool.shutdown();
+
+        Result reject;
+        try (BulkheadExecutor executor = BulkheadExecutor.virtual("vt-reject-", 10, OverflowPolicy.REJECT, Duration.ZERO)) {
+            reject = burst("virtual+bulkhead(REJECT)", executor);
+        }
+
+        Result block;
+        try (BulkheadExecutor executor = BulkheadExecutor.virtual("vt-block-", 10, OverflowPolicy.BLOCK, Duration.ofSeconds(10))) {
+            block = burst("virtual+bulkhead(BLOCK)", executor);
+        }
+
+        Result callerRuns;
+        try (BulkheadExecutor executor = BulkheadExecutor.virtual("vt-caller-", 10, OverflowPolicy.CALLER_RUNS, Duration.ZERO)) {
+            callerRuns = burst("virtual+bulkhead(CALLER_RUNS)", executor);
+        }
+
+        assertThat(pool.rejected()).isPositive();
+        assertThat(block.rejected()).isZero();
+        assertThat(callerRuns.rejected()).isZero();
+        assertThat(reject.completed() + reject.rejected()).isEqualTo(EVENTS);
+    }
+
+    private Result burst(String name, Executor executor) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        int rejected = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        simulateUpdate();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                rejected++;
+                done.countDown();
+            }
+        }
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        Result result = new Result(EVENTS - rejected, rejected);
+        log.info("{}: completed={}, rejected={} ({}%), elapsed={}ms, throughput={}/s",
+                name, result.completed(), rejected, rejected * 100 / EVENTS, elapsedMillis,
+                result.completed() * 1000L / elapsedMillis);
+        return result;
+    }
+
+    private void simulateUpdate() {
+        connections.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(WORK_NANOS);
+        } finally {
+            connections.release();
+        }
+    }
+
+    private record Result(int completed, int rejected) {
+    }
+}
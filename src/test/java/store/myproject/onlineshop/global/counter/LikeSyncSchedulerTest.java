@@ -0,0 +1,96 @@
+package store.myproject.onlineshop.global.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.like.LikeRepository;
+import store.myproject.onlineshop.dto.like.LikeChange;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class LikeSyncSchedulerTest {
+
+    @InjectMocks
+    private LikeSyncScheduler likeSyncScheduler;
+
+    @Mock
+    private LikeStore likeStore;
+    @Mock
+    private LikeRepository likeRepository;
+
+    private final UUID recipeUuid = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeSyncScheduler, "batchSize", 100);
+        ReflectionTestUtils.setField(likeSyncScheduler, "maxBatches", 5);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 아무것도 하지 않는다")
+    void disabled_does_nothing() {
+        // when
+        likeSyncScheduler.sync();
+
+        // then
+        then(likeStore).should(never()).claim(anyInt());
+    }
+
+    @Test
+    @DisplayName("꺼낸 좋아요 상태대로 INSERT 와 soft delete 를 한 번씩 실행한다")
+    @SuppressWarnings("unchecked")
+    void sync_writes_likes_and_unlikes() {
+        // given
+        List<LikeChange> claimed = List.of(
+                new LikeChange(recipeUuid, 1L, true),
+                new LikeChange(recipeUuid, 2L, false),
+                new LikeChange(recipeUuid, 3L, true));
+        given(likeStore.isEnabled()).willReturn(true);
+        given(likeStore.claim(100)).willReturn(claimed, List.of());
+
+        // when
+        likeSyncScheduler.sync();
+
+        // then
+        ArgumentCaptor<List<LikeChange>> inserted = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<LikeChange>> deleted = ArgumentCaptor.forClass(List.class);
+        then(likeRepository).should().insertLikes(inserted.capture());
+        then(likeRepository).should().deleteLikes(deleted.capture());
+        assertThat(inserted.getValue()).extracting("customerId").containsExactly(1L, 3L);
+        assertThat(deleted.getValue()).extracting("recipeUuid", "customerId").containsExactly(tuple(recipeUuid, 2L));
+        then(likeStore).should(never()).restore(anyList());
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 꺼낸 좋아요를 Redis 로 되돌리고 이번 실행을 멈춘다")
+    void sync_failure_restores_claimed_likes() {
+        // given
+        List<LikeChange> claimed = List.of(new LikeChange(recipeUuid, 1L, true));
+        given(likeStore.isEnabled()).willReturn(true);
+        given(likeStore.claim(100)).willReturn(claimed);
+        given(likeRepository.insertLikes(anyList())).willThrow(new RuntimeException("DB 장애"));
+
+        // when
+        likeSyncScheduler.sync();
+
+        // then
+        then(likeStore).should().restore(claimed);
+        then(likeStore).should().claim(100);
+    }
+}
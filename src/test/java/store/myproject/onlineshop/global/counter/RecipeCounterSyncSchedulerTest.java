@@ -0,0 +1,107 @@
+package store.myproject.onlineshop.global.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+import store.myproject.onlineshop.dto.recipemeta.RecipeMetaKey;
+import store.myproject.onlineshop.global.counter.RecipeCounterStore.Pending;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeCounterSyncSchedulerTest {
+
+    @InjectMocks
+    private RecipeCounterSyncScheduler recipeCounterSyncScheduler;
+
+    @Mock
+    private RecipeCounterStore recipeCounterStore;
+    @Mock
+    private RecipeMetaRepository recipeMetaRepository;
+
+    private final UUID recipeUuid = UUID.randomUUID();
+    private final UUID deletedRecipeUuid = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recipeCounterSyncScheduler, "batchSize", 100);
+        ReflectionTestUtils.setField(recipeCounterSyncScheduler, "maxBatches", 5);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 아무것도 하지 않는다")
+    void disabled_does_nothing() {
+        // when
+        recipeCounterSyncScheduler.sync();
+
+        // then
+        then(recipeCounterStore).should(never()).claim(anyInt());
+    }
+
+    @Test
+    @DisplayName("꺼낸 증가분을 recipe_meta_id 로 바꿔 일괄 반영하고, 없는 레시피의 증가분은 버린다")
+    @SuppressWarnings("unchecked")
+    void sync_writes_claimed_deltas() {
+        // given
+        Map<UUID, Pending> claimed = Map.of(
+                recipeUuid, new Pending(10, 1),
+                deletedRecipeUuid, new Pending(3, 0));
+        given(recipeCounterStore.isEnabled()).willReturn(true);
+        given(recipeCounterStore.claim(100)).willReturn(claimed, Map.of());
+        given(recipeMetaRepository.findRecipeMetaKeys(claimed.keySet())).willReturn(List.of(metaKey(recipeUuid, 7L)));
+
+        // when
+        recipeCounterSyncScheduler.sync();
+
+        // then
+        ArgumentCaptor<List<RecipeCounterDelta>> captor = ArgumentCaptor.forClass(List.class);
+        then(recipeMetaRepository).should().addCounts(captor.capture());
+        assertThat(captor.getValue())
+                .extracting("recipeMetaId", "viewDelta", "likeDelta", "reviewDelta")
+                .containsExactly(tuple(7L, 10L, 1L, 0L));
+        then(recipeCounterStore).should(never()).restore(claimed);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 Redis 로 되돌리고 이번 실행을 멈춘다")
+    void sync_failure_restores_claimed_deltas() {
+        // given
+        Map<UUID, Pending> claimed = Map.of(recipeUuid, new Pending(10, 0));
+        given(recipeCounterStore.isEnabled()).willReturn(true);
+        given(recipeCounterStore.claim(100)).willReturn(claimed);
+        given(recipeMetaRepository.findRecipeMetaKeys(claimed.keySet())).willReturn(List.of(metaKey(recipeUuid, 7L)));
+        given(recipeMetaRepository.addCounts(anyList())).willThrow(new RuntimeException("DB 장애"));
+
+        // when
+        recipeCounterSyncScheduler.sync();
+
+        // then
+        then(recipeCounterStore).should().restore(claimed);
+        then(recipeCounterStore).should().claim(100);
+    }
+
+    private RecipeMetaKey metaKey(UUID uuid, Long recipeMetaId) {
+        RecipeMetaKey key = new RecipeMetaKey();
+        ReflectionTestUtils.setField(key, "recipeUuid", uuid);
+        ReflectionTestUtils.setField(key, "recipeMetaId", recipeMetaId);
+        return key;
+    }
+}
@@ -0,0 +1,32 @@
+package store.myproject.onlineshop.global.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.myproject.onlineshop.dto.recipe.RecipeRankingMetric;
+import store.myproject.onlineshop.dto.recipe.RecipeRankingPeriod;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeRankingStoreTest {
+
+    @Test
+    @DisplayName("기간별 랭킹 키는 지표와 날짜/ISO 주차로 나뉘고, 트렌딩은 지표와 상관없이 하나다")
+    void ranking_keys_by_period() {
+        LocalDate date = LocalDate.of(2026, 10, 17);
+
+        assertThat(RecipeRankingStore.ranking(RecipeRankingPeriod.DAILY, RecipeRankingMetric.VIEW, date)).isEqualTo("view:d:20261017");
+        assertThat(RecipeRankingStore.ranking(RecipeRankingPeriod.WEEKLY, RecipeRankingMetric.LIKE, date)).isEqualTo("like:w:2026-42");
+        assertThat(RecipeRankingStore.ranking(RecipeRankingPeriod.ALL_TIME, RecipeRankingMetric.REVIEW, date)).isEqualTo("review:all");
+        assertThat(RecipeRankingStore.ranking(RecipeRankingPeriod.TRENDING, RecipeRankingMetric.VIEW, date))
+                .isEqualTo(RecipeRankingStore.ranking(RecipeRankingPeriod.TRENDING, RecipeRankingMetric.LIKE, date));
+    }
+
+    @Test
+    @DisplayName("연말 주간 키는 ISO 주차 기준 연도를 쓴다")
+    void weekly_key_uses_week_based_year() {
+        assertThat(RecipeRankingStore.ranking(RecipeRankingPeriod.WEEKLY, RecipeRankingMetric.VIEW, LocalDate.of(2024, 12, 30)))
+                .isEqualTo("view:w:2025-01");
+    }
+}
@@ -0,0 +1,220 @@
+package store.myproject.onlineshop.global.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.domain.review.ReviewRepository;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewCountBufferTest {
+
+    @InjectMocks
+    private ReviewCountBuffer reviewCountBuffer;
+
+    @Mock
+    private RecipeMetaRepository recipeMetaRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewCountBuffer, "maxPending", 1_000_000L);
+        ReflectionTestUtils.setField(reviewCountBuffer, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("레시피별 리뷰 수와 부모 댓글별 대댓글 수 증감분을 합산해 일괄 반영한다")
+    void flush_aggregates_review_and_reply_deltas() {
+        // given
+        List<Map<Long, Long>> reviewBatches = captureReviewBatches();
+        List<Map<Long, Long>> replyBatches = captureReplyBatches();
+        reviewCountBuffer.add(1L, null, 1);
+        reviewCountBuffer.add(1L, 10L, 1);
+        reviewCountBuffer.add(1L, 10L, 1);
+        reviewCountBuffer.add(2L, null, -1);
+
+        // when
+        reviewCountBuffer.flush();
+
+        // then
+        assertThat(reviewBatches).containsExactly(Map.of(1L, 3L, 2L, -1L));
+        assertThat(replyBatches).containsExactly(Map.of(10L, 2L));
+    }
+
+    @Test
+    @DisplayName("작성 후 삭제로 합이 0 이 된 키는 반영하지 않는다")
+    void flush_skips_zero_deltas() {
+        // given
+        reviewCountBuffer.add(1L, 10L, 1);
+        reviewCountBuffer.add(1L, 10L, -1);
+
+        // when
+        reviewCountBuffer.flush();
+
+        // then
+        then(recipeMetaRepository).should(never()).addCounts(anyList());
+        then(reviewRepository).should(never()).addReplyCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영한 증감분은 다음 반영에 다시 포함되지 않고 키도 남지 않는다")
+    void flush_removes_flushed_keys() {
+        // given
+        captureReviewBatches();
+        reviewCountBuffer.add(1L, null, 1);
+        reviewCountBuffer.flush();
+
+        // when
+        reviewCountBuffer.flush();
+
+        // then
+        then(recipeMetaRepository).should(times(1)).addCounts(anyList());
+        assertThat(reviewCountBuffer.hasPendingReview(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("batch-size 를 넘는 레시피는 여러 UPDATE 로 나누어 반영한다")
+    void flush_splits_by_batch_size() {
+        // given
+        List<Map<Long, Long>> reviewBatches = captureReviewBatches();
+        for (long id = 1; id <= 5; id++) {
+            reviewCountBuffer.add(id, null, 1);
+        }
+
+        // when
+        reviewCountBuffer.flush();
+
+        // then
+        assertThat(reviewBatches).hasSize(3);
+        assertThat(reviewBatches).flatExtracting(Map::keySet).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 버퍼에 되돌려 다음 반영에서 재시도한다")
+    void flush_failure_restores_deltas() {
+        // given
+        List<Map<Long, Long>> replyBatches = new ArrayList<>();
+        given(recipeMetaRepository.addCounts(anyList())).willReturn(1);
+        given(reviewRepository.addReplyCounts(anyMap()))
+                .willThrow(new RuntimeException("DB 장애"))
+                .willAnswer(invocation -> {
+                    replyBatches.add(Map.copyOf(invocation.getArgument(0)));
+                    return 1;
+                });
+        reviewCountBuffer.add(1L, 10L, 1);
+        reviewCountBuffer.flush();
+        reviewCountBuffer.add(1L, 10L, 1);
+
+        // when
+        reviewCountBuffer.flush();
+
+        // then
+        assertThat(replyBatches).containsExactly(Map.of(10L, 2L));
+        assertThat(reviewCountBuffer.hasPendingReply(10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("쌓인 이벤트가 max-pending 에 도달하면 즉시 반영을 한 번만 예약한다")
+    void add_schedules_flush_when_full() {
+        // given
+        ReflectionTestUtils.setField(reviewCountBuffer, "maxPending", 2L);
+
+        // when
+        reviewCountBuffer.add(1L, null, 1);
+        reviewCountBuffer.add(2L, null, 1);
+        reviewCountBuffer.add(3L, null, 1);
+
+        // then
+        then(taskScheduler).should(times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("동시 작성/삭제 증감분이 유실되지 않는다")
+    void concurrent_adds_are_not_lost() throws InterruptedException {
+        // given
+        List<Map<Long, Long>> reviewBatches = captureReviewBatches();
+        List<Map<Long, Long>> replyBatches = captureReplyBatches();
+        int threadCount = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    reviewCountBuffer.add(1L, 10L, j % 3 == 0 ? -1 : 1);
+                    if (j % 1_000 == 0) {
+                        reviewCountBuffer.flush();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        reviewCountBuffer.flush();
+
+        // then
+        long expected = 0;
+        for (int j = 0; j < perThread; j++) {
+            expected += j % 3 == 0 ? -1 : 1;
+        }
+        expected *= threadCount;
+        assertThat(reviewBatches.stream().mapToLong(batch -> batch.getOrDefault(1L, 0L)).sum()).isEqualTo(expected);
+        assertThat(replyBatches.stream().mapToLong(batch -> batch.getOrDefault(10L, 0L)).sum()).isEqualTo(expected);
+    }
+
+    private List<Map<Long, Long>> captureReviewBatches() {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        given(recipeMetaRepository.addCounts(anyList())).willAnswer(invocation -> {
+            List<RecipeCounterDelta> deltas = invocation.getArgument(0);
+            Map<Long, Long> batch = new LinkedHashMap<>();
+            deltas.forEach(delta -> batch.put(delta.getRecipeMetaId(), delta.getReviewDelta()));
+            synchronized (batches) {
+                batches.add(batch);
+            }
+            return 1;
+        });
+        return batches;
+    }
+
+    private List<Map<Long, Long>> captureReplyBatches() {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        given(reviewRepository.addReplyCounts(anyMap())).willAnswer(invocation -> {
+            synchronized (batches) {
+                batches.add(Map.copyOf(invocation.getArgument(0)));
+            }
+            return 1;
+        });
+        return batches;
+    }
+}
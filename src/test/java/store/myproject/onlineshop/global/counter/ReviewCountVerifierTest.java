@@ -0,0 +1,130 @@
+package store.myproject.onlineshop.global.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.domain.review.ReviewRepository;
+import store.myproject.onlineshop.dto.review.ReviewCountCheck;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewCountVerifierTest {
+
+    @InjectMocks
+    private ReviewCountVerifier reviewCountVerifier;
+
+    @Mock
+    private ReviewCountBuffer reviewCountBuffer;
+    @Mock
+    private RecipeMetaRepository recipeMetaRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewCountVerifier, "enabled", true);
+        ReflectionTestUtils.setField(reviewCountVerifier, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("버퍼를 먼저 반영한 뒤 키셋으로 끝까지 읽으며 두 번 연속 같은 차이가 남은 행만 다시 계산한다")
+    void verify_fixes_only_drifted_rows() {
+        // given
+        given(recipeMetaRepository.findReviewCountChecks(0L, 2))
+                .willReturn(List.of(check(1L, 100L, 3, 3), check(2L, 200L, 5, 4)));
+        given(recipeMetaRepository.findReviewCountChecks(2L, 2))
+                .willReturn(List.of(check(3L, 300L, 0, 1)));
+        given(recipeMetaRepository.findReviewCountChecks(3L, 2)).willReturn(List.of());
+        given(reviewRepository.findReplyCountChecks(0L, 2))
+                .willReturn(List.of(check(10L, 10L, 2, 2)));
+        given(reviewRepository.findReplyCountChecks(10L, 2)).willReturn(List.of());
+
+        // when
+        reviewCountVerifier.verify();
+        then(recipeMetaRepository).should(never()).fixReviewCounts(any());
+        reviewCountVerifier.verify();
+
+        // then
+        InOrder inOrder = inOrder(reviewCountBuffer, recipeMetaRepository);
+        inOrder.verify(reviewCountBuffer).drain();
+        inOrder.verify(recipeMetaRepository).findReviewCountChecks(0L, 2);
+        then(recipeMetaRepository).should().fixReviewCounts(List.of(200L));
+        then(recipeMetaRepository).should().fixReviewCounts(List.of(300L));
+        then(reviewRepository).should(never()).fixReplyCounts(any());
+    }
+
+    @Test
+    @DisplayName("검증 중 버퍼에 증감분이 쌓인 행은 다음 검증으로 미룬다")
+    void verify_skips_rows_with_pending_deltas() {
+        // given
+        given(recipeMetaRepository.findReviewCountChecks(0L, 2)).willReturn(List.of());
+        given(reviewRepository.findReplyCountChecks(0L, 2))
+                .willReturn(List.of(check(10L, 10L, 2, 3), check(11L, 11L, 0, 1)));
+        given(reviewRepository.findReplyCountChecks(11L, 2)).willReturn(List.of());
+        given(reviewCountBuffer.hasPendingReply(10L)).willReturn(true);
+
+        // when
+        reviewCountVerifier.verify();
+        reviewCountVerifier.verify();
+
+        // then
+        then(reviewRepository).should().fixReplyCounts(List.of(11L));
+    }
+
+    @Test
+    @DisplayName("다음 검증에서 사라지거나 달라진 차이는 다른 노드 버퍼의 증감분으로 보고 다시 계산하지 않는다")
+    void verify_skips_transient_drift() {
+        // given
+        given(recipeMetaRepository.findReviewCountChecks(0L, 2))
+                .willReturn(List.of(check(1L, 100L, 3, 4), check(2L, 200L, 5, 4)))
+                .willReturn(List.of(check(1L, 100L, 4, 4), check(2L, 200L, 5, 6)));
+        given(recipeMetaRepository.findReviewCountChecks(2L, 2)).willReturn(List.of());
+        given(reviewRepository.findReplyCountChecks(0L, 2)).willReturn(List.of());
+
+        // when
+        reviewCountVerifier.verify();
+        reviewCountVerifier.verify();
+
+        // then
+        then(recipeMetaRepository).should(never()).fixReviewCounts(any());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 아무것도 하지 않는다")
+    void verify_does_nothing_when_disabled() {
+        // given
+        ReflectionTestUtils.setField(reviewCountVerifier, "enabled", false);
+
+        // when
+        reviewCountVerifier.verify();
+
+        // then
+        then(reviewCountBuffer).shouldHaveNoInteractions();
+        then(recipeMetaRepository).should(never()).findReviewCountChecks(anyLong(), anyInt());
+    }
+
+    private static ReviewCountCheck check(Long id, Long targetId, long storedCount, long actualCount) {
+        ReviewCountCheck check = new ReviewCountCheck();
+        ReflectionTestUtils.setField(check, "id", id);
+        ReflectionTestUtils.setField(check, "targetId", targetId);
+        ReflectionTestUtils.setField(check, "storedCount", storedCount);
+        ReflectionTestUtils.setField(check, "actualCount", actualCount);
+        return check;
+    }
+}
@@ -0,0 +1,112 @@
+package store.myproject.onlineshop.global.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueViewFilterTest {
+
+    @InjectMocks
+    private UniqueViewFilter uniqueViewFilter;
+
+    @Mock
+    private RedisTemplate<String, Object> cacheRedisTemplate;
+
+    private final UUID recipeUuid = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(uniqueViewFilter, "window", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(uniqueViewFilter, "bucket", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(uniqueViewFilter, "localMaximumSize", 1_000L);
+        uniqueViewFilter.init();
+    }
+
+    @Test
+    @DisplayName("Redis 에서 처음 보는 조회자면 첫 조회로 판단한다")
+    void first_view_by_redis() {
+        // given
+        givenRedisReturns(1L);
+
+        // expect
+        assertThat(uniqueViewFilter.isFirstView(recipeUuid, "ip:1.1.1.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 이미 본 조회자면 재조회로 판단한다")
+    void repeated_view_on_other_node() {
+        // given
+        givenRedisReturns(0L);
+
+        // expect
+        assertThat(uniqueViewFilter.isFirstView(recipeUuid, "ip:1.1.1.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 노드의 재조회는 Redis 를 거치지 않고 걸러낸다")
+    void repeated_view_filtered_locally() {
+        // given
+        givenRedisReturns(1L);
+
+        // when
+        boolean first = uniqueViewFilter.isFirstView(recipeUuid, "c:user@test.com");
+        boolean second = uniqueViewFilter.isFirstView(recipeUuid, "c:user@test.com");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        then(cacheRedisTemplate).should(times(1))
+                .execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 노드 내 판단만으로 집계한다")
+    void redis_failure_falls_back_to_local() {
+        // given
+        given(cacheRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any()))
+                .willThrow(new RuntimeException("Redis 장애"));
+
+        // expect
+        assertThat(uniqueViewFilter.isFirstView(recipeUuid, "ip:1.1.1.1")).isTrue();
+        assertThat(uniqueViewFilter.isFirstView(recipeUuid, "ip:1.1.1.1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("window 를 덮는 시간 버킷 키를 현재 버킷부터 만든다")
+    void bucket_keys_cover_window() {
+        // when
+        List<String> keys = uniqueViewFilter.bucketKeys(recipeUuid);
+
+        // then
+        long current = System.currentTimeMillis() / Duration.ofMinutes(10).toMillis();
+        assertThat(keys).hasSize(3);
+        assertThat(keys.get(0)).isIn("recipe:viewers:" + recipeUuid + ":" + current,
+                "recipe:viewers:" + recipeUuid + ":" + (current - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedisReturns(Long added) {
+        given(cacheRedisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class), anyList(), any(), any()))
+                .willReturn(added);
+    }
+}
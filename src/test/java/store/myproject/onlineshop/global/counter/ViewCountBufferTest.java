@@ -0,0 +1,193 @@
+package store.myproject.onlineshop.global.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLog;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @InjectMocks
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private RecipeMetaRepository recipeMetaRepository;
+    @Mock
+    private AsyncFailureLogRepository asyncFailureLogRepository;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(viewCountBuffer, "maxPending", 1_000_000L);
+        ReflectionTestUtils.setField(viewCountBuffer, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("레시피별 증가분을 합산해 일괄 반영한다")
+    void flush_aggregates_deltas() {
+        // given
+        List<Map<Long, Long>> batches = captureBatches();
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(batches).containsExactly(Map.of(1L, 3L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영한 증가분은 다음 반영에 다시 포함되지 않는다")
+    void flush_resets_deltas() {
+        // given
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.flush();
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        then(recipeMetaRepository).should(times(1)).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("batch-size 를 넘는 레시피는 여러 UPDATE 로 나누어 반영한다")
+    void flush_splits_by_batch_size() {
+        // given
+        List<Map<Long, Long>> batches = captureBatches();
+        for (long id = 1; id <= 5; id++) {
+            viewCountBuffer.increment(id);
+        }
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        assertThat(batches).hasSize(3);
+        assertThat(batches).flatExtracting(Map::keySet).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 AsyncFailureLog 에 남긴다")
+    @SuppressWarnings("unchecked")
+    void flush_failure_saves_async_failure_log() {
+        // given
+        given(recipeMetaRepository.addViewCounts(anyMap())).willThrow(new RuntimeException("DB 장애"));
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(1L);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<AsyncFailureLog>> captor = ArgumentCaptor.forClass(List.class);
+        then(asyncFailureLogRepository).should().saveAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting("targetId", "amount")
+                .containsExactly(tuple(1L, BigDecimal.valueOf(2)));
+    }
+
+    @Test
+    @DisplayName("쌓인 조회가 max-pending 에 도달하면 즉시 반영을 한 번만 예약한다")
+    void increment_schedules_flush_when_full() {
+        // given
+        ReflectionTestUtils.setField(viewCountBuffer, "maxPending", 2L);
+
+        // when
+        viewCountBuffer.increment(1L);
+        viewCountBuffer.increment(2L);
+        viewCountBuffer.increment(3L);
+
+        // then
+        then(taskScheduler).should(times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 증가분을 모두 반영한다")
+    void drain_flushes_remaining_deltas() {
+        // given
+        List<Map<Long, Long>> batches = captureBatches();
+        viewCountBuffer.increment(1L);
+
+        // when
+        viewCountBuffer.drain();
+
+        // then
+        assertThat(batches).containsExactly(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("동시 증가분이 유실되지 않는다")
+    void concurrent_increments_are_not_lost() throws InterruptedException {
+        // given
+        List<Map<Long, Long>> batches = captureBatches();
+        int threadCount = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    viewCountBuffer.increment(1L);
+                    if (j % 1_000 == 0) {
+                        viewCountBuffer.flush();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        viewCountBuffer.flush();
+
+        // then
+        long total = batches.stream().mapToLong(batch -> batch.getOrDefault(1L, 0L)).sum();
+        assertThat(total).isEqualTo((long) threadCount * perThread);
+        then(asyncFailureLogRepository).should(never()).saveAll(any());
+    }
+
+    private List<Map<Long, Long>> captureBatches() {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        given(recipeMetaRepository.addViewCounts(anyMap())).willAnswer(invocation -> {
+            synchronized (batches) {
+                batches.add(Map.copyOf(invocation.getArgument(0)));
+            }
+            return 1;
+        });
+        return batches;
+    }
+}
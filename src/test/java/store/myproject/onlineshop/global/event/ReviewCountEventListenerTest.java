@@ -0,0 +1,41 @@
+package store.myproject.onlineshop.global.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.myproject.onlineshop.dto.recipe.RecipeRankingMetric;
+import store.myproject.onlineshop.global.counter.RecipeRankingStore;
+import store.myproject.onlineshop.global.counter.ReviewCountBuffer;
+
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewCountEventListenerTest {
+
+    @InjectMocks
+    private ReviewCountEventListener reviewCountEventListener;
+
+    @Mock
+    private ReviewCountBuffer reviewCountBuffer;
+    @Mock
+    private RecipeRankingStore recipeRankingStore;
+
+    @Test
+    @DisplayName("커밋된 대댓글 삭제는 리뷰 수 버퍼와 랭킹에 -1 로 반영한다")
+    void handle_applies_committed_delta() {
+        // given
+        UUID recipeUuid = UUID.randomUUID();
+
+        // when
+        reviewCountEventListener.handle(ReviewCountEvent.deleted(recipeUuid, 1L, 10L));
+
+        // then
+        then(reviewCountBuffer).should().add(1L, 10L, -1);
+        then(recipeRankingStore).should().recordCommitted(recipeUuid, RecipeRankingMetric.REVIEW, -1);
+    }
+}
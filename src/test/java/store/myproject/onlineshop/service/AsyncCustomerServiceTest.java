@@ -0,0 +1,118 @@
+package store.myproject.onlineshop.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import store.myproject.onlineshop.domain.customer.CustomerRepository;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLog;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.global.config.async.BulkheadExecutor;
+import store.myproject.onlineshop.global.config.async.BulkheadExecutor.OverflowPolicy;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 허가가 없는 CALLER_RUNS Executor 로 Executor 포화 상황을 만들어, 호출 스레드 실행이 주문 트랜잭션과 분리되는지 확인합니다.
+ */
+@SpringJUnitConfig(AsyncCustomerServiceTest.Config.class)
+class AsyncCustomerServiceTest {
+
+    @Autowired
+    private AsyncCustomerService asyncCustomerService;
+    @Autowired
+    private CustomerRepository customerRepository;
+    @Autowired
+    private AsyncFailureLogRepository asyncFailureLogRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Executor 가 가득 차 호출 스레드에서 실행되어도 호출자 트랜잭션에 참여하지 않고 새 트랜잭션에서 실행한다")
+    void caller_runs_outside_caller_transaction() {
+        // given
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        AtomicBoolean newTransaction = new AtomicBoolean();
+        willAnswer(invocation -> {
+            ranOn.set(Thread.currentThread());
+            newTransaction.set(TransactionAspectSupport.currentTransactionStatus().isNewTransaction());
+            throw new RuntimeException("DB 장애");
+        }).given(customerRepository).incrementMonthlyPurchaseAmount(anyLong(), any());
+
+        TransactionStatus orderTransaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        // when
+        try {
+            asyncCustomerService.addMonthlyPurchaseAmount(1L, BigDecimal.TEN);
+        } finally {
+            transactionManager.commit(orderTransaction);
+        }
+
+        // then
+        assertThat(ranOn.get()).isSameAs(caller);
+        assertThat(newTransaction).isTrue();
+        assertThat(orderTransaction.isRollbackOnly()).isFalse();
+        then(asyncFailureLogRepository).should().save(any(AsyncFailureLog.class));
+    }
+
+    @Configuration
+    @EnableAsync
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean(name = "monthlyPurchaseExecutor")
+        Executor monthlyPurchaseExecutor() {
+            return new BulkheadExecutor("Monthly-Purchase-Executor-", Runnable::run, 0, OverflowPolicy.CALLER_RUNS, Duration.ZERO);
+        }
+
+        @Bean
+        CustomerRepository customerRepository() {
+            return mock(CustomerRepository.class);
+        }
+
+        @Bean
+        AsyncFailureLogRepository asyncFailureLogRepository() {
+            return mock(AsyncFailureLogRepository.class);
+        }
+
+        @Bean
+        AsyncCustomerService asyncCustomerService(CustomerRepository customerRepository,
+                                                  AsyncFailureLogRepository asyncFailureLogRepository) {
+            return new AsyncCustomerService(customerRepository, asyncFailureLogRepository);
+        }
+    }
+}
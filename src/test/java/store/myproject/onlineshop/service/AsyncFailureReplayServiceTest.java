@@ -0,0 +1,110 @@
+package store.myproject.onlineshop.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.myproject.onlineshop.domain.customer.CustomerRepository;
+import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.domain.faillog.JobType;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
+import store.myproject.onlineshop.dto.faillog.FailedJob;
+import store.myproject.onlineshop.dto.recipemeta.RecipeCounterDelta;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static store.myproject.onlineshop.domain.faillog.JobType.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncFailureReplayServiceTest {
+
+    @InjectMocks
+    private AsyncFailureReplayService asyncFailureReplayService;
+
+    @Mock
+    private AsyncFailureLogRepository asyncFailureLogRepository;
+    @Mock
+    private RecipeMetaRepository recipeMetaRepository;
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Test
+    @DisplayName("처리할 실패 행이 없으면 아무것도 반영하지 않는다")
+    void replay_nothing() {
+        // given
+        given(asyncFailureLogRepository.claimFailedJobs(100)).willReturn(List.of());
+
+        // when
+        Map<JobType, Integer> result = asyncFailureReplayService.replay(100);
+
+        // then
+        assertThat(result).isEmpty();
+        then(recipeMetaRepository).should(never()).addCounts(any());
+        then(asyncFailureLogRepository).should(never()).markResolved(any());
+    }
+
+    @Test
+    @DisplayName("대상별 순 증감분을 한 번씩 반영하고 처리한 행을 RESOLVED 로 바꾼다")
+    @SuppressWarnings("unchecked")
+    void replay_applies_net_deltas() {
+        // given
+        given(asyncFailureLogRepository.claimFailedJobs(100)).willReturn(List.of(
+                new FailedJob(1L, RECIPE_VIEW_COUNT_INCREMENT, 7L, BigDecimal.valueOf(5)),
+                new FailedJob(2L, LIKE_COUNT_INCREMENT, 7L, null),
+                new FailedJob(3L, LIKE_COUNT_INCREMENT, 7L, null),
+                new FailedJob(4L, LIKE_COUNT_DECREMENT, 7L, null),
+                new FailedJob(5L, REVIEW_COUNT_DECREMENT, 8L, null),
+                new FailedJob(6L, CUSTOMER_ORDER_AMOUNT_INCREMENT, 3L, BigDecimal.valueOf(10000)),
+                new FailedJob(7L, CUSTOMER_ORDER_AMOUNT_DECREMENT, 3L, BigDecimal.valueOf(2500))));
+
+        // when
+        Map<JobType, Integer> result = asyncFailureReplayService.replay(100);
+
+        // then
+        ArgumentCaptor<List<RecipeCounterDelta>> deltas = ArgumentCaptor.forClass(List.class);
+        then(recipeMetaRepository).should().addCounts(deltas.capture());
+        assertThat(deltas.getValue())
+                .extracting("recipeMetaId", "viewDelta", "likeDelta", "reviewDelta")
+                .containsExactlyInAnyOrder(tuple(7L, 5L, 1L, 0L), tuple(8L, 0L, 0L, -1L));
+
+        ArgumentCaptor<Map<Long, BigDecimal>> amounts = ArgumentCaptor.forClass(Map.class);
+        then(customerRepository).should().addMonthlyPurchaseAmounts(amounts.capture());
+        assertThat(amounts.getValue()).containsOnlyKeys(3L);
+        assertThat(amounts.getValue().get(3L)).isEqualByComparingTo("7500");
+
+        then(asyncFailureLogRepository).should().markResolved(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+        assertThat(result).containsEntry(LIKE_COUNT_INCREMENT, 2).containsEntry(CUSTOMER_ORDER_AMOUNT_DECREMENT, 1);
+    }
+
+    @Test
+    @DisplayName("금액 없는 구매 금액 행은 반영하지 않고 RESOLVED 로 바꾸지 않는다")
+    @SuppressWarnings("unchecked")
+    void replay_keeps_purchase_without_amount_failed() {
+        // given
+        given(asyncFailureLogRepository.claimFailedJobs(100)).willReturn(List.of(
+                new FailedJob(1L, CUSTOMER_ORDER_AMOUNT_INCREMENT, 3L, null),
+                new FailedJob(2L, CUSTOMER_ORDER_AMOUNT_INCREMENT, 4L, BigDecimal.valueOf(10000))));
+
+        // when
+        Map<JobType, Integer> result = asyncFailureReplayService.replay(100);
+
+        // then
+        ArgumentCaptor<Map<Long, BigDecimal>> amounts = ArgumentCaptor.forClass(Map.class);
+        then(customerRepository).should().addMonthlyPurchaseAmounts(amounts.capture());
+        assertThat(amounts.getValue()).containsOnlyKeys(4L);
+
+        then(asyncFailureLogRepository).should().markResolved(List.of(2L));
+        assertThat(result).containsExactly(Map.entry(CUSTOMER_ORDER_AMOUNT_INCREMENT, 1));
+    }
+}
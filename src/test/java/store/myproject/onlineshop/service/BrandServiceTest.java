@@ -24,6 +24,7 @@ import store.myproject.onlineshop.exception.AppException;
 import store.myproject.onlineshop.fixture.BrandFixture;
 import store.myproject.onlineshop.fixture.CommonFixture;
 import store.myproject.onlineshop.fixture.ImageFileFixture;
+import store.myproject.onlineshop.global.cache.ExistenceFilter;
 import store.myproject.onlineshop.global.utils.MessageUtil;
 
 import java.util.List;
@@ -52,6 +53,9 @@ class BrandServiceTest {
     @Mock
     private MessageUtil messageUtil;
 
+    @Mock
+    private ExistenceFilter existenceFilter;
+
     Brand brand = BrandFixture.createBrand();
     ImageFile imageFile = ImageFileFixture.withBrand(brand);
     MockMultipartFile mockFile = CommonFixture.mockMultipartFile();
@@ -72,6 +76,20 @@ class BrandServiceTest {
         assertThat(response.getBrandName()).isEqualTo(brand.getBrandName());
     }
 
+    @Test
+    @DisplayName("브랜드 단건 조회 실패 - 존재 필터에 없는 UUID 는 DB 조회 없이 거절")
+    void find_brand_info_rejected_by_existence_filter() {
+        // given
+        UUID brandUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        given(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.BRAND, brandUuid)).willReturn(true);
+
+        // expect
+        assertThatThrownBy(() -> brandService.findBrandInfoById(brandUuid))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.BRAND_NOT_FOUND.getMessage());
+        then(brandRepository).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("브랜드 검색 성공")
     void search_brand_success() {
@@ -115,6 +133,7 @@ class BrandServiceTest {
         assertThat(response.getMessage()).isEqualTo("브랜드 등록 완료");
         then(brandRepository).should().save(any());
         then(imageFileRepository).should().save(any());
+        then(existenceFilter).should().add(ExistenceFilter.Type.BRAND, response.getUuid());
     }
 
     @Test
@@ -0,0 +1,145 @@
+package store.myproject.onlineshop.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.myproject.onlineshop.domain.item.ItemRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeRepository;
+import store.myproject.onlineshop.dto.cache.CacheWarmUpResponse;
+import store.myproject.onlineshop.exception.AppException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static store.myproject.onlineshop.exception.ErrorCode.CACHE_WARM_UP_IN_PROGRESS;
+import static store.myproject.onlineshop.exception.ErrorCode.RECIPE_NOT_FOUND;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmUpServiceTest {
+
+    @InjectMocks
+    private CacheWarmUpService cacheWarmUpService;
+
+    @Mock
+    private RecipeRepository recipeRepository;
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private RecipeService recipeService;
+    @Mock
+    private ItemService itemService;
+
+    private final UUID recipeUuid1 = UUID.randomUUID();
+    private final UUID recipeUuid2 = UUID.randomUUID();
+    private final UUID itemUuid = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cacheWarmUpService, "recipeLimit", 10);
+        ReflectionTestUtils.setField(cacheWarmUpService, "itemLimit", 10);
+        ReflectionTestUtils.setField(cacheWarmUpService, "parallelism", 4);
+        ReflectionTestUtils.setField(cacheWarmUpService, "timeout", Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("인기 레시피와 상품 상세를 모두 캐시에 적재")
+    void warm_up_success() {
+        // given
+        ReflectionTestUtils.setField(cacheWarmUpService, "passthroughEnabled", true);
+        given(recipeRepository.findPopularRecipeUuids(10)).willReturn(List.of(recipeUuid1, recipeUuid2));
+        given(itemRepository.findPopularItemUuids(10)).willReturn(List.of(itemUuid));
+
+        // when
+        CacheWarmUpResponse response = cacheWarmUpService.warmUp();
+
+        // then
+        assertThat(response.getRecipeCount()).isEqualTo(2);
+        assertThat(response.getItemCount()).isEqualTo(1);
+        assertThat(response.getLoadedCount()).isEqualTo(3);
+        assertThat(response.getFailedCount()).isZero();
+        assertThat(response.isTimedOut()).isFalse();
+        then(recipeService).should().getRecipeDetail(recipeUuid1);
+        then(recipeService).should().getRecipeDetailBody(recipeUuid2);
+        then(itemService).should().getItem(itemUuid);
+        then(itemService).should().getItemBody(itemUuid);
+    }
+
+    @Test
+    @DisplayName("일부 적재 실패는 실패 건수로 집계하고 나머지는 계속 적재")
+    void warm_up_partial_failure() {
+        // given
+        given(recipeRepository.findPopularRecipeUuids(10)).willReturn(List.of(recipeUuid1, recipeUuid2));
+        given(itemRepository.findPopularItemUuids(10)).willReturn(List.of(itemUuid));
+        given(recipeService.getRecipeDetail(recipeUuid1)).willThrow(new AppException(RECIPE_NOT_FOUND));
+
+        // when
+        CacheWarmUpResponse response = cacheWarmUpService.warmUp();
+
+        // then
+        assertThat(response.getLoadedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        then(recipeService).should().getRecipeDetail(recipeUuid2);
+        then(itemService).should().getItem(itemUuid);
+        then(recipeService).should(never()).getRecipeDetailBody(any());
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘긴 작업은 취소하고 timedOut 으로 응답")
+    void warm_up_deadline_exceeded() {
+        // given
+        ReflectionTestUtils.setField(cacheWarmUpService, "timeout", Duration.ofMillis(200));
+        given(recipeRepository.findPopularRecipeUuids(10)).willReturn(List.of(recipeUuid1));
+        given(itemRepository.findPopularItemUuids(10)).willReturn(List.of());
+        given(recipeService.getRecipeDetail(recipeUuid1)).willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+
+        // when
+        long start = System.currentTimeMillis();
+        CacheWarmUpResponse response = cacheWarmUpService.warmUp();
+
+        // then
+        assertThat(System.currentTimeMillis() - start).isLessThan(3_000);
+        assertThat(response.isTimedOut()).isTrue();
+        assertThat(response.getLoadedCount()).isZero();
+        assertThat(response.getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("워밍업이 진행 중이면 중복 실행을 거부")
+    void warm_up_already_running() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(recipeRepository.findPopularRecipeUuids(10)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        given(itemRepository.findPopularItemUuids(10)).willReturn(List.of());
+        CompletableFuture<CacheWarmUpResponse> first = CompletableFuture.supplyAsync(cacheWarmUpService::warmUp);
+        started.await(5, TimeUnit.SECONDS);
+
+        // expect
+        assertThatThrownBy(() -> cacheWarmUpService.warmUp())
+                .isInstanceOf(AppException.class)
+                .hasMessage(CACHE_WARM_UP_IN_PROGRESS.getMessage());
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getRecipeCount()).isZero();
+    }
+}
@@ -14,6 +14,7 @@ import store.myproject.onlineshop.domain.customer.*;
 import store.myproject.onlineshop.domain.membership.MemberShip;
 import store.myproject.onlineshop.dto.cusotmer.*;
 import store.myproject.onlineshop.domain.membership.MemberShipRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
 import store.myproject.onlineshop.exception.AppException;
 import store.myproject.onlineshop.fixture.CustomerFixture;
 import store.myproject.onlineshop.fixture.MemberShipFixture;
@@ -53,6 +54,9 @@ class CustomerServiceTest {
     @Mock
     private MessageUtil messageUtil;
 
+    @Mock
+    private RecipeListViewRepository recipeListViewRepository;
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -5,19 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.web.multipart.MultipartFile;
 import store.myproject.onlineshop.dto.common.MessageCode;
 import store.myproject.onlineshop.dto.common.MessageResponse;
 import store.myproject.onlineshop.domain.brand.Brand;
 import store.myproject.onlineshop.dto.item.*;
+import store.myproject.onlineshop.global.cache.ExistenceFilter;
+import store.myproject.onlineshop.global.cache.NearCache;
+import store.myproject.onlineshop.global.cache.ResponseBodyCache;
 import store.myproject.onlineshop.global.utils.RedisKeyHelper;
 import store.myproject.onlineshop.domain.imagefile.ImageFile;
 import store.myproject.onlineshop.domain.brand.BrandRepository;
@@ -34,7 +33,7 @@ import store.myproject.onlineshop.global.utils.MessageUtil;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -61,13 +60,11 @@ class ItemServiceTest {
     @Mock
     private MessageUtil messageUtil;
     @Mock
-    private RedisTemplate<String, Object> cacheRedisTemplate;
+    private NearCache nearCache;
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private ResponseBodyCache responseBodyCache;
     @Mock
-    private RedissonClient redisson;
-    @Mock
-    private RLock rLock;
+    private ExistenceFilter existenceFilter;
 
     Brand brand = BrandFixture.createBrand();
     Item item = ItemFixture.createItem(brand);
@@ -80,9 +77,7 @@ class ItemServiceTest {
         ItemDto cachedItemDto = ItemFixture.createItemDto();
         UUID itemUuid = cachedItemDto.getUuid();
         String itemCacheKey = RedisKeyHelper.getItemCacheKey(itemUuid);
-
-        given(cacheRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(cacheRedisTemplate.opsForValue().get(itemCacheKey)).willReturn(cachedItemDto);
+        given(nearCache.<Object>getOrLoadOptional(eq(itemCacheKey), any(), any())).willReturn(Optional.of(cachedItemDto));
 
         // when
         ItemDto result = itemService.getItem(itemUuid);
@@ -94,18 +89,12 @@ class ItemServiceTest {
 
     @Test
     @DisplayName("아이템 ID로 조회 성공 - 캐시 미스")
-    void getItemById_success_by_cache_miss() throws InterruptedException {
+    void getItemById_success_by_cache_miss() {
         // given
         UUID itemUuid = item.getUuid();
-        ItemDto dto = item.toItemDto();
         String itemCacheKey = RedisKeyHelper.getItemCacheKey(itemUuid);
-        String itemLockKey = RedisKeyHelper.getItemLockKey(itemUuid);
-
-        given(cacheRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(cacheRedisTemplate.opsForValue().get(itemCacheKey)).willReturn(null);
-        given(redisson.getLock(itemLockKey)).willReturn(rLock);
-        given(rLock.tryLock(300,2000, TimeUnit.MILLISECONDS)).willReturn(true);
-        given(cacheRedisTemplate.opsForValue().get(itemCacheKey)).willReturn(null);
+        given(nearCache.<Object>getOrLoadOptional(eq(itemCacheKey), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
         given(itemRepository.findByUuid(itemUuid)).willReturn(Optional.of(item));
 
         // when
@@ -114,23 +103,17 @@ class ItemServiceTest {
         // then
         assertThat(result.getItemName()).isEqualTo(item.getItemName());
         assertThat(result.getPrice()).isEqualTo(item.getItemPrice());
-        then(cacheRedisTemplate.opsForValue()).should().set(eq(itemCacheKey), eq(dto), any());
-        then(rLock).should().unlock();
+        then(itemRepository).should().findByUuid(itemUuid);
     }
 
     @Test
     @DisplayName("아이템 ID로 조회 실패 - 존재하지 않음")
-    void getItemById_notFound() throws InterruptedException {
+    void getItemById_notFound() {
         // given
         UUID invalidUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         String itemCacheKey = RedisKeyHelper.getItemCacheKey(invalidUuid);
-        String itemLockKey = RedisKeyHelper.getItemLockKey(invalidUuid);
-
-        given(cacheRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(cacheRedisTemplate.opsForValue().get(itemCacheKey)).willReturn(null);
-        given(redisson.getLock(itemLockKey)).willReturn(rLock);
-        given(rLock.tryLock(300,2000, TimeUnit.MILLISECONDS)).willReturn(true);
-        given(cacheRedisTemplate.opsForValue().get(itemCacheKey)).willReturn(null);
+        given(nearCache.<Object>getOrLoadOptional(eq(itemCacheKey), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
         given(itemRepository.findByUuid(invalidUuid)).willReturn(Optional.empty());
 
         // expect
@@ -139,6 +122,46 @@ class ItemServiceTest {
                 .hasMessage(ITEM_NOT_FOUND.getMessage());
     }
 
+    @Test
+    @DisplayName("아이템 ID로 조회 실패 - 존재 필터에 없는 UUID 는 캐시/DB 조회 없이 거절")
+    void getItemById_rejected_by_existence_filter() {
+        // given
+        UUID invalidUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        given(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.ITEM, invalidUuid)).willReturn(true);
+
+        // expect
+        assertThatThrownBy(() -> itemService.getItemBody(invalidUuid))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ITEM_NOT_FOUND.getMessage());
+        then(responseBodyCache).shouldHaveNoInteractions();
+        then(nearCache).shouldHaveNoInteractions();
+        then(itemRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("아이템 응답 본문 조회 - 미스 시 ItemDto 로 본문 생성")
+    void getItemBody_success_by_cache_miss() {
+        // given
+        UUID itemUuid = item.getUuid();
+        String itemBodyKey = RedisKeyHelper.getItemBodyKey(itemUuid);
+        String itemCacheKey = RedisKeyHelper.getItemCacheKey(itemUuid);
+        given(nearCache.<Object>getOrLoadOptional(eq(itemCacheKey), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        given(responseBodyCache.getOrLoad(eq(itemBodyKey), any(), any()))
+                .willAnswer(invocation -> {
+                    ItemDto loaded = (ItemDto) invocation.<Supplier<?>>getArgument(2).get();
+                    return loaded.getItemName().getBytes();
+                });
+        given(itemRepository.findByUuid(itemUuid)).willReturn(Optional.of(item));
+
+        // when
+        byte[] result = itemService.getItemBody(itemUuid);
+
+        // then
+        assertThat(new String(result)).isEqualTo(item.getItemName());
+        then(itemRepository).should().findByUuid(itemUuid);
+    }
+
     @Test
     @DisplayName("조건 검색으로 아이템 리스트 조회 성공")
     void searchItem_success() {
@@ -189,6 +212,8 @@ class ItemServiceTest {
         // then
         then(itemRepository).should().save(any(Item.class));
         then(imageFileRepository).should().save(any(ImageFile.class));
+        then(nearCache).should().evict(RedisKeyHelper.getItemCacheKey(item.getUuid()));
+        then(nearCache).should().evict(RedisKeyHelper.getItemBodyKey(item.getUuid()));
         assertThat(result.getMessage()).isEqualTo("품목 등록 성공");
     }
 
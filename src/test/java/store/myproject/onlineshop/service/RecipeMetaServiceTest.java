@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import store.myproject.onlineshop.domain.faillog.AsyncFailureLogRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
 import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
 
 import static org.mockito.BDDMockito.*;
@@ -23,39 +24,12 @@ class RecipeMetaServiceTest {
     @Mock
     private AsyncFailureLogRepository asyncFailureLogRepository;
 
+    @Mock
+    private RecipeListViewRepository recipeListViewRepository;
+
     @InjectMocks
     private RecipeMetaService recipeMetaService;
 
-    @Test
-    @DisplayName("조회수 증가 성공")
-    void async_increase_view_count_success() {
-        // given
-        Long recipeMetaId = 1L;
-
-        // when
-        recipeMetaService.asyncIncreaseViewCnt(recipeMetaId);
-
-        // then
-        then(recipeMetaRepository).should(times(SUCCESS_CALL_COUNT)).incrementViewCnt(recipeMetaId);
-    }
-
-
-//    @Test
-//    @DisplayName("조회수 증가 실패 - Exception 발생해도 정상 종료")
-//    void async_increase_view_count_fail() {
-//        // given
-//        Long recipeMetaId = 1L;
-//        willThrow(new RuntimeException("비동기 실행 오류"))
-//                .given(recipeMetaRepository).incrementViewCnt(recipeMetaId);
-//
-//        // when
-//        recipeMetaService.asyncIncreaseViewCnt(recipeMetaId);
-//
-//        // then
-//        then(recipeMetaRepository).should(times(FAILURE_RETRY_CALL_COUNT)).incrementViewCnt(recipeMetaId); // 재시도 횟수 포함 4번 호출
-//        then(asyncFailureLogRepository).should(times(1)).save(any(AsyncFailureLog.class)); // 최종 실패 로그 저장
-//    }
-
     @Test
     @DisplayName("좋아요 수 증가 성공")
     void async_increase_like_count_success() {
@@ -113,65 +87,6 @@ class RecipeMetaServiceTest {
 //        // then
 //        then(recipeMetaRepository).should(times(FAILURE_RETRY_CALL_COUNT)).decrementLikeCnt(recipeMetaId);
 //        then(asyncFailureLogRepository).should(times(1)).save(any(AsyncFailureLog.class));
-//    }
-
-    @Test
-    @DisplayName("리뷰 수 증가 성공")
-    void async_increase_review_count_success() {
-        // given
-        Long recipeMetaId = 1L;
-
-        // when
-        recipeMetaService.asyncIncreaseReviewCnt(recipeMetaId);
-
-        // then
-        then(recipeMetaRepository).should(times(SUCCESS_CALL_COUNT)).incrementReviewCnt(recipeMetaId);
-    }
-
-//    @Test
-//    @DisplayName("리뷰 수 증가 실패 - Exception 발생해도 정상 종료")
-//    void async_increase_review_count_fail() {
-//        // given
-//        Long recipeMetaId = 1L;
-//        willThrow(new RuntimeException("비동기 실행 오류"))
-//                .given(recipeMetaRepository).incrementReviewCnt(recipeMetaId);
-//
-//        // when
-//        recipeMetaService.asyncIncreaseReviewCnt(recipeMetaId);
-//
-//        // then
-//        then(recipeMetaRepository).should(times(FAILURE_RETRY_CALL_COUNT)).incrementReviewCnt(recipeMetaId);
-//        then(asyncFailureLogRepository).should(times(1)).save(any(AsyncFailureLog.class));
-//    }
-
-    @Test
-    @DisplayName("리뷰 수 감소 성공")
-    void async_decrease_review_count_success() {
-        // given
-        Long recipeMetaId = 1L;
-
-        // when
-        recipeMetaService.asyncDecreaseReviewCnt(recipeMetaId);
-
-        // then
-        then(recipeMetaRepository).should(times(SUCCESS_CALL_COUNT)).decrementReviewCnt(recipeMetaId);
-    }
-
-
-//    @Test
-//    @DisplayName("리뷰 수 감소 실패 - Exception 발생해도 정상 종료")
-//    void async_decrease_review_count_fail() {
-//        // given
-//        Long recipeMetaId = 1L;
-//        willThrow(new RuntimeException("비동기 실행 오류"))
-//                .given(recipeMetaRepository).decrementReviewCnt(recipeMetaId);
-//
-//        // when
-//        recipeMetaService.asyncDecreaseReviewCnt(recipeMetaId);
-//
-//        // then
-//        then(recipeMetaRepository).should(times(FAILURE_RETRY_CALL_COUNT)).decrementReviewCnt(recipeMetaId);
-//        then(asyncFailureLogRepository).should(times(1)).save(any(AsyncFailureLog.class));
 //    }
 
 }
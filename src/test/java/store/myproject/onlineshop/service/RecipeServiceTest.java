@@ -6,12 +6,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import store.myproject.onlineshop.dto.common.MessageCode;
 import store.myproject.onlineshop.dto.common.MessageResponse;
 import store.myproject.onlineshop.domain.brand.Brand;
@@ -23,31 +21,50 @@ import store.myproject.onlineshop.domain.recipe.RecipeItem;
 import store.myproject.onlineshop.domain.recipestep.RecipeStep;
 import store.myproject.onlineshop.domain.review.Review;
 import store.myproject.onlineshop.dto.recipe.*;
+import store.myproject.onlineshop.dto.recipemeta.RecipeMetaDto;
+import store.myproject.onlineshop.dto.review.ChildReviewCursorResponse;
 import store.myproject.onlineshop.dto.review.ChildReviewResponse;
+import store.myproject.onlineshop.dto.review.ReviewCursor;
+import store.myproject.onlineshop.dto.review.ReviewCursorResponse;
+import store.myproject.onlineshop.dto.review.ReviewReplyRow;
 import store.myproject.onlineshop.dto.review.ReviewResponse;
+import store.myproject.onlineshop.dto.review.ReviewRow;
 import store.myproject.onlineshop.dto.review.ReviewUpdateRequest;
 import store.myproject.onlineshop.dto.review.ReviewWriteRequest;
 import store.myproject.onlineshop.exception.AppException;
 import store.myproject.onlineshop.exception.ErrorCode;
 import store.myproject.onlineshop.fixture.*;
 import store.myproject.onlineshop.global.utils.MessageUtil;
+import store.myproject.onlineshop.global.cache.ExistenceFilter;
+import store.myproject.onlineshop.global.cache.ItemRecipeIndex;
+import store.myproject.onlineshop.global.cache.NearCache;
+import store.myproject.onlineshop.global.cache.RecipeListCache;
+import store.myproject.onlineshop.global.cache.ResponseBodyCache;
+import store.myproject.onlineshop.global.counter.LikeStore;
+import store.myproject.onlineshop.global.counter.RecipeCounterStore;
+import store.myproject.onlineshop.global.counter.RecipeRankingStore;
+import store.myproject.onlineshop.global.counter.UniqueViewFilter;
+import store.myproject.onlineshop.global.counter.ViewCountBuffer;
+import store.myproject.onlineshop.global.event.ReviewCountEvent;
 import store.myproject.onlineshop.global.utils.RedisKeyHelper;
 import store.myproject.onlineshop.domain.customer.CustomerRepository;
 import store.myproject.onlineshop.domain.item.ItemRepository;
 import store.myproject.onlineshop.domain.like.LikeRepository;
 import store.myproject.onlineshop.domain.recipe.RecipeRepository;
-import store.myproject.onlineshop.domain.recipe.RecipeItemRepository;
-import store.myproject.onlineshop.domain.recipestep.RecipeStepRepository;
+import store.myproject.onlineshop.domain.recipe.RecipeListViewRepository;
+import store.myproject.onlineshop.domain.recipemeta.RecipeMetaRepository;
 import store.myproject.onlineshop.domain.review.ReviewRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -67,6 +84,8 @@ class RecipeServiceTest {
     @Mock
     private RecipeRepository recipeRepository;
     @Mock
+    private RecipeMetaRepository recipeMetaRepository;
+    @Mock
     private ReviewRepository reviewRepository;
     @Mock
     private ItemRepository itemRepository;
@@ -77,17 +96,31 @@ class RecipeServiceTest {
     @Mock
     private RecipeMetaService recipeMetaService;
     @Mock
-    private RecipeStepRepository recipeStepRepository;
+    private NearCache nearCache;
+    @Mock
+    private ResponseBodyCache responseBodyCache;
+    @Mock
+    private ExistenceFilter existenceFilter;
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+    @Mock
+    private RecipeCounterStore recipeCounterStore;
+    @Mock
+    private UniqueViewFilter uniqueViewFilter;
+    @Mock
+    private LikeStore likeStore;
     @Mock
-    private RecipeItemRepository recipeItemRepository;
+    private RecipeRankingStore recipeRankingStore;
     @Mock
-    private RedisTemplate<String, Object> cacheRedisTemplate;
+    private RecipeListViewRepository recipeListViewRepository;
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private RecipeListCache recipeListCache;
     @Mock
-    private RedissonClient redisson;
+    private ItemRecipeIndex itemRecipeIndex;
     @Mock
-    private RLock rLock;
+    private ApplicationEventPublisher eventPublisher;
+
+    private static final String VIEWER_ID = "ip:127.0.0.1";
 
     Customer customer = CustomerFixture.createCustomer();
     Brand brand = BrandFixture.createBrandEntity();
@@ -102,45 +135,80 @@ class RecipeServiceTest {
         UUID recipeUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         RecipeDto dto = RecipeFixture.createRecipeDto(recipeUuid);
         String recipeCacheKey = RedisKeyHelper.getRecipeKey(recipeUuid);
-        given(cacheRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(cacheRedisTemplate.opsForValue().get(recipeCacheKey)).willReturn(dto);
+        given(nearCache.<Object>getOrLoadOptional(eq(recipeCacheKey), any(), any())).willReturn(Optional.of(dto));
 
         // when
         RecipeDto result = recipeService.getRecipeDetail(recipeUuid);
 
         // then
         assertThat(result).isEqualTo(dto);
-        then(recipeRepository).should(never()).findRecipeDtoByUuid(any());
-        then(recipeStepRepository).shouldHaveNoInteractions();
-        then(recipeItemRepository).shouldHaveNoInteractions();
-        then(redisson).should(never()).getLock(anyString());
+        then(recipeRepository).should(never()).findRecipeDetailByUuid(any());
     }
 
     @Test
     @DisplayName("레시피 상세 조회 성공 - 캐시 미스")
-    void get_recipe_detail_success_by_cache_miss() throws InterruptedException {
+    void get_recipe_detail_success_by_cache_miss() {
         // given
-        Long recipeId = 1L;
         UUID recipeUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
         RecipeDto dto = RecipeFixture.createRecipeDto(recipeUuid);
         String recipeCacheKey = RedisKeyHelper.getRecipeKey(recipeUuid);
-        String recipeLockKey = RedisKeyHelper.getRecipeLockKey(recipeUuid);
-        given(cacheRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(cacheRedisTemplate.opsForValue().get(recipeCacheKey)).willReturn(null);
-        given(redisson.getLock(recipeLockKey)).willReturn(rLock);
-        given(rLock.tryLock(300,2000, TimeUnit.MILLISECONDS)).willReturn(true);
-        given(cacheRedisTemplate.opsForValue().get(recipeCacheKey)).willReturn(null);
-        given(recipeRepository.findRecipeDtoByUuid(recipeUuid)).willReturn(Optional.of(dto));
-        given(recipeStepRepository.findStepsByRecipeUuid(recipeUuid)).willReturn(List.of());
-        given(recipeItemRepository.findItemsByRecipeUuid(recipeUuid)).willReturn(List.of());
+        given(nearCache.<Object>getOrLoadOptional(eq(recipeCacheKey), any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        given(recipeRepository.findRecipeDetailByUuid(recipeUuid)).willReturn(Optional.of(dto));
 
         // when
         RecipeDto result = recipeService.getRecipeDetail(recipeUuid);
 
         // then
         assertThat(result).isEqualTo(dto);
-        then(cacheRedisTemplate.opsForValue()).should().set(eq(recipeCacheKey), eq(dto), any());
-        then(rLock).should().unlock();
+        then(recipeRepository).should(times(1)).findRecipeDetailByUuid(recipeUuid);
+    }
+
+    @Test
+    @DisplayName("레시피 상세 조회 실패 - 음성 캐시 히트")
+    void get_recipe_detail_fail_by_negative_cache() {
+        // given
+        UUID recipeUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        String recipeCacheKey = RedisKeyHelper.getRecipeKey(recipeUuid);
+        given(nearCache.<Object>getOrLoadOptional(eq(recipeCacheKey), any(), any())).willReturn(Optional.empty());
+
+        // expect
+        assertThatThrownBy(() -> recipeService.getRecipeDetail(recipeUuid))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.RECIPE_NOT_FOUND.getMessage());
+        then(recipeRepository).should(never()).findRecipeDetailByUuid(any());
+    }
+
+    @Test
+    @DisplayName("레시피 상세 조회 실패 - 존재 필터에 없는 UUID 는 캐시/DB 조회 없이 거절")
+    void get_recipe_detail_fail_by_existence_filter() {
+        // given
+        UUID recipeUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        given(existenceFilter.isDefinitelyAbsent(ExistenceFilter.Type.RECIPE, recipeUuid)).willReturn(true);
+
+        // expect
+        assertThatThrownBy(() -> recipeService.getRecipeDetail(recipeUuid))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.RECIPE_NOT_FOUND.getMessage());
+        then(nearCache).shouldHaveNoInteractions();
+        then(recipeRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("레시피 응답 본문 조회 - 캐시된 JSON 바이트를 그대로 반환")
+    void get_recipe_detail_body_success() {
+        // given
+        UUID recipeUuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        byte[] body = "{\"resultCode\":\"SUCCESS\"}".getBytes();
+        String recipeBodyKey = RedisKeyHelper.getRecipeBodyKey(recipeUuid);
+        given(responseBodyCache.getOrLoad(eq(recipeBodyKey), any(), any())).willReturn(body);
+
+        // when
+        byte[] result = recipeService.getRecipeDetailBody(recipeUuid);
+
+        // then
+        assertThat(result).isSameAs(body);
+        then(recipeRepository).should(never()).findRecipeDetailByUuid(any());
     }
 
     @Test
@@ -157,6 +225,8 @@ class RecipeServiceTest {
 
         // then
         then(recipeRepository).should().save(any());
+        then(nearCache).should().evict(RedisKeyHelper.getRecipeKey(response.getUuid()));
+        then(nearCache).should().evict(RedisKeyHelper.getRecipeBodyKey(response.getUuid()));
         assertThat(response.getMessage()).isEqualTo("레시피 등록 성공");
     }
 
@@ -175,33 +245,125 @@ class RecipeServiceTest {
         given(recipeRepository.findRecipeList(cond)).willReturn(recipes);
 
         // when
-        RecipeCursorResponse result = recipeService.getRecipes(cond);
+        RecipeCursorResponse result = recipeService.getRecipes(cond, null);
 
         // then
         assertThat(result.getContent()).hasSize(2);
     }
 
     @Test
-    @DisplayName("특정 아이템을 사용하는 레시피 조회 성공")
-    void get_recipes_by_item_success() {
+    @DisplayName("로그인 사용자의 좋아요 여부를 Redis 와 한 번의 DB 조회로 채운다")
+    void get_recipes_marks_liked_by_me() {
+        // given
+        SimpleRecipeDto cached = RecipeFixture.createSimpleRecipeDto();
+        SimpleRecipeDto likedInDb = RecipeFixture.createSimpleRecipeDto();
+        SimpleRecipeDto notLiked = RecipeFixture.createSimpleRecipeDto();
+        RecipeListCond cond = new RecipeListCond();
+        List<UUID> uncached = List.of(likedInDb.getRecipeUuid(), notLiked.getRecipeUuid());
+
+        given(recipeRepository.findRecipeList(cond)).willReturn(List.of(cached, likedInDb, notLiked));
+        given(customerRepository.findIdByEmail(customer.getEmail())).willReturn(Optional.of(1L));
+        given(likeStore.isEnabled()).willReturn(true);
+        given(likeStore.getLikedStates(eq(1L), anyList())).willReturn(Map.of(cached.getRecipeUuid(), true));
+        given(likeRepository.findLikedRecipeUuids(1L, uncached)).willReturn(List.of(likedInDb.getRecipeUuid()));
+
+        // when
+        RecipeCursorResponse result = recipeService.getRecipes(cond, customer.getEmail());
+
+        // then
+        assertThat(result.getContent()).extracting(SimpleRecipeDto::getLikedByMe).containsExactly(true, true, false);
+        then(likeRepository).should(times(1)).findLikedRecipeUuids(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 좋아요 여부를 조회하지 않는다")
+    void get_recipes_by_item_skips_liked_by_me_for_anonymous() {
+        // given
+        UUID itemUuid = UUID.randomUUID();
+        given(itemRepository.findIdByUuid(itemUuid)).willReturn(Optional.of(1L));
+        given(recipeRepository.findRecipeIdsUseItem(1L, null, 6)).willReturn(List.of(10L));
+        given(recipeRepository.findSimpleRecipesByIdsOrderByIdDesc(List.of(10L)))
+                .willReturn(List.of(RecipeFixture.createSimpleRecipeDto()));
+
+        // when
+        ItemRecipeCursorResponse result = recipeService.getRecipesByItem(itemUuid, null, 5, null);
+
+        // then
+        assertThat(result.getContent().get(0).getLikedByMe()).isNull();
+        then(likeRepository).should(never()).findLikedRecipeUuids(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("역색인이 준비되지 않았으면 DB 키셋 조회로 페이지와 개수를 구한다")
+    void get_recipes_by_item_from_db_when_index_not_ready() {
         UUID itemUuid = UUID.randomUUID();
         Long itemId = 1L;
+        SimpleRecipeDto first = RecipeFixture.createSimpleRecipeDto();
+        SimpleRecipeDto second = RecipeFixture.createSimpleRecipeDto();
 
         // given
-        Pageable pageable = PageRequest.of(0, 5);
-        Page<SimpleRecipeDto> page = new PageImpl<>(List.of(
-                RecipeFixture.createSimpleRecipeDto()
-        ));
+        given(itemRepository.findIdByUuid(itemUuid)).willReturn(Optional.of(itemId));
+        given(recipeRepository.findRecipeIdsUseItem(itemId, null, 3)).willReturn(List.of(30L, 20L, 10L));
+        given(recipeRepository.countRecipeUseItem(itemId)).willReturn(3L);
+        given(recipeRepository.findSimpleRecipesByIdsOrderByIdDesc(List.of(30L, 20L))).willReturn(List.of(first, second));
+
+        // when
+        ItemRecipeCursorResponse result = recipeService.getRecipesByItem(itemUuid, null, 2, null);
 
+        // then
+        assertThat(result.getContent()).containsExactly(first, second);
+        assertThat(result.getNextUuid()).isEqualTo(second.getRecipeUuid());
+        assertThat(result.getTotalCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("페이지 마지막 레시피가 정보 조회 전에 삭제되었으면 삭제된 행의 UUID 를 다음 커서로 사용한다")
+    void get_recipes_by_item_cursor_uses_last_page_id() {
+        UUID itemUuid = UUID.randomUUID();
+        UUID deletedUuid = UUID.randomUUID();
+        Long itemId = 1L;
+        SimpleRecipeDto first = RecipeFixture.createSimpleRecipeDto();
+
+        // given
         given(itemRepository.findIdByUuid(itemUuid)).willReturn(Optional.of(itemId));
-        given(recipeRepository.findRecipeUseItem(itemId, pageable)).willReturn(page);
+        given(recipeRepository.findRecipeIdsUseItem(itemId, null, 3)).willReturn(List.of(30L, 20L, 10L));
+        given(recipeRepository.countRecipeUseItem(itemId)).willReturn(3L);
+        given(recipeRepository.findSimpleRecipesByIdsOrderByIdDesc(List.of(30L, 20L))).willReturn(List.of(first));
+        given(recipeRepository.findUuidByIdWithDeleted(20L)).willReturn(Optional.of(deletedUuid));
 
         // when
-        Page<SimpleRecipeDto> result = recipeService.getRecipesByItem(itemUuid, pageable);
+        ItemRecipeCursorResponse result = recipeService.getRecipesByItem(itemUuid, null, 2, null);
 
         // then
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getRecipeServings()).isEqualTo(1);
+        assertThat(result.getContent()).containsExactly(first);
+        assertThat(result.getNextUuid()).isEqualTo(deletedUuid);
+    }
+
+    @Test
+    @DisplayName("역색인이 준비되었으면 커서 이후 레시피 ID 와 개수를 메모리에서 구하고 DB 는 정보만 조회한다")
+    void get_recipes_by_item_from_index() {
+        UUID itemUuid = UUID.randomUUID();
+        UUID cursor = UUID.randomUUID();
+        Long itemId = 1L;
+        SimpleRecipeDto recipe = RecipeFixture.createSimpleRecipeDto();
+
+        // given
+        given(itemRepository.findIdByUuid(itemUuid)).willReturn(Optional.of(itemId));
+        given(recipeRepository.findIdByUuidWithDeleted(cursor)).willReturn(Optional.of(30L));
+        given(itemRecipeIndex.isReady()).willReturn(true);
+        given(itemRecipeIndex.findRecipeIds(itemId, 30L, 3)).willReturn(List.of(20L));
+        given(itemRecipeIndex.count(itemId)).willReturn(3);
+        given(recipeRepository.findSimpleRecipesByIdsOrderByIdDesc(List.of(20L))).willReturn(List.of(recipe));
+
+        // when
+        ItemRecipeCursorResponse result = recipeService.getRecipesByItem(itemUuid, cursor, 2, null);
+
+        // then
+        assertThat(result.getContent()).containsExactly(recipe);
+        assertThat(result.getNextUuid()).isNull();
+        assertThat(result.getTotalCount()).isEqualTo(3L);
+        then(recipeRepository).should(never()).findRecipeIdsUseItem(any(), any(), anyInt());
+        then(recipeRepository).should(never()).countRecipeUseItem(any());
     }
 
     @Test
@@ -222,7 +384,7 @@ class RecipeServiceTest {
         MessageResponse response = recipeService.updateRecipe(recipe.getUuid(), request, customer.getEmail());
 
         // then
-        then(cacheRedisTemplate).should(times(1)).delete(recipeCacheKey);
+        then(nearCache).should(times(1)).evict(recipeCacheKey);
         assertThat(response.getMessage()).isEqualTo("레시피 수정 완료");
     }
 
@@ -242,7 +404,7 @@ class RecipeServiceTest {
         // then
         then(recipeRepository).should().delete(recipe);
 
-        then(cacheRedisTemplate).should(times(1)).delete(recipeCacheKey);
+        then(nearCache).should(times(1)).evict(recipeCacheKey);
         assertThat(response.getMessage()).isEqualTo("삭제 성공");
     }
 
@@ -274,6 +436,7 @@ class RecipeServiceTest {
 
         // then
         then(likeRepository).should().save(any());
+        then(recipeMetaService).should(times(1)).asyncIncreaseLikeCnt(recipe.getRecipeMeta().getId());
         assertThat(response.getMessage()).isEqualTo("좋아요 등록");
     }
 
@@ -292,52 +455,199 @@ class RecipeServiceTest {
 
         // then
         then(likeRepository).should().delete(like);
+        then(recipeMetaService).should(times(1)).asyncDecreaseLikeCnt(recipe.getRecipeMeta().getId());
         assertThat(response.getMessage()).isEqualTo("좋아요 취소");
     }
 
+    @Test
+    @DisplayName("Redis 카운터 모드에서는 좋아요를 Redis 에서 토글하고 DB 에 바로 쓰지 않는다")
+    void toggle_like_by_redis() {
+        // given
+        given(likeStore.isEnabled()).willReturn(true);
+        given(customerRepository.findByEmail(customer.getEmail())).willReturn(Optional.of(customer));
+        given(likeStore.toggle(eq(recipe.getUuid()), any(), any())).willReturn(true);
+        given(messageUtil.get(MessageCode.DO_LIKE)).willReturn("좋아요 등록");
+
+        // when
+        MessageResponse response = recipeService.toggleLike(recipe.getUuid(), customer.getEmail());
+
+        // then
+        assertThat(response.getMessage()).isEqualTo("좋아요 등록");
+        then(likeRepository).should(never()).save(any());
+        then(recipeMetaService).should(never()).asyncIncreaseLikeCnt(any());
+        then(recipeRankingStore).should().record(recipe.getUuid(), RecipeRankingMetric.LIKE, 1);
+    }
+
+    @Test
+    @DisplayName("레시피 랭킹 조회 - 상세 캐시에 있는 레시피는 캐시로, 없는 레시피만 DB 한 번으로 채운다")
+    void get_recipe_rankings_hydrates_from_cache_and_db() {
+        // given
+        UUID cachedUuid = UUID.randomUUID();
+        UUID missingUuid = UUID.randomUUID();
+        UUID nextUuid = UUID.randomUUID();
+        RecipeDto cachedRecipe = RecipeFixture.createRecipeDto(cachedUuid);
+        SimpleRecipeDto loadedRecipe = new SimpleRecipeDto(missingUuid, "떡볶이", "설명", null, "작성자", 30, 2, 0L, 0L, 0L);
+
+        given(recipeRankingStore.isEnabled()).willReturn(true);
+        given(recipeRankingStore.getRange(RecipeRankingPeriod.TRENDING, RecipeRankingMetric.VIEW, 10, 3)).willReturn(List.of(
+                new RecipeRankingStore.Entry(cachedUuid, 30.0),
+                new RecipeRankingStore.Entry(missingUuid, 20.0),
+                new RecipeRankingStore.Entry(nextUuid, 10.0)));
+        given(nearCache.getAll(List.of(RedisKeyHelper.getRecipeKey(cachedUuid), RedisKeyHelper.getRecipeKey(missingUuid))))
+                .willReturn(Map.of(RedisKeyHelper.getRecipeKey(cachedUuid), cachedRecipe));
+        given(recipeRepository.findSimpleRecipesByUuids(List.of(missingUuid))).willReturn(List.of(loadedRecipe));
+
+        // when
+        RecipeRankingResponse response = recipeService.getRecipeRankings(RecipeRankingPeriod.TRENDING, RecipeRankingMetric.VIEW, 10L, 2);
+
+        // then
+        assertThat(response.getContent())
+                .extracting(RecipeRankingDto::getRank, RecipeRankingDto::getRecipeUuid, RecipeRankingDto::getRecipeTitle)
+                .containsExactly(
+                        tuple(11L, cachedUuid, cachedRecipe.getRecipeTitle()),
+                        tuple(12L, missingUuid, "떡볶이"));
+        assertThat(response.getNextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("레시피 랭킹 조회 실패 - 랭킹 비활성화")
+    void get_recipe_rankings_fail_disabled() {
+        // when & then
+        assertThatThrownBy(() -> recipeService.getRecipeRankings(RecipeRankingPeriod.DAILY, RecipeRankingMetric.LIKE, null, 10))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.RECIPE_RANKING_DISABLED.getMessage());
+        then(recipeRankingStore).should(never()).getRange(any(), any(), anyLong(), anyInt());
+    }
+
     @Test
     @DisplayName("레시피 리뷰 목록 조회 성공")
     void get_recipe_reviews_success() {
         // given
-        Pageable pageable = PageRequest.of(0, 5);
-        Page<Review> parentPage = new PageImpl<>(List.of(review));
-        List<Review> childReviews = List.of();
-        Map<Long, List<Review>> childMap = Map.of(review.getId(), childReviews);
-        Map<Long, Long> countMap = Map.of(review.getId(), 0L);
+        ReviewRow parent = reviewRow(review.getId(), review.getReviewContent(), "작성자", 0);
 
-        given(recipeRepository.findByUuid(recipe.getUuid())).willReturn(Optional.of(recipe));
-        given(reviewRepository.findParentReviews(recipe, pageable)).willReturn(parentPage);
-        given(reviewRepository.findTop3ChildReviews(List.of(review.getId()), PageRequest.of(0, 3))).willReturn(childReviews);
-        given(reviewRepository.countByParentIds(List.of(review.getId()))).willReturn(countMap);
+        given(recipeRepository.findByIdWithMeta(recipe.getUuid())).willReturn(Optional.of(recipe));
+        given(reviewRepository.findReviews(recipe.getId(), null, null, 6)).willReturn(List.of(parent));
+        given(reviewRepository.findTopReplies(List.of(review.getId()), 3)).willReturn(List.of());
 
         // when
-        Page<ReviewResponse> result = recipeService.getRecipeReviews(recipe.getUuid(), pageable);
+        ReviewCursorResponse result = recipeService.getRecipeReviews(recipe.getUuid(), null, 5);
 
         // then
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getContent()).isEqualTo(review.getReviewContent());
+        assertThat(result.getContent().get(0).getChildReviews()).isEmpty();
+        assertThat(result.getContent().get(0).isHasMoreChildReviews()).isFalse();
+        assertThat(result.getNextUuid()).isNull();
+        assertThat(result.getTotalCount()).isEqualTo(recipe.getRecipeMeta().getReviewCnt());
+    }
+
+    @Test
+    @DisplayName("레시피 댓글 조회 - 대댓글 미리보기는 한 번의 조회로, 더보기 여부는 reply_cnt 로 채움")
+    void get_recipe_reviews_with_replies() {
+        // given
+        ReviewRow parent = reviewRow(review.getId(), review.getReviewContent(), "작성자", 5);
+        List<ReviewReplyRow> replies = List.of(
+                replyRow(review.getId(), "첫 대댓글", "작성자1"),
+                replyRow(review.getId(), "두번째 대댓글", "작성자2"),
+                replyRow(review.getId(), "세번째 대댓글", "작성자3"));
+
+        given(recipeRepository.findByIdWithMeta(recipe.getUuid())).willReturn(Optional.of(recipe));
+        given(reviewRepository.findReviews(recipe.getId(), null, null, 6)).willReturn(List.of(parent));
+        given(reviewRepository.findTopReplies(List.of(review.getId()), 3)).willReturn(replies);
+
+        // when
+        ReviewCursorResponse result = recipeService.getRecipeReviews(recipe.getUuid(), null, 5);
+
+        // then
+        ReviewResponse response = result.getContent().get(0);
+        assertThat(response.getChildReviews()).extracting(ChildReviewResponse::getContent)
+                .containsExactly("첫 대댓글", "두번째 대댓글", "세번째 대댓글");
+        assertThat(response.getChildReviews()).extracting(ChildReviewResponse::getWriter)
+                .containsExactly("작성자1", "작성자2", "작성자3");
+        assertThat(response.getReplyCount()).isEqualTo(5);
+        assertThat(response.isHasMoreChildReviews()).isTrue();
+    }
+
+    @Test
+    @DisplayName("레시피 댓글 조회 - 커서 다음부터 읽고, 한 건 더 있으면 마지막 댓글을 다음 커서로 반환")
+    void get_recipe_reviews_with_cursor() {
+        // given
+        UUID cursorUuid = UUID.randomUUID();
+        ReviewCursor cursor = new ReviewCursor(9L, recipe.getId(), null, LocalDateTime.now());
+        ReviewRow first = reviewRow(10L, "첫 댓글", "작성자1", 0);
+        ReviewRow second = reviewRow(11L, "두번째 댓글", "작성자2", 0);
+        ReviewRow extra = reviewRow(12L, "세번째 댓글", "작성자3", 0);
+
+        given(recipeRepository.findByIdWithMeta(recipe.getUuid())).willReturn(Optional.of(recipe));
+        given(reviewRepository.findCursorByUuid(cursorUuid)).willReturn(Optional.of(cursor));
+        given(reviewRepository.findReviews(recipe.getId(), null, cursor, 3)).willReturn(List.of(first, second, extra));
+        given(reviewRepository.findTopReplies(List.of(10L, 11L), 3)).willReturn(List.of());
+
+        // when
+        ReviewCursorResponse result = recipeService.getRecipeReviews(recipe.getUuid(), cursorUuid, 2);
+
+        // then
+        assertThat(result.getContent()).extracting(ReviewResponse::getContent).containsExactly("첫 댓글", "두번째 댓글");
+        assertThat(result.getNextUuid()).isEqualTo(second.getReviewUuid());
+        assertThat(result.getTotalCount()).isEqualTo(recipe.getRecipeMeta().getReviewCnt());
+    }
+
+    @Test
+    @DisplayName("레시피 댓글 조회 실패 - 커서가 대댓글")
+    void get_recipe_reviews_fail_cursor_is_reply() {
+        // given
+        UUID replyUuid = UUID.randomUUID();
+        ReviewCursor reply = new ReviewCursor(20L, recipe.getId(), review.getId(), LocalDateTime.now());
+        given(recipeRepository.findByIdWithMeta(recipe.getUuid())).willReturn(Optional.of(recipe));
+        given(reviewRepository.findCursorByUuid(replyUuid)).willReturn(Optional.of(reply));
+
+        // when & then
+        assertThatThrownBy(() -> recipeService.getRecipeReviews(recipe.getUuid(), replyUuid, 5))
+                .isInstanceOf(AppException.class)
+                .hasMessage(ErrorCode.INVALID_REVIEW.getMessage());
+        then(reviewRepository).should(never()).findReviews(any(), any(), any(), anyInt());
+    }
+
+    private static ReviewRow reviewRow(Long reviewId, String content, String writer, long replyCnt) {
+        ReviewRow row = new ReviewRow();
+        ReflectionTestUtils.setField(row, "reviewId", reviewId);
+        ReflectionTestUtils.setField(row, "reviewUuid", UUID.randomUUID());
+        ReflectionTestUtils.setField(row, "reviewContent", content);
+        ReflectionTestUtils.setField(row, "writer", writer);
+        ReflectionTestUtils.setField(row, "replyCnt", replyCnt);
+        return row;
+    }
+
+    private static ReviewReplyRow replyRow(Long parentId, String content, String writer) {
+        ReviewReplyRow row = new ReviewReplyRow();
+        ReflectionTestUtils.setField(row, "parentId", parentId);
+        ReflectionTestUtils.setField(row, "reviewUuid", UUID.randomUUID());
+        ReflectionTestUtils.setField(row, "reviewContent", content);
+        ReflectionTestUtils.setField(row, "writer", writer);
+        return row;
     }
 
     @Test
     @DisplayName("대댓글 조회 성공")
     void get_child_reviews_success() {
         // given
-        Pageable pageable = PageRequest.of(0, 5);
         Review parent = ReviewFixture.createParentReviewEntity(recipe, customer);
-        Review child1 = ReviewFixture.createChildReviewEntity(recipe, customer, parent);
-        Page<Review> children = new PageImpl<>(List.of(child1));
+        ReflectionTestUtils.setField(parent, "replyCnt", 1L);
+        ReviewRow child = reviewRow(2L, "대댓글 내용", "답글작성자", 0);
 
         given(recipeRepository.findByUuid(recipe.getUuid())).willReturn(Optional.of(recipe));
         given(reviewRepository.findByUuid(parent.getUuid())).willReturn(Optional.of(parent));
-        given(reviewRepository.findByParentId(parent.getId(), pageable)).willReturn(children);
+        given(reviewRepository.findReviews(recipe.getId(), parent.getId(), null, 6)).willReturn(List.of(child));
 
         // when
-        Page<ChildReviewResponse> result = recipeService.getChildReviews(
-                recipe.getUuid(), parent.getUuid(), pageable);
+        ChildReviewCursorResponse result = recipeService.getChildReviews(
+                recipe.getUuid(), parent.getUuid(), null, 5);
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).getContent()).isEqualTo(child1.getReviewContent());
+        assertThat(result.getContent().get(0).getContent()).isEqualTo("대댓글 내용");
+        assertThat(result.getNextUuid()).isNull();
+        assertThat(result.getTotalCount()).isEqualTo(1L);
     }
 
     @Test
@@ -351,7 +661,7 @@ class RecipeServiceTest {
 
         // when & then
         assertThatThrownBy(() -> recipeService.getChildReviews(
-                recipe.getUuid(), invalidParent.getUuid(), PageRequest.of(0, 5)))
+                recipe.getUuid(), invalidParent.getUuid(), null, 5))
                 .isInstanceOf(AppException.class)
                 .hasMessage(ErrorCode.INVALID_REVIEW.getMessage());
     }
@@ -370,9 +680,32 @@ class RecipeServiceTest {
 
         // then
         then(reviewRepository).should().save(any(Review.class));
+        then(eventPublisher).should().publishEvent(ReviewCountEvent.created(recipe.getUuid(), recipe.getRecipeMeta().getId(), null));
+        then(recipeRankingStore).shouldHaveNoInteractions();
+        assertThat(recipe.getReviewList()).isEmpty();
         assertThat(response.getMessage()).isEqualTo("리뷰 등록");
     }
 
+    @Test
+    @DisplayName("대댓글 작성 성공 - 부모 댓글 ID 를 담은 리뷰 수 증가 이벤트 발행")
+    void create_reply_success_increments_reply_count() {
+        // given
+        ReviewWriteRequest request = ReviewWriteRequest.builder()
+                .reviewUuid(review.getUuid())
+                .reviewContent("대댓글 내용")
+                .build();
+        given(customerRepository.findByEmail(customer.getEmail())).willReturn(Optional.of(customer));
+        given(recipeRepository.findByIdWithMeta(recipe.getUuid())).willReturn(Optional.of(recipe));
+        given(reviewRepository.findByUuid(review.getUuid())).willReturn(Optional.of(review));
+        given(messageUtil.get(MessageCode.RECIPE_REVIEW_ADDED)).willReturn("리뷰 등록");
+
+        // when
+        recipeService.createReview(customer.getEmail(), recipe.getUuid(), request);
+
+        // then
+        then(eventPublisher).should().publishEvent(ReviewCountEvent.created(recipe.getUuid(), recipe.getRecipeMeta().getId(), review.getId()));
+    }
+
     @Test
     @DisplayName("리뷰 수정 성공")
     void update_review_success() {
@@ -423,7 +756,125 @@ class RecipeServiceTest {
 
         // then
         then(reviewRepository).should().delete(review);
+        then(eventPublisher).should().publishEvent(ReviewCountEvent.deleted(recipe.getUuid(), recipe.getRecipeMeta().getId(), review.getParentId()));
         assertThat(response.getMessage()).isEqualTo("리뷰 삭제");
     }
 
+    @Test
+    @DisplayName("조회수 증가는 DB 를 바로 갱신하지 않고 버퍼에 모은다")
+    void increase_recipe_view_count_buffers_delta() {
+        // given
+        given(recipeRepository.findRecipeMetaIdByRecipeUuid(recipe.getUuid())).willReturn(1L);
+
+        // when
+        recipeService.increaseRecipeViewCount(recipe.getUuid(), VIEWER_ID);
+
+        // then
+        then(viewCountBuffer).should().increment(1L);
+        then(recipeMetaService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("캐시된 상세의 recipeMetaId 를 넘기면 recipe_meta_id 를 조회하지 않고 버퍼에 모은다")
+    void increase_recipe_view_count_with_known_meta_id_skips_lookup() {
+        // when
+        recipeService.increaseRecipeViewCount(recipe.getUuid(), 1L, VIEWER_ID);
+
+        // then
+        then(viewCountBuffer).should().increment(1L);
+        then(recipeRepository).should(never()).findRecipeMetaIdByRecipeUuid(any());
+    }
+
+    @Test
+    @DisplayName("Redis 카운터 사용 시 조회수 증가는 DB 를 거치지 않고 Redis 에 더한다")
+    void increase_recipe_view_count_uses_redis_counter() {
+        // given
+        given(recipeCounterStore.isEnabled()).willReturn(true);
+
+        // when
+        recipeService.increaseRecipeViewCount(recipe.getUuid(), VIEWER_ID);
+
+        // then
+        then(recipeCounterStore).should().increment(recipe.getUuid(), RecipeCounterStore.Field.VIEW, 1);
+        then(recipeRepository).should(never()).findRecipeMetaIdByRecipeUuid(any());
+        then(viewCountBuffer).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("레시피 통계 조회 시 Redis 의 미반영 증가분을 더한다")
+    void get_recipe_meta_overlays_pending_counts() {
+        // given
+        given(recipeRepository.findByUuid(recipe.getUuid())).willReturn(Optional.of(recipe));
+        given(recipeMetaRepository.findRecipeMetaDto(recipe.getRecipeMeta().getId()))
+                .willReturn(new RecipeMetaDto(100L, 3L, 10L));
+        given(recipeCounterStore.isEnabled()).willReturn(true);
+        given(recipeCounterStore.getPending(recipe.getUuid())).willReturn(new RecipeCounterStore.Pending(5, -1));
+
+        // when
+        RecipeMetaDto result = recipeService.getRecipeMeta(recipe.getUuid());
+
+        // then
+        assertThat(result.getViewCnt()).isEqualTo(105L);
+        assertThat(result.getLikeCnt()).isEqualTo(9L);
+        assertThat(result.getReviewCnt()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("레시피 목록은 DB 값으로 커서를 만들고 응답 수치에만 미반영 증가분을 더한다")
+    void get_recipes_overlays_pending_counts() {
+        // given
+        SimpleRecipeDto first = SimpleRecipeDto.builder().recipeUuid(UUID.randomUUID()).recipeView(10L).likeCnt(1L).reviewCnt(0L).build();
+        SimpleRecipeDto last = SimpleRecipeDto.builder().recipeUuid(UUID.randomUUID()).recipeView(5L).likeCnt(1L).reviewCnt(0L).build();
+        RecipeListCond cond = new RecipeListCond();
+        cond.setSize(1);
+
+        given(recipeRepository.findRecipeList(cond)).willReturn(List.of(first, last));
+        given(recipeCounterStore.isEnabled()).willReturn(true);
+        given(recipeCounterStore.getPending(List.of(first.getRecipeUuid())))
+                .willReturn(Map.of(first.getRecipeUuid(), new RecipeCounterStore.Pending(7, 2)));
+
+        // when
+        RecipeCursorResponse result = recipeService.getRecipes(cond, null);
+
+        // then
+        assertThat(result.getContent()).singleElement()
+                .extracting(SimpleRecipeDto::getRecipeView, SimpleRecipeDto::getLikeCnt, SimpleRecipeDto::getReviewCnt)
+                .containsExactly(17L, 3L, 0L);
+        assertThat(result.getNextViewCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 목록 캐시에서 가져오고 DB 를 조회하지 않는다")
+    void get_recipes_first_page_from_list_cache() {
+        // given
+        SimpleRecipeDto recipe = RecipeFixture.createSimpleRecipeDto();
+        RecipeListCond cond = new RecipeListCond();
+
+        given(recipeListCache.isCacheable(cond)).willReturn(true);
+        given(recipeListCache.getOrLoad(eq(cond), any()))
+                .willReturn(RecipeCursorResponse.of(List.of(recipe), null, null, null));
+
+        // when
+        RecipeCursorResponse result = recipeService.getRecipes(cond, null);
+
+        // then
+        assertThat(result.getContent()).containsExactly(recipe);
+        then(recipeRepository).should(never()).findRecipeList(any());
+    }
+
+    @Test
+    @DisplayName("순 조회자 모드에서 window 내 재조회는 조회수에 넣지 않는다")
+    void increase_recipe_view_count_skips_repeated_viewer() {
+        // given
+        given(uniqueViewFilter.isEnabled()).willReturn(true);
+        given(uniqueViewFilter.isFirstView(recipe.getUuid(), VIEWER_ID)).willReturn(false);
+
+        // when
+        recipeService.increaseRecipeViewCount(recipe.getUuid(), VIEWER_ID);
+
+        // then
+        then(recipeRepository).should(never()).findRecipeMetaIdByRecipeUuid(any());
+        then(viewCountBuffer).shouldHaveNoInteractions();
+        then(recipeCounterStore).should(never()).increment(any(), any(), anyLong());
+    }
 }
@@ -0,0 +1,177 @@
+package store.myproject.onlineshop.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import store.myproject.onlineshop.domain.customer.Address;
+import store.myproject.onlineshop.domain.customer.Customer;
+import store.myproject.onlineshop.domain.customer.CustomerRole;
+import store.myproject.onlineshop.domain.customer.Gender;
+import store.myproject.onlineshop.domain.customer.Level;
+import store.myproject.onlineshop.domain.membership.MemberShip;
+import store.myproject.onlineshop.domain.recipe.Recipe;
+import store.myproject.onlineshop.domain.review.Review;
+import store.myproject.onlineshop.dto.common.MessageResponse;
+import store.myproject.onlineshop.dto.review.ReviewWriteRequest;
+import store.myproject.onlineshop.fixture.RecipeFixture;
+import store.myproject.onlineshop.global.utils.UUIDGenerator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 작성/삭제 지연 시간 - 레시피의 기존 댓글 수(10 ~ 100,000)에 따라 비교
+ * - 댓글 작성/삭제가 recipe.reviewList 를 초기화하지 않으므로 기존 댓글 수와 관계없이 읽는 엔티티 수와 시간이 같아야 합니다.
+ * - application-test.yml 이 정상적으로 설정(레디스 정보, S3 정보 등) 되어 있어야 하며, -Dreview.write.bench=true 일 때만 실행합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "review.write.bench", matches = "true")
+class ReviewWriteBenchmarkTest {
+
+    private static final int[] EXISTING_REVIEWS = {10, 1_000, 10_000, 100_000};
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private String email;
+    private UUID recipeUuid;
+    private Long recipeId;
+    private Long customerId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        email = "bench-" + UUID.randomUUID() + "@example.com";
+        transactionTemplate.executeWithoutResult(status -> {
+            MemberShip memberShip = MemberShip.builder()
+                    .uuid(UUID.randomUUID())
+                    .level(Level.BRONZE)
+                    .baseline(BigDecimal.ZERO)
+                    .discountRate(BigDecimal.valueOf(0.01))
+                    .build();
+            em.persist(memberShip);
+
+            Customer customer = Customer.builder()
+                    .email(email)
+                    .password("testPassword123!")
+                    .userName("홍길동")
+                    .nickName("bench")
+                    .gender(Gender.MALE)
+                    .tel("010-1234-5678")
+                    .address(Address.builder()
+                            .city("서울")
+                            .street("테스트로")
+                            .detail("123")
+                            .zipcode("04524")
+                            .build())
+                    .customerRole(CustomerRole.ROLE_USER)
+                    .monthlyPurchaseAmount(BigDecimal.ZERO)
+                    .memberShip(memberShip)
+                    .build();
+            em.persist(customer);
+
+            Recipe recipe = RecipeFixture.createRecipe(customer);
+            em.persist(recipe);
+
+            customerId = customer.getId();
+            recipeId = recipe.getId();
+            recipeUuid = recipe.getUuid();
+        });
+    }
+
+    @Test
+    @DisplayName("기존 댓글 수가 늘어도 댓글 작성/삭제에서 읽는 엔티티 수가 같고 컬렉션을 초기화하지 않는다")
+    void review_write_is_flat_regardless_of_existing_reviews() {
+        List<Long> entityLoadsPerWrite = new ArrayList<>();
+        int seeded = 0;
+
+        for (int existing : EXISTING_REVIEWS) {
+            seedReviews(existing - seeded);
+            seeded = existing;
+
+            for (int i = 0; i < WARM_UP; i++) {
+                writeAndDelete();
+            }
+
+            statistics.clear();
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                writeAndDelete();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            System.out.printf("[review write] existing=%d, create+delete: %.1fus/op, entity loads/op=%.1f, collection loads=%d%n",
+                    existing, elapsed / 1_000.0 / ITERATIONS,
+                    (double) statistics.getEntityLoadCount() / ITERATIONS, statistics.getCollectionLoadCount());
+
+            assertThat(statistics.getCollectionLoadCount()).as("existing=%d", existing).isZero();
+            entityLoadsPerWrite.add(statistics.getEntityLoadCount() / ITERATIONS);
+        }
+
+        assertThat(entityLoadsPerWrite).containsOnly(entityLoadsPerWrite.get(0));
+    }
+
+    private void writeAndDelete() {
+        ReviewWriteRequest request = ReviewWriteRequest.builder()
+                .reviewContent("벤치마크 댓글")
+                .build();
+        MessageResponse created = recipeService.createReview(email, recipeUuid, request);
+        recipeService.deleteReview(email, recipeUuid, created.getUuid());
+    }
+
+    /**
+     * 레시피에 댓글을 count 개 추가합니다. (작성자/레시피는 참조만 사용)
+     */
+    private void seedReviews(int count) {
+        for (int offset = 0; offset < count; offset += SEED_BATCH_SIZE) {
+            int batch = Math.min(SEED_BATCH_SIZE, count - offset);
+            transactionTemplate.executeWithoutResult(status -> {
+                Recipe recipe = em.getReference(Recipe.class, recipeId);
+                Customer customer = em.getReference(Customer.class, customerId);
+                for (int i = 0; i < batch; i++) {
+                    em.persist(Review.builder()
+                            .uuid(UUIDGenerator.generateUUIDv7())
+                            .recipe(recipe)
+                            .customer(customer)
+                            .reviewContent("기존 댓글")
+                            .build());
+                }
+                em.flush();
+                em.clear();
+            });
+        }
+    }
+}